@@ -0,0 +1,433 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.benchmarks;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.codecs.Codec;
+
+import io.github.cbartosiak.bson.codecs.jsr310.dayofweek.DayOfWeekAsInt32Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.dayofweek.DayOfWeekAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.duration.DurationAsDecimal128Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.duration.DurationAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.duration.DurationAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.EpochMillisAsBinaryCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantAsDateTimeCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantAsDecimal128Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantAsInt64Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantAsSortableStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantDoubleMapAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantListAsBinaryCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantLongMapAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantSequenceAsBinaryCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdate.LocalDateAsDateTimeCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdate.LocalDateAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdate.LocalDateAsInt32Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdate.LocalDateAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdate.LocalDateListAsBinaryCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdatetime.LocalDateTimeAsDateTimeCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdatetime.LocalDateTimeAsDecimal128Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdatetime.LocalDateTimeAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdatetime.LocalDateTimeAsFlatDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdatetime.LocalDateTimeAsInt64Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdatetime.LocalDateTimeAsSortableStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdatetime.LocalDateTimeAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localtime.LocalTimeAsDateTimeCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localtime.LocalTimeAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localtime.LocalTimeAsInt64Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.localtime.LocalTimeAsSortableStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localtime.LocalTimeAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localtime.LocalTimeListAsBinaryCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.month.MonthAsInt32Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.month.MonthAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.monthday.MonthDayAsDecimal128Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.monthday.MonthDayAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.monthday.MonthDayAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.offsetdatetime.OffsetDateTimeAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.offsetdatetime.OffsetDateTimeAsFlatDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.offsetdatetime.OffsetDateTimeAsInt64Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.offsetdatetime.OffsetDateTimeAsSortableStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.offsetdatetime.OffsetDateTimeAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.offsettime.OffsetTimeAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.offsettime.OffsetTimeAsFlatDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.offsettime.OffsetTimeAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.period.PeriodAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.period.PeriodAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.year.YearAsInt32Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.yearmonth.YearMonthAsDecimal128Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.yearmonth.YearMonthAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.yearmonth.YearMonthAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.zoneddatetime.ZonedDateTimeAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.zoneddatetime.ZonedDateTimeAsFlatDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.zoneddatetime.ZonedDateTimeAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.zoneid.ZoneIdAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.zoneoffset.ZoneOffsetAsInt32Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.zoneoffset.ZoneOffsetAsStringCodec;
+
+/**
+ * Pairs every benchmarked codec with a representative value.
+ * <p>
+ * The constant names are the simple names of the codec classes so that
+ * they can be passed directly as the {@code codec} benchmark parameter,
+ * for example {@code -p codec=ZonedDateTimeAsDocumentCodec}.
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public enum CodecFixture {
+
+    DayOfWeekAsInt32Codec(
+            new DayOfWeekAsInt32Codec(),
+            DayOfWeek.TUESDAY
+    ),
+    DayOfWeekAsStringCodec(
+            new DayOfWeekAsStringCodec(),
+            DayOfWeek.TUESDAY
+    ),
+    DurationAsDecimal128Codec(
+            new DurationAsDecimal128Codec(),
+            Values.DURATION
+    ),
+    DurationAsDocumentCodec(
+            new DurationAsDocumentCodec(),
+            Values.DURATION
+    ),
+    DurationAsStringCodec(
+            new DurationAsStringCodec(),
+            Values.DURATION
+    ),
+    EpochMillisAsBinaryCodec(
+            new EpochMillisAsBinaryCodec(),
+            Values.EPOCH_MILLIS
+    ),
+    InstantAsDateTimeCodec(
+            new InstantAsDateTimeCodec(),
+            Values.INSTANT
+    ),
+    InstantAsDecimal128Codec(
+            new InstantAsDecimal128Codec(),
+            Values.INSTANT
+    ),
+    InstantAsDocumentCodec(
+            new InstantAsDocumentCodec(),
+            Values.INSTANT
+    ),
+    InstantAsInt64Codec(
+            new InstantAsInt64Codec(),
+            Values.INSTANT
+    ),
+    InstantAsSortableStringCodec(
+            new InstantAsSortableStringCodec(),
+            Values.INSTANT
+    ),
+    InstantAsStringCodec(
+            new InstantAsStringCodec(),
+            Values.INSTANT
+    ),
+    InstantDoubleMapAsDocumentCodec(
+            new InstantDoubleMapAsDocumentCodec(),
+            Values.INSTANT_DOUBLES
+    ),
+    InstantListAsBinaryCodec(
+            new InstantListAsBinaryCodec(),
+            Values.INSTANTS
+    ),
+    InstantLongMapAsDocumentCodec(
+            new InstantLongMapAsDocumentCodec(),
+            Values.INSTANT_LONGS
+    ),
+    InstantSequenceAsBinaryCodec(
+            new InstantSequenceAsBinaryCodec(),
+            Values.INSTANTS
+    ),
+    LocalDateAsDateTimeCodec(
+            new LocalDateAsDateTimeCodec(),
+            Values.LOCAL_DATE
+    ),
+    LocalDateAsDocumentCodec(
+            new LocalDateAsDocumentCodec(),
+            Values.LOCAL_DATE
+    ),
+    LocalDateAsInt32Codec(
+            new LocalDateAsInt32Codec(),
+            Values.LOCAL_DATE
+    ),
+    LocalDateAsStringCodec(
+            new LocalDateAsStringCodec(),
+            Values.LOCAL_DATE
+    ),
+    LocalDateListAsBinaryCodec(
+            new LocalDateListAsBinaryCodec(),
+            Values.LOCAL_DATES
+    ),
+    LocalDateTimeAsDateTimeCodec(
+            new LocalDateTimeAsDateTimeCodec(),
+            Values.LOCAL_DATE_TIME
+    ),
+    LocalDateTimeAsDecimal128Codec(
+            new LocalDateTimeAsDecimal128Codec(),
+            Values.LOCAL_DATE_TIME
+    ),
+    LocalDateTimeAsDocumentCodec(
+            new LocalDateTimeAsDocumentCodec(),
+            Values.LOCAL_DATE_TIME
+    ),
+    LocalDateTimeAsFlatDocumentCodec(
+            new LocalDateTimeAsFlatDocumentCodec(),
+            Values.LOCAL_DATE_TIME
+    ),
+    LocalDateTimeAsInt64Codec(
+            new LocalDateTimeAsInt64Codec(),
+            Values.LOCAL_DATE_TIME
+    ),
+    LocalDateTimeAsSortableStringCodec(
+            new LocalDateTimeAsSortableStringCodec(),
+            Values.LOCAL_DATE_TIME
+    ),
+    LocalDateTimeAsStringCodec(
+            new LocalDateTimeAsStringCodec(),
+            Values.LOCAL_DATE_TIME
+    ),
+    LocalTimeAsDateTimeCodec(
+            new LocalTimeAsDateTimeCodec(),
+            Values.LOCAL_TIME
+    ),
+    LocalTimeAsDocumentCodec(
+            new LocalTimeAsDocumentCodec(),
+            Values.LOCAL_TIME
+    ),
+    LocalTimeAsInt64Codec(
+            new LocalTimeAsInt64Codec(),
+            Values.LOCAL_TIME
+    ),
+    LocalTimeAsSortableStringCodec(
+            new LocalTimeAsSortableStringCodec(),
+            Values.LOCAL_TIME
+    ),
+    LocalTimeAsStringCodec(
+            new LocalTimeAsStringCodec(),
+            Values.LOCAL_TIME
+    ),
+    LocalTimeListAsBinaryCodec(
+            new LocalTimeListAsBinaryCodec(),
+            Values.LOCAL_TIMES
+    ),
+    MonthAsInt32Codec(
+            new MonthAsInt32Codec(),
+            Month.JANUARY
+    ),
+    MonthAsStringCodec(
+            new MonthAsStringCodec(),
+            Month.JANUARY
+    ),
+    MonthDayAsDecimal128Codec(
+            new MonthDayAsDecimal128Codec(),
+            Values.MONTH_DAY
+    ),
+    MonthDayAsDocumentCodec(
+            new MonthDayAsDocumentCodec(),
+            Values.MONTH_DAY
+    ),
+    MonthDayAsStringCodec(
+            new MonthDayAsStringCodec(),
+            Values.MONTH_DAY
+    ),
+    OffsetDateTimeAsDocumentCodec(
+            new OffsetDateTimeAsDocumentCodec(),
+            Values.OFFSET_DATE_TIME
+    ),
+    OffsetDateTimeAsFlatDocumentCodec(
+            new OffsetDateTimeAsFlatDocumentCodec(),
+            Values.OFFSET_DATE_TIME
+    ),
+    OffsetDateTimeAsInt64Codec(
+            new OffsetDateTimeAsInt64Codec(),
+            Values.OFFSET_DATE_TIME
+    ),
+    OffsetDateTimeAsSortableStringCodec(
+            new OffsetDateTimeAsSortableStringCodec(),
+            Values.OFFSET_DATE_TIME
+    ),
+    OffsetDateTimeAsStringCodec(
+            new OffsetDateTimeAsStringCodec(),
+            Values.OFFSET_DATE_TIME
+    ),
+    OffsetTimeAsDocumentCodec(
+            new OffsetTimeAsDocumentCodec(),
+            Values.OFFSET_TIME
+    ),
+    OffsetTimeAsFlatDocumentCodec(
+            new OffsetTimeAsFlatDocumentCodec(),
+            Values.OFFSET_TIME
+    ),
+    OffsetTimeAsStringCodec(
+            new OffsetTimeAsStringCodec(),
+            Values.OFFSET_TIME
+    ),
+    PeriodAsDocumentCodec(
+            new PeriodAsDocumentCodec(),
+            Values.PERIOD
+    ),
+    PeriodAsStringCodec(
+            new PeriodAsStringCodec(),
+            Values.PERIOD
+    ),
+    YearAsInt32Codec(
+            new YearAsInt32Codec(),
+            Values.YEAR
+    ),
+    YearMonthAsDecimal128Codec(
+            new YearMonthAsDecimal128Codec(),
+            Values.YEAR_MONTH
+    ),
+    YearMonthAsDocumentCodec(
+            new YearMonthAsDocumentCodec(),
+            Values.YEAR_MONTH
+    ),
+    YearMonthAsStringCodec(
+            new YearMonthAsStringCodec(),
+            Values.YEAR_MONTH
+    ),
+    ZonedDateTimeAsDocumentCodec(
+            new ZonedDateTimeAsDocumentCodec(),
+            Values.ZONED_DATE_TIME
+    ),
+    ZonedDateTimeAsFlatDocumentCodec(
+            new ZonedDateTimeAsFlatDocumentCodec(),
+            Values.ZONED_DATE_TIME
+    ),
+    ZonedDateTimeAsStringCodec(
+            new ZonedDateTimeAsStringCodec(),
+            Values.ZONED_DATE_TIME
+    ),
+    ZoneIdAsStringCodec(
+            new ZoneIdAsStringCodec(),
+            Values.ZONE_ID
+    ),
+    ZoneOffsetAsInt32Codec(
+            new ZoneOffsetAsInt32Codec(),
+            Values.ZONE_OFFSET
+    ),
+    ZoneOffsetAsStringCodec(
+            new ZoneOffsetAsStringCodec(),
+            Values.ZONE_OFFSET
+    );
+
+    private final Codec<Object> codec;
+    private final Object        value;
+
+    CodecFixture(Codec<?> codec, Object value) {
+        this.codec = (Codec)codec;
+        this.value = value;
+    }
+
+    Codec<Object> getCodec() {
+        return codec;
+    }
+
+    Object getValue() {
+        return value;
+    }
+
+    private static final class Values {
+
+        static final ZoneId ZONE_ID = ZoneId.of("Europe/Warsaw");
+
+        static final LocalDate LOCAL_DATE = LocalDate.of(2018, 1, 2);
+
+        static final LocalTime LOCAL_TIME = LocalTime.of(
+                10, 15, 30, 123_456_789
+        );
+
+        static final LocalDateTime LOCAL_DATE_TIME = LocalDateTime.of(
+                LOCAL_DATE, LOCAL_TIME
+        );
+
+        static final ZonedDateTime ZONED_DATE_TIME = ZonedDateTime.of(
+                LOCAL_DATE_TIME, ZONE_ID
+        );
+
+        static final ZoneOffset ZONE_OFFSET = ZONED_DATE_TIME.getOffset();
+
+        static final OffsetDateTime OFFSET_DATE_TIME =
+                ZONED_DATE_TIME.toOffsetDateTime();
+
+        static final OffsetTime OFFSET_TIME =
+                OFFSET_DATE_TIME.toOffsetTime();
+
+        static final Instant INSTANT = ZONED_DATE_TIME.toInstant();
+
+        static final Duration DURATION = Duration.ofSeconds(
+                36_930L, 100_000_000
+        );
+
+        static final Period PERIOD = Period.of(1, 2, 3);
+
+        static final Year YEAR = Year.of(2018);
+
+        static final YearMonth YEAR_MONTH = YearMonth.of(2018, 1);
+
+        static final MonthDay MONTH_DAY = MonthDay.of(1, 2);
+
+        static final int LIST_SIZE = 1_000;
+
+        static final List<Instant> INSTANTS = new ArrayList<>(LIST_SIZE);
+
+        static final long[] EPOCH_MILLIS = new long[LIST_SIZE];
+
+        static final Map<Instant, Double> INSTANT_DOUBLES =
+                new LinkedHashMap<>();
+
+        static final Map<Instant, Long> INSTANT_LONGS = new LinkedHashMap<>();
+
+        static final List<LocalDate> LOCAL_DATES = new ArrayList<>(LIST_SIZE);
+
+        static final List<LocalTime> LOCAL_TIMES = new ArrayList<>(LIST_SIZE);
+
+        static {
+            for (int i = 0; i < LIST_SIZE; i++) {
+                INSTANTS.add(INSTANT.plusMillis(i * 250L));
+                EPOCH_MILLIS[i] = INSTANTS.get(i).toEpochMilli();
+                INSTANT_DOUBLES.put(INSTANTS.get(i), i * 0.25);
+                INSTANT_LONGS.put(INSTANTS.get(i), i * 250L);
+                LOCAL_DATES.add(LOCAL_DATE.plusDays(i));
+                LOCAL_TIMES.add(LOCAL_TIME.plusSeconds(i * 60L));
+            }
+        }
+
+        private Values() {}
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.benchmarks;
+
+import static java.nio.ByteBuffer.wrap;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Codec#decode} of every codec, reading a value from
+ * a single-field document: {@code { value: ... }}.
+ * <p>
+ * Allocation per operation is reported when run with {@code -prof gc}.
+ */
+@BenchmarkMode({ Throughput, AverageTime })
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class DecodeBenchmarks {
+
+    private static final EncoderContext ENCODER_CONTEXT =
+            EncoderContext.builder().build();
+
+    private static final DecoderContext DECODER_CONTEXT =
+            DecoderContext.builder().build();
+
+    @Param
+    public CodecFixture codec;
+
+    @Param({ "BINARY", "DOCUMENT" })
+    public BsonFormat format;
+
+    private Codec<Object> fixtureCodec;
+    private byte[]        binaryInput;
+    private BsonDocument  documentInput;
+
+    @Setup
+    public void setUp() {
+        fixtureCodec = codec.getCodec();
+        try (BasicOutputBuffer output = new BasicOutputBuffer()) {
+            encode(new BsonBinaryWriter(output));
+            binaryInput = output.toByteArray();
+        }
+        documentInput = new BsonDocument();
+        encode(new BsonDocumentWriter(documentInput));
+    }
+
+    @Benchmark
+    public Object decode() {
+        switch (format) {
+            case BINARY:
+                return decode(new BsonBinaryReader(wrap(binaryInput)));
+            case DOCUMENT:
+                return decode(new BsonDocumentReader(documentInput));
+            default:
+                throw new IllegalStateException(format.name());
+        }
+    }
+
+    private void encode(BsonWriter writer) {
+        writer.writeStartDocument();
+        writer.writeName("value");
+        fixtureCodec.encode(writer, codec.getValue(), ENCODER_CONTEXT);
+        writer.writeEndDocument();
+    }
+
+    private Object decode(BsonReader reader) {
+        reader.readStartDocument();
+        reader.readName();
+        return fixtureCodec.decode(reader, DECODER_CONTEXT);
+    }
+}
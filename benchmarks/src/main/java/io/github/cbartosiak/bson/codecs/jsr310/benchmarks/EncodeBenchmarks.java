@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import java.io.StringWriter;
+
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.json.JsonWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Codec#encode} of every codec, wrapping a value in
+ * a single-field document: {@code { value: ... }}.
+ * <p>
+ * Allocation per operation is reported when run with {@code -prof gc}.
+ */
+@BenchmarkMode({ Throughput, AverageTime })
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class EncodeBenchmarks {
+
+    private static final EncoderContext ENCODER_CONTEXT =
+            EncoderContext.builder().build();
+
+    @Param
+    public CodecFixture codec;
+
+    @Param
+    public BsonFormat format;
+
+    private final BasicOutputBuffer binaryOutput = new BasicOutputBuffer();
+    private final StringWriter      jsonOutput   = new StringWriter();
+
+    private Codec<Object> fixtureCodec;
+    private Object        fixtureValue;
+
+    @Setup
+    public void setUp() {
+        fixtureCodec = codec.getCodec();
+        fixtureValue = codec.getValue();
+    }
+
+    @Benchmark
+    public Object encode() {
+        switch (format) {
+            case BINARY:
+                binaryOutput.truncateToPosition(0);
+                encode(new BsonBinaryWriter(binaryOutput));
+                return binaryOutput;
+            case DOCUMENT:
+                BsonDocument document = new BsonDocument();
+                encode(new BsonDocumentWriter(document));
+                return document;
+            case JSON:
+                jsonOutput.getBuffer().setLength(0);
+                encode(new JsonWriter(jsonOutput));
+                return jsonOutput;
+            default:
+                throw new IllegalStateException(format.name());
+        }
+    }
+
+    private void encode(BsonWriter writer) {
+        writer.writeStartDocument();
+        writer.writeName("value");
+        fixtureCodec.encode(writer, fixtureValue, ENCODER_CONTEXT);
+        writer.writeEndDocument();
+    }
+}
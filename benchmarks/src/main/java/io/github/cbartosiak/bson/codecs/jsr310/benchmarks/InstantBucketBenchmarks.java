@@ -0,0 +1,157 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.benchmarks;
+
+import static java.nio.ByteBuffer.wrap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.bson.BsonType.END_OF_DOCUMENT;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantDoubleMapAsDocumentCodec;
+
+/**
+ * Measures decoding a bucket of metric samples stored as a sub-document
+ * keyed by {@code Instant.toString()}, as the driver's {@code MapCodec}
+ * stores it, and with {@link InstantDoubleMapAsDocumentCodec}, both into
+ * a map and into arrays.
+ * <p>
+ * Besides the throughput (in buckets per millisecond), each trial prints
+ * the encoded size of both the representations.
+ */
+@BenchmarkMode(Throughput)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class InstantBucketBenchmarks {
+
+    private static final EncoderContext ENCODER_CONTEXT =
+            EncoderContext.builder().build();
+
+    private static final DecoderContext DECODER_CONTEXT =
+            DecoderContext.builder().build();
+
+    private static final Instant START = Instant.parse("2018-01-02T10:00:00Z");
+
+    private static final InstantDoubleMapAsDocumentCodec CODEC =
+            new InstantDoubleMapAsDocumentCodec();
+
+    @Param({ "1000" })
+    public int size;
+
+    private byte[] stringKeyedInput;
+    private byte[] columnsInput;
+    private long[] epochMillis;
+    private double[] values;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(0L);
+        Map<Instant, Double> bucket = new LinkedHashMap<>();
+        Instant instant = START;
+        for (int i = 0; i < size; i++) {
+            instant = instant.plusMillis(990L + random.nextInt(20));
+            bucket.put(instant, random.nextGaussian());
+        }
+        stringKeyedInput = encode(writer -> {
+            writer.writeStartDocument();
+            for (Map.Entry<Instant, Double> entry : bucket.entrySet()) {
+                writer.writeDouble(
+                        entry.getKey().toString(), entry.getValue()
+                );
+            }
+            writer.writeEndDocument();
+        });
+        columnsInput = encode(
+                writer -> CODEC.encode(writer, bucket, ENCODER_CONTEXT)
+        );
+        epochMillis = new long[size];
+        values = new double[size];
+
+        System.out.printf(
+                "%n%d bytes keyed by strings, %d bytes in columns%n",
+                stringKeyedInput.length, columnsInput.length
+        );
+    }
+
+    @Benchmark
+    public Map<Instant, Double> stringKeyedDocument() {
+        BsonReader reader = reader(stringKeyedInput);
+        Map<Instant, Double> bucket = new LinkedHashMap<>();
+        reader.readStartDocument();
+        while (reader.readBsonType() != END_OF_DOCUMENT) {
+            bucket.put(Instant.parse(reader.readName()), reader.readDouble());
+        }
+        reader.readEndDocument();
+        return bucket;
+    }
+
+    @Benchmark
+    public Map<Instant, Double> columnsToMap() {
+        return CODEC.decode(reader(columnsInput), DECODER_CONTEXT);
+    }
+
+    @Benchmark
+    public double[] columnsToArrays() {
+        CODEC.decode(reader(columnsInput), epochMillis, values);
+        return values;
+    }
+
+    private static BsonReader reader(byte[] input) {
+        BsonReader reader = new BsonBinaryReader(wrap(input));
+        reader.readStartDocument();
+        reader.readName();
+        return reader;
+    }
+
+    private static byte[] encode(Consumer<BsonWriter> bucketWriter) {
+        try (BasicOutputBuffer output = new BasicOutputBuffer()) {
+            BsonWriter writer = new BsonBinaryWriter(output);
+            writer.writeStartDocument();
+            writer.writeName("value");
+            bucketWriter.accept(writer);
+            writer.writeEndDocument();
+            return output.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.benchmarks;
+
+import static java.nio.ByteBuffer.wrap;
+import static java.time.temporal.ChronoUnit.NANOS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantAsDateTimeCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantListAsBinaryCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantSequenceAsBinaryCodec;
+
+/**
+ * Measures decoding sequences of {@code Instant} values of a few realistic
+ * shapes with {@link InstantSequenceAsBinaryCodec} and the alternatives.
+ * <p>
+ * Besides the throughput (in sequences per millisecond), each trial prints
+ * the encoded size per value and the compression ratio relative to a
+ * {@code BSON Array} of {@code BSON DateTime} values.
+ */
+@BenchmarkMode(Throughput)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class InstantSequenceBenchmarks {
+
+    private static final EncoderContext ENCODER_CONTEXT =
+            EncoderContext.builder().build();
+
+    private static final DecoderContext DECODER_CONTEXT =
+            DecoderContext.builder().build();
+
+    private static final Instant START =
+            Instant.parse("2018-01-02T10:15:30.123456789Z");
+
+    /**
+     * The shapes of the benchmarked sequences.
+     */
+    public enum Sequence {
+
+        /**
+         * Sorted events, up to 20 milliseconds apart.
+         */
+        MILLIS_APART,
+
+        /**
+         * Sorted samples, about a second apart with some jitter.
+         */
+        SECONDS_APART,
+
+        /**
+         * Events of the last day in random order.
+         */
+        SHUFFLED
+    }
+
+    /**
+     * The benchmarked codecs.
+     */
+    public enum SequenceCodec {
+
+        InstantSequenceAsBinaryCodec(new InstantSequenceAsBinaryCodec()),
+
+        InstantSequenceAsBinaryCodecNanos(
+                new InstantSequenceAsBinaryCodec(NANOS)
+        ),
+
+        InstantListAsBinaryCodec(new InstantListAsBinaryCodec()),
+
+        DateTimeArray(new DateTimeArrayCodec());
+
+        private final Codec<List<Instant>> codec;
+
+        SequenceCodec(Codec<List<Instant>> codec) {
+            this.codec = codec;
+        }
+    }
+
+    @Param
+    public Sequence sequence;
+
+    @Param({ "1000" })
+    public int size;
+
+    @Param
+    public SequenceCodec codec;
+
+    private byte[] input;
+
+    @Setup
+    public void setUp() {
+        List<Instant> instants = instants(sequence, size);
+        input = encode(codec.codec, instants);
+        int arraySize = encode(new DateTimeArrayCodec(), instants).length;
+        System.out.printf(
+                "%n%.2f bytes per value, %.2fx smaller than an array%n",
+                (double) input.length / size,
+                (double) arraySize / input.length
+        );
+    }
+
+    @Benchmark
+    public List<Instant> decode() {
+        BsonReader reader = new BsonBinaryReader(wrap(input));
+        reader.readStartDocument();
+        reader.readName();
+        return codec.codec.decode(reader, DECODER_CONTEXT);
+    }
+
+    private static List<Instant> instants(Sequence sequence, int size) {
+        Random random = new Random(0L);
+        List<Instant> instants = new ArrayList<>(size);
+        Instant instant = START;
+        for (int i = 0; i < size; i++) {
+            switch (sequence) {
+                case MILLIS_APART:
+                    instant = instant.plusNanos(random.nextInt(20_000_000));
+                    break;
+                case SECONDS_APART:
+                    instant = instant.plusMillis(
+                            990L + random.nextInt(20)
+                    );
+                    break;
+                case SHUFFLED:
+                    instant = START.minusMillis(random.nextInt(86_400_000));
+                    break;
+                default:
+                    throw new IllegalStateException(sequence.name());
+            }
+            instants.add(instant);
+        }
+        return instants;
+    }
+
+    private static byte[] encode(
+            Codec<List<Instant>> codec,
+            List<Instant> instants) {
+
+        try (BasicOutputBuffer output = new BasicOutputBuffer()) {
+            BsonWriter writer = new BsonBinaryWriter(output);
+            writer.writeStartDocument();
+            writer.writeName("value");
+            codec.encode(writer, instants, ENCODER_CONTEXT);
+            writer.writeEndDocument();
+            return output.toByteArray();
+        }
+    }
+
+    /**
+     * Stores the values as a {@code BSON Array}, as the driver does with
+     * {@link InstantAsDateTimeCodec} registered.
+     */
+    private static final class DateTimeArrayCodec
+            implements Codec<List<Instant>> {
+
+        private final Codec<Instant> instantCodec =
+                new InstantAsDateTimeCodec();
+
+        @Override
+        public void encode(
+                BsonWriter writer,
+                List<Instant> value,
+                EncoderContext encoderContext) {
+
+            writer.writeStartArray();
+            for (Instant instant : value) {
+                instantCodec.encode(writer, instant, encoderContext);
+            }
+            writer.writeEndArray();
+        }
+
+        @Override
+        public List<Instant> decode(
+                BsonReader reader,
+                DecoderContext decoderContext) {
+
+            List<Instant> value = new ArrayList<>();
+            reader.readStartArray();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                value.add(instantCodec.decode(reader, decoderContext));
+            }
+            reader.readEndArray();
+            return value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Class<List<Instant>> getEncoderClass() {
+            return (Class<List<Instant>>) (Class<?>) List.class;
+        }
+    }
+}
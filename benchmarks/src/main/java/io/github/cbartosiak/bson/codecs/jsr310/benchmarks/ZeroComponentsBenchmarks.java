@@ -0,0 +1,135 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.benchmarks;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.FULL;
+import static java.nio.ByteBuffer.wrap;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import java.time.LocalTime;
+import java.time.Period;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonReader;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.cbartosiak.bson.codecs.jsr310.ZeroComponents;
+import io.github.cbartosiak.bson.codecs.jsr310.localtime.LocalTimeAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.period.PeriodAsDocumentCodec;
+
+/**
+ * Measures encoding and decoding a whole-minute {@code LocalTime} and
+ * a day-only {@code Period} with both the {@link ZeroComponents} modes of
+ * the document codecs.
+ * <p>
+ * Besides the throughput (in values per microsecond), each trial prints
+ * the encoded size of both the values.
+ */
+@BenchmarkMode(Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class ZeroComponentsBenchmarks {
+
+    private static final EncoderContext ENCODER_CONTEXT =
+            EncoderContext.builder().build();
+
+    private static final DecoderContext DECODER_CONTEXT =
+            DecoderContext.builder().build();
+
+    private static final LocalTime TIME = LocalTime.of(10, 15);
+
+    private static final Period PERIOD = Period.ofDays(3);
+
+    @Param
+    public ZeroComponents zeroComponents;
+
+    private final BasicOutputBuffer output = new BasicOutputBuffer();
+
+    private LocalTimeAsDocumentCodec localTimeCodec;
+    private PeriodAsDocumentCodec    periodCodec;
+    private byte[]                   localTimeInput;
+    private byte[]                   periodInput;
+
+    @Setup
+    public void setUp() {
+        localTimeCodec = new LocalTimeAsDocumentCodec(FULL, zeroComponents);
+        periodCodec = new PeriodAsDocumentCodec(FULL, zeroComponents);
+        localTimeInput = encode(localTimeCodec, TIME).toByteArray();
+        periodInput = encode(periodCodec, PERIOD).toByteArray();
+
+        System.out.printf(
+                "%n%s: %d bytes per time, %d bytes per period%n",
+                zeroComponents, localTimeInput.length, periodInput.length
+        );
+    }
+
+    @Benchmark
+    public BasicOutputBuffer encodeLocalTime() {
+        return encode(localTimeCodec, TIME);
+    }
+
+    @Benchmark
+    public LocalTime decodeLocalTime() {
+        return localTimeCodec.decode(reader(localTimeInput), DECODER_CONTEXT);
+    }
+
+    @Benchmark
+    public BasicOutputBuffer encodePeriod() {
+        return encode(periodCodec, PERIOD);
+    }
+
+    @Benchmark
+    public Period decodePeriod() {
+        return periodCodec.decode(reader(periodInput), DECODER_CONTEXT);
+    }
+
+    private <T> BasicOutputBuffer encode(Codec<T> codec, T value) {
+        output.truncateToPosition(0);
+        BsonBinaryWriter writer = new BsonBinaryWriter(output);
+        writer.writeStartDocument();
+        writer.writeName("value");
+        codec.encode(writer, value, ENCODER_CONTEXT);
+        writer.writeEndDocument();
+        return output;
+    }
+
+    private static BsonReader reader(byte[] input) {
+        BsonReader reader = new BsonBinaryReader(wrap(input));
+        reader.readStartDocument();
+        reader.readName();
+        return reader;
+    }
+}
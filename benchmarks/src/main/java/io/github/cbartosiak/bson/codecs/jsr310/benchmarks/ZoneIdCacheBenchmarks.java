@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.benchmarks;
+
+import static java.util.Arrays.copyOf;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+import java.time.ZoneId;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.cbartosiak.bson.codecs.jsr310.internal.ZoneIdCache;
+
+/**
+ * Compares resolving zone IDs with {@link ZoneId#of(String)} and with
+ * {@link ZoneIdCache} (the hit path), cycling through a number of distinct
+ * region IDs, both on a single thread and on all available processors.
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class ZoneIdCacheBenchmarks {
+
+    private static final String[] REGION_IDS = {
+            "Africa/Cairo", "Africa/Johannesburg", "Africa/Lagos",
+            "America/Chicago", "America/Denver", "America/Los_Angeles",
+            "America/Mexico_City", "America/New_York", "America/Sao_Paulo",
+            "America/Toronto", "Asia/Dubai", "Asia/Hong_Kong", "Asia/Jakarta",
+            "Asia/Kolkata", "Asia/Seoul", "Asia/Shanghai", "Asia/Singapore",
+            "Asia/Tokyo", "Atlantic/Reykjavik", "Australia/Melbourne",
+            "Australia/Sydney", "Europe/Amsterdam", "Europe/Berlin",
+            "Europe/Brussels", "Europe/Dublin", "Europe/Helsinki",
+            "Europe/Istanbul", "Europe/Lisbon", "Europe/London",
+            "Europe/Madrid", "Europe/Moscow", "Europe/Oslo", "Europe/Paris",
+            "Europe/Prague", "Europe/Rome", "Europe/Stockholm",
+            "Europe/Vienna", "Europe/Warsaw", "Europe/Zurich",
+            "Pacific/Auckland"
+    };
+
+    @Param({ "1", "40" })
+    public int distinctIds;
+
+    private String[] ids;
+    private int      next;
+
+    @Setup
+    public void setUp() {
+        ids = copyOf(REGION_IDS, distinctIds);
+    }
+
+    @Benchmark
+    public ZoneId zoneIdOf() {
+        return ZoneId.of(nextId());
+    }
+
+    @Benchmark
+    public ZoneId zoneIdCache() {
+        return ZoneIdCache.zoneId(nextId());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public ZoneId zoneIdOfOnAllProcessors() {
+        return ZoneId.of(nextId());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public ZoneId zoneIdCacheOnAllProcessors() {
+        return ZoneIdCache.zoneId(nextId());
+    }
+
+    private String nextId() {
+        String id = ids[next];
+        next = next + 1 == ids.length ? 0 : next + 1;
+        return id;
+    }
+}
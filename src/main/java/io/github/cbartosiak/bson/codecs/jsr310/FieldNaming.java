@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310;
+
+/**
+ * <p>
+ * Represents the names of the fields the {@code XxxAsDocumentCodec} and
+ * {@code XxxAsFlatDocumentCodec} classes store the components of values as.
+ * <p>
+ * As field names are stored in every document, the {@link #COMPACT} names
+ * make the documents noticeably smaller, at the cost of their readability.
+ */
+public enum FieldNaming {
+
+    /**
+     * The full names, such as {@code year}, {@code month} or {@code offset}
+     */
+    FULL,
+
+    /**
+     * The names of one or two characters:
+     * <ul>
+     * <li>{@code y} ({@code year}, {@code years});
+     * <li>{@code M} ({@code month}, {@code months});
+     * <li>{@code d} ({@code day}, {@code days}, {@code date});
+     * <li>{@code h} ({@code hour});
+     * <li>{@code m} ({@code minute});
+     * <li>{@code s} ({@code second}, {@code seconds});
+     * <li>{@code n} ({@code nano}, {@code nanos});
+     * <li>{@code t} ({@code time}, {@code timestamps});
+     * <li>{@code dt} ({@code dateTime});
+     * <li>{@code o} ({@code offset});
+     * <li>{@code z} ({@code zone});
+     * <li>{@code i} ({@code instant});
+     * <li>{@code v} ({@code values}).
+     * </ul>
+     */
+    COMPACT
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310;
+
+/**
+ * <p>
+ * Represents the precision of the zone offsets stored by the codecs packing
+ * them into a number, such as {@code OffsetDateTimeAsInt64Codec}.
+ * <p>
+ * The {@link #QUARTER_HOURS} offsets take fewer bits and leave more of them
+ * for the rest of the value, all the offsets in use today being whole
+ * quarter hours.
+ */
+public enum OffsetPrecision {
+
+    /**
+     * The offsets are stored as numbers of 15 minutes, the other offsets
+     * are not supported
+     */
+    QUARTER_HOURS,
+
+    /**
+     * The offsets are stored as numbers of seconds, all the offsets are
+     * supported
+     */
+    SECONDS
+}
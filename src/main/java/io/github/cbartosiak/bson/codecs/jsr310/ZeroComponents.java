@@ -0,0 +1,42 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310;
+
+/**
+ * <p>
+ * Represents how the {@code XxxAsDocumentCodec} classes of values made of
+ * numeric components, such as {@code LocalTime} or {@code Period}, treat
+ * the components equal to zero.
+ * <p>
+ * The {@link #OMITTED} components make the documents of whole-minute times
+ * or day-only periods noticeably smaller, at the cost of the documents of
+ * the other mode not being decoded the same way.
+ */
+public enum ZeroComponents {
+
+    /**
+     * The components equal to zero are written, all the components are
+     * required to be present when decoding
+     */
+    REQUIRED,
+
+    /**
+     * The components equal to zero are not written, the missing components
+     * are decoded as zero
+     */
+    OMITTED
+}
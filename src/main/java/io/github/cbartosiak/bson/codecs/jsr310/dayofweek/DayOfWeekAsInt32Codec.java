@@ -16,7 +16,7 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.dayofweek;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
 import static java.util.Objects.requireNonNull;
 
 import java.time.DayOfWeek;
@@ -39,6 +39,8 @@ import org.bson.codecs.EncoderContext;
  */
 public final class DayOfWeekAsInt32Codec implements Codec<DayOfWeek> {
 
+    private static final DayOfWeek[] VALUES = DayOfWeek.values();
+
     @Override
     public void encode(
             BsonWriter writer,
@@ -56,10 +58,16 @@ public final class DayOfWeekAsInt32Codec implements Codec<DayOfWeek> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readInt32,
-                DayOfWeek::of
-        );
+        int value = reader.readInt32();
+        if (value >= 1 && value <= VALUES.length) {
+            return VALUES[value - 1];
+        }
+        try {
+            return DayOfWeek.of(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
@@ -16,7 +16,7 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.dayofweek;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
 import static java.util.Objects.requireNonNull;
 
 import java.time.DayOfWeek;
@@ -56,14 +56,55 @@ public final class DayOfWeekAsStringCodec implements Codec<DayOfWeek> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readString,
-                DayOfWeek::valueOf
-        );
+        String value = reader.readString();
+        try {
+            DayOfWeek candidate = candidate(value);
+            return candidate != null && candidate.name().equals(value) ?
+                   candidate :
+                   DayOfWeek.valueOf(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
     public Class<DayOfWeek> getEncoderClass() {
         return DayOfWeek.class;
     }
+
+    /**
+     * Returns the only constant the value can be the name of, judging by its
+     * length and a distinguishing character, or {@code null}.
+     */
+    private static DayOfWeek candidate(String value) {
+        switch (value.length()) {
+            case 6:
+                switch (value.charAt(0)) {
+                    case 'M':
+                        return DayOfWeek.MONDAY;
+                    case 'F':
+                        return DayOfWeek.FRIDAY;
+                    case 'S':
+                        return DayOfWeek.SUNDAY;
+                    default:
+                        return null;
+                }
+            case 7:
+                return DayOfWeek.TUESDAY;
+            case 8:
+                switch (value.charAt(0)) {
+                    case 'T':
+                        return DayOfWeek.THURSDAY;
+                    case 'S':
+                        return DayOfWeek.SATURDAY;
+                    default:
+                        return null;
+                }
+            case 9:
+                return DayOfWeek.WEDNESDAY;
+            default:
+                return null;
+        }
+    }
 }
@@ -16,12 +16,13 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.duration;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateEncodeExceptions;
-import static java.lang.String.format;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.fractionPart;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.hasScale;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.integralPart;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.toDecimal128;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
 import static java.time.Duration.ofSeconds;
 import static java.util.Objects.requireNonNull;
-import static org.bson.types.Decimal128.parse;
 
 import java.math.BigDecimal;
 import java.time.Duration;
@@ -31,6 +32,7 @@ import org.bson.BsonWriter;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
+import org.bson.types.Decimal128;
 
 /**
  * <p>
@@ -43,6 +45,10 @@ import org.bson.codecs.EncoderContext;
  * <li>the latter part represents nanoseconds.
  * </ul>
  * <p>
+ * The values are encoded and decoded without intermediate strings nor
+ * {@code BigDecimal} values, unless a value with a different number of
+ * fraction digits is decoded.
+ * <p>
  * This type is <b>immutable</b>.
  */
 public final class DurationAsDecimal128Codec implements Codec<Duration> {
@@ -55,14 +61,11 @@ public final class DurationAsDecimal128Codec implements Codec<Duration> {
 
         requireNonNull(writer, "writer is null");
         requireNonNull(value, "value is null");
-        translateEncodeExceptions(
-                () -> value,
-                val -> writer.writeDecimal128(parse(format(
-                        "%d.%09d",
-                        val.getSeconds(),
-                        val.getNano()
-                )))
-        );
+        writer.writeDecimal128(toDecimal128(
+                value.getSeconds(),
+                value.getNano(),
+                9
+        ));
     }
 
     @Override
@@ -71,18 +74,25 @@ public final class DurationAsDecimal128Codec implements Codec<Duration> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readDecimal128,
-                val -> {
-                    BigDecimal bigDecimal = val.bigDecimalValue();
-                    long seconds = bigDecimal.longValue();
-                    int nanos = bigDecimal.subtract(new BigDecimal(seconds))
-                                          .scaleByPowerOfTen(9)
-                                          .abs()
-                                          .intValue();
-                    return ofSeconds(seconds, nanos);
-                }
-        );
+        Decimal128 value = reader.readDecimal128();
+        try {
+            if (hasScale(value, 9)) {
+                return ofSeconds(
+                        integralPart(value, 9),
+                        fractionPart(value, 9)
+                );
+            }
+            BigDecimal bigDecimal = value.bigDecimalValue();
+            long seconds = bigDecimal.longValue();
+            int nanos = bigDecimal.subtract(new BigDecimal(seconds))
+                                  .scaleByPowerOfTen(9)
+                                  .abs()
+                                  .intValue();
+            return ofSeconds(seconds, nanos);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
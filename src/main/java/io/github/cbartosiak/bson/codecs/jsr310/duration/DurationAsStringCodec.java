@@ -16,7 +16,7 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.duration;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
 import static java.util.Objects.requireNonNull;
 
 import java.time.Duration;
@@ -56,10 +56,13 @@ public final class DurationAsStringCodec implements Codec<Duration> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readString,
-                Duration::parse
-        );
+        String value = reader.readString();
+        try {
+            return Duration.parse(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.instant;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.MAX_VAR_LONG_LENGTH;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.checkFields;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.encodeBuffer;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.getVarLong;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.putVarLong;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readBinaryWithHeader;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readField;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readPackedBinary;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.unZigZag;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.unsupportedValue;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.varLongEnd;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.writePackedBinary;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.zigZag;
+import static java.lang.String.format;
+import static org.bson.BsonType.END_OF_DOCUMENT;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+
+/**
+ * <p>
+ * Writes and reads the documents of the bucket codecs, which consist of
+ * two parallel columns:
+ * <ul>
+ * <li>{@code timestamps} (a non-null {@code Binary} of the millisecond
+ * layout of {@link InstantSequenceAsBinaryCodec}: the number of fraction
+ * digits, {@code 3}, followed by the differences between consecutive numbers
+ * of milliseconds since the epoch);
+ * <li>{@code values} (a non-null {@code Binary} of 8-byte little-endian
+ * values).
+ * </ul>
+ * The names above are the full ones, the codecs derive theirs once according
+ * to their {@code FieldNaming}.
+ */
+final class BucketColumns {
+
+    static final int WIDTH = 8;
+
+    static final String[] FIELD_NAMES = {
+            "timestamps", "values"
+    };
+
+    private static final int MILLIS_DIGITS = 3;
+
+    private BucketColumns() {}
+
+    /**
+     * Returns a timestamps buffer, as {@code CodecsUtil.encodeBuffer} does,
+     * large enough for the provided number of timestamps, with the header
+     * already written.
+     */
+    static byte[] timestampsBuffer(int count) {
+        byte[] buffer = encodeBuffer(1 + count * MAX_VAR_LONG_LENGTH);
+        buffer[0] = (byte) MILLIS_DIGITS;
+        return buffer;
+    }
+
+    /**
+     * Writes a timestamp following the previous one.
+     *
+     * @return the end of the timestamps
+     */
+    static int putTimestamp(
+            byte[] buffer,
+            int end,
+            long epochMilli,
+            long previous) {
+
+        return putVarLong(buffer, end, zigZag(epochMilli - previous));
+    }
+
+    /**
+     * Reads exactly {@code count} timestamps of a column with its header
+     * into the provided array.
+     *
+     * @throws BsonInvalidOperationException if the timestamps are malformed,
+     *                                       duplicated or their number is
+     *                                       different
+     */
+    static void readTimestamps(byte[] data, long[] epochMillis, int count) {
+        int storedDigits = data[0];
+        if (storedDigits != MILLIS_DIGITS) {
+            throw new BsonInvalidOperationException(format(
+                    "The precision of %d digits is not supported",
+                    storedDigits
+            ));
+        }
+
+        int position = 1;
+        int read = 0;
+        long epochMilli = 0L;
+        while (position < data.length) {
+            if (read == count) {
+                throw countMismatch(count);
+            }
+            int end = varLongEnd(data, position);
+            epochMilli += unZigZag(getVarLong(data, position));
+            epochMillis[read++] = epochMilli;
+            position = end;
+        }
+        if (read != count) {
+            throw countMismatch(count);
+        }
+        if (duplicateIndex(epochMillis, count) >= 0) {
+            throw new BsonInvalidOperationException(
+                    "The timestamps are duplicated"
+            );
+        }
+    }
+
+    /**
+     * Returns the index of the first timestamp equal to any of the previous
+     * ones or {@code -1} if they are all distinct. Strictly increasing
+     * timestamps are checked without any allocations.
+     */
+    static int duplicateIndex(long[] epochMillis, int length) {
+        int index = 1;
+        while (index < length && epochMillis[index] > epochMillis[index - 1]) {
+            index++;
+        }
+        if (index >= length) {
+            return -1;
+        }
+        Set<Long> seen = new HashSet<>(length * 4 / 3 + 1);
+        for (int i = 0; i < length; i++) {
+            if (!seen.add(epochMillis[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks that no two of the keys are in the same millisecond, as they
+     * would be encoded as the same timestamp.
+     *
+     * @throws BsonInvalidOperationException naming the first key in the same
+     *                                       millisecond as a previous one
+     */
+    static void checkDistinctMillis(Collection<Instant> keys) {
+        Set<Long> seen = new HashSet<>(keys.size() * 4 / 3 + 1);
+        for (Instant key : keys) {
+            if (!seen.add(key.toEpochMilli())) {
+                throw unsupportedValue(key);
+            }
+        }
+    }
+
+    /**
+     * Checks that the first {@code length} timestamps are distinct.
+     *
+     * @throws BsonInvalidOperationException naming the first timestamp equal
+     *                                       to a previous one
+     */
+    static void checkDistinct(long[] epochMillis, int length) {
+        int index = duplicateIndex(epochMillis, length);
+        if (index >= 0) {
+            throw unsupportedValue(epochMillis[index]);
+        }
+    }
+
+    static void writeColumns(
+            BsonWriter writer,
+            String[] fieldNames,
+            byte[] timestamps,
+            byte[] values) {
+
+        writer.writeStartDocument();
+        writer.writeName(fieldNames[0]);
+        writePackedBinary(writer, timestamps);
+        writer.writeName(fieldNames[1]);
+        writePackedBinary(writer, values);
+        writer.writeEndDocument();
+    }
+
+    /**
+     * Reads the timestamps and the values columns.
+     *
+     * @return the two columns, in this order
+     */
+    static byte[][] readColumns(BsonReader reader, String[] fieldNames) {
+        byte[][] columns = new byte[2][];
+        int readFields = 0;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != END_OF_DOCUMENT) {
+            int field = readField(reader, fieldNames, readFields);
+            readFields |= 1 << field;
+            switch (field) {
+                case 0:
+                    columns[0] = readBinaryWithHeader(reader);
+                    break;
+                default:
+                    columns[1] = readPackedBinary(reader, WIDTH);
+                    break;
+            }
+        }
+        reader.readEndDocument();
+        checkFields(fieldNames, readFields);
+        return columns;
+    }
+
+    /**
+     * Checks that the provided arrays can hold {@code count} entries.
+     *
+     * @throws BsonInvalidOperationException if any of the arrays is too short
+     */
+    static void checkCapacity(int count, int timestamps, int values) {
+        if (count > timestamps || count > values) {
+            throw new BsonInvalidOperationException(format(
+                    "The bucket of %d entries does not fit arrays of " +
+                    "lengths %d and %d",
+                    count, timestamps, values
+            ));
+        }
+    }
+
+    private static BsonInvalidOperationException countMismatch(int count) {
+        return new BsonInvalidOperationException(format(
+                "The number of timestamps does not match %d values", count
+        ));
+    }
+}
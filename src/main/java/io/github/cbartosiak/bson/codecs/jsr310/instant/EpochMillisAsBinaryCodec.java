@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.instant;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.getLongLittleEndian;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.putLongLittleEndian;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readPackedBinary;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.writePackedBinary;
+import static java.util.Objects.requireNonNull;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * <p>
+ * Encodes and decodes {@code long[]} values holding numbers of milliseconds
+ * since the epoch to and from {@code BSON Binary} of the user defined
+ * subtype.
+ * <p>
+ * The values are stored the same way as {@link InstantListAsBinaryCodec}
+ * stores them, so both codecs can read what the other one wrote, but no
+ * {@code Instant} values are created.
+ * <p>
+ * This type is <b>immutable</b>.
+ */
+public final class EpochMillisAsBinaryCodec implements Codec<long[]> {
+
+    private static final int WIDTH = 8;
+
+    @Override
+    public void encode(
+            BsonWriter writer,
+            long[] value,
+            EncoderContext encoderContext) {
+
+        requireNonNull(writer, "writer is null");
+        requireNonNull(value, "value is null");
+        byte[] data = new byte[value.length * WIDTH];
+        for (int i = 0; i < value.length; i++) {
+            putLongLittleEndian(data, i * WIDTH, value[i]);
+        }
+        writePackedBinary(writer, data);
+    }
+
+    @Override
+    public long[] decode(
+            BsonReader reader,
+            DecoderContext decoderContext) {
+
+        requireNonNull(reader, "reader is null");
+        byte[] data = readPackedBinary(reader, WIDTH);
+        long[] value = new long[data.length / WIDTH];
+        for (int i = 0; i < value.length; i++) {
+            value[i] = getLongLittleEndian(data, i * WIDTH);
+        }
+        return value;
+    }
+
+    @Override
+    public Class<long[]> getEncoderClass() {
+        return long[].class;
+    }
+}
@@ -16,8 +16,8 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.instant;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateEncodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateEncodeException;
 import static java.util.Objects.requireNonNull;
 
 import java.time.Instant;
@@ -47,10 +47,14 @@ public final class InstantAsDateTimeCodec implements Codec<Instant> {
 
         requireNonNull(writer, "writer is null");
         requireNonNull(value, "value is null");
-        translateEncodeExceptions(
-                () -> value,
-                val -> writer.writeDateTime(val.toEpochMilli())
-        );
+        long millis;
+        try {
+            millis = value.toEpochMilli();
+        }
+        catch (RuntimeException ex) {
+            throw translateEncodeException(value, ex);
+        }
+        writer.writeDateTime(millis);
     }
 
     @Override
@@ -59,10 +63,13 @@ public final class InstantAsDateTimeCodec implements Codec<Instant> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readDateTime,
-                Instant::ofEpochMilli
-        );
+        long value = reader.readDateTime();
+        try {
+            return Instant.ofEpochMilli(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
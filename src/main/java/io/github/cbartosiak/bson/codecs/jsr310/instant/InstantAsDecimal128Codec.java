@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.instant;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.epochFromDecimal128;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.epochToDecimal128;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.Decimal128;
+
+/**
+ * <p>
+ * Encodes and decodes {@code Instant} values to and from
+ * {@code BSON Decimal128}, such as {@code 1_514_888_130.123_456_789}.
+ * <p>
+ * The values are stored as numbers of seconds since the epoch with exactly
+ * nine fraction digits, so that they keep nanoseconds and are ordered the
+ * same way as the values, such as {@code -0.500_000_000} for half a second
+ * before the epoch.
+ * <p>
+ * The values are encoded and decoded without intermediate strings nor
+ * {@code BigDecimal} values, unless a value with a different number of
+ * fraction digits is decoded.
+ * <p>
+ * This type is <b>immutable</b>.
+ */
+public final class InstantAsDecimal128Codec implements Codec<Instant> {
+
+    @Override
+    public void encode(
+            BsonWriter writer,
+            Instant value,
+            EncoderContext encoderContext) {
+
+        requireNonNull(writer, "writer is null");
+        requireNonNull(value, "value is null");
+        writer.writeDecimal128(epochToDecimal128(
+                value.getEpochSecond(),
+                value.getNano()
+        ));
+    }
+
+    @Override
+    public Instant decode(
+            BsonReader reader,
+            DecoderContext decoderContext) {
+
+        requireNonNull(reader, "reader is null");
+        Decimal128 value = reader.readDecimal128();
+        try {
+            return epochFromDecimal128(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
+    }
+
+    @Override
+    public Class<Instant> getEncoderClass() {
+        return Instant.class;
+    }
+}
@@ -16,24 +16,29 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.instant;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.getFieldValue;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readDocument;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.FULL;
+import static io.github.cbartosiak.bson.codecs.jsr310.ZeroComponents.REQUIRED;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.checkFields;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.fieldNames;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readField;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.unsupportedDocument;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.writeComponent;
 import static java.time.Instant.ofEpochSecond;
-import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
+import static org.bson.BsonType.END_OF_DOCUMENT;
 
+import java.time.DateTimeException;
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.bson.BsonReader;
 import org.bson.BsonWriter;
 import org.bson.codecs.Codec;
-import org.bson.codecs.Decoder;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 
+import io.github.cbartosiak.bson.codecs.jsr310.FieldNaming;
+import io.github.cbartosiak.bson.codecs.jsr310.ZeroComponents;
+
 /**
  * <p>
  * Encodes and decodes {@code Instant} values to and from
@@ -45,17 +50,58 @@ import org.bson.codecs.EncoderContext;
  * <li>{@code nanos} (a non-null {@code Int32}).
  * </ul>
  * <p>
+ * The names of the fields depend on the provided {@link FieldNaming}, the
+ * ones above are the {@link FieldNaming#FULL} names.
+ * <p>
+ * With {@link ZeroComponents#OMITTED}, the fields of the components equal to
+ * zero are not written and the missing fields are decoded as zero.
+ * <p>
  * This type is <b>immutable</b>.
  */
 public final class InstantAsDocumentCodec implements Codec<Instant> {
 
-    private static final Map<String, Decoder<?>> FIELD_DECODERS;
+    private static final String[] FIELD_NAMES = {
+            "seconds", "nanos"
+    };
+
+    private final FieldNaming    fieldNaming;
+    private final ZeroComponents zeroComponents;
+    private final String[]       fieldNames;
+
+    /**
+     * Creates an {@code InstantAsDocumentCodec} using
+     * the {@link FieldNaming#FULL} names.
+     */
+    public InstantAsDocumentCodec() {
+        this(FULL);
+    }
+
+    /**
+     * Creates an {@code InstantAsDocumentCodec} using
+     * the provided names.
+     *
+     * @param fieldNaming not null
+     */
+    public InstantAsDocumentCodec(FieldNaming fieldNaming) {
+        this(fieldNaming, REQUIRED);
+    }
+
+    /**
+     * Creates an {@code InstantAsDocumentCodec} using
+     * the provided names and treatment of the components equal to zero.
+     *
+     * @param fieldNaming    not null
+     * @param zeroComponents not null
+     */
+    public InstantAsDocumentCodec(
+            FieldNaming fieldNaming,
+            ZeroComponents zeroComponents) {
 
-    static {
-        Map<String, Decoder<?>> fd = new HashMap<>();
-        fd.put("seconds", (r, dc) -> r.readInt64());
-        fd.put("nanos", (r, dc) -> r.readInt32());
-        FIELD_DECODERS = unmodifiableMap(fd);
+        this.fieldNaming = requireNonNull(fieldNaming, "fieldNaming is null");
+        this.zeroComponents = requireNonNull(
+                zeroComponents, "zeroComponents is null"
+        );
+        fieldNames = fieldNames(fieldNaming, FIELD_NAMES);
     }
 
     @Override
@@ -67,8 +113,12 @@ public final class InstantAsDocumentCodec implements Codec<Instant> {
         requireNonNull(writer, "writer is null");
         requireNonNull(value, "value is null");
         writer.writeStartDocument();
-        writer.writeInt64("seconds", value.getEpochSecond());
-        writer.writeInt32("nanos", value.getNano());
+        writeComponent(
+                writer, fieldNames[0], value.getEpochSecond(), zeroComponents
+        );
+        writeComponent(
+                writer, fieldNames[1], value.getNano(), zeroComponents
+        );
         writer.writeEndDocument();
     }
 
@@ -78,17 +128,65 @@ public final class InstantAsDocumentCodec implements Codec<Instant> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                () -> readDocument(reader, decoderContext, FIELD_DECODERS),
-                val -> ofEpochSecond(
-                        getFieldValue(val, "seconds", Long.class),
-                        getFieldValue(val, "nanos", Integer.class)
-                )
-        );
+
+        long seconds = 0L;
+        int nanos = 0;
+        int readFields = 0;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != END_OF_DOCUMENT) {
+            int field = readField(reader, fieldNames, readFields);
+            readFields |= 1 << field;
+            switch (field) {
+                case 0:
+                    seconds = reader.readInt64();
+                    break;
+                default:
+                    nanos = reader.readInt32();
+                    break;
+            }
+        }
+        reader.readEndDocument();
+        checkFields(fieldNames, readFields, zeroComponents);
+
+        try {
+            return ofEpochSecond(seconds, nanos);
+        }
+        catch (ArithmeticException | DateTimeException ex) {
+            throw unsupportedDocument(
+                    fieldNames, new Object[] { seconds, nanos }, ex
+            );
+        }
     }
 
     @Override
     public Class<Instant> getEncoderClass() {
         return Instant.class;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) { return true; }
+        if (obj == null || getClass() != obj.getClass()) { return false; }
+
+        InstantAsDocumentCodec rhs = (InstantAsDocumentCodec)obj;
+
+        return fieldNaming == rhs.fieldNaming &&
+               zeroComponents == rhs.zeroComponents;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = fieldNaming.hashCode();
+        result = 31 * result + zeroComponents.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "InstantAsDocumentCodec[" +
+               "fieldNaming=" + fieldNaming +
+               ",zeroComponents=" + zeroComponents +
+               ']';
+    }
 }
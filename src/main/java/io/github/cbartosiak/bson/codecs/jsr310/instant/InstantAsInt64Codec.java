@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.instant;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.epochUnitsPerSecond;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.toEpochUnits;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateEncodeException;
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+import static java.time.temporal.ChronoUnit.MICROS;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * <p>
+ * Encodes and decodes {@code Instant} values to and from
+ * {@code BSON Int64}, such as {@code 1_514_888_130_123_456}.
+ * <p>
+ * The values are stored as numbers of the chosen units since the epoch:
+ * <ul>
+ * <li>{@code MICROS}: supports about 292 thousand years around the epoch;
+ * <li>{@code NANOS}: supports the years from 1677 to 2262.
+ * </ul>
+ * The stored numbers are ordered the same way as the values.
+ * <p>
+ * Note that the precision finer than the chosen unit is lost.
+ * <p>
+ * This type is <b>immutable</b>.
+ */
+public final class InstantAsInt64Codec implements Codec<Instant> {
+
+    private final ChronoUnit unit;
+    private final long       unitsPerSecond;
+
+    /**
+     * Creates an {@code InstantAsInt64Codec} storing microseconds.
+     */
+    public InstantAsInt64Codec() {
+        this(MICROS);
+    }
+
+    /**
+     * Creates an {@code InstantAsInt64Codec} storing the provided units.
+     *
+     * @param unit not null, {@code MICROS} or {@code NANOS}
+     */
+    public InstantAsInt64Codec(ChronoUnit unit) {
+        this.unit = requireNonNull(unit, "unit is null");
+        unitsPerSecond = epochUnitsPerSecond(unit);
+    }
+
+    @Override
+    public void encode(
+            BsonWriter writer,
+            Instant value,
+            EncoderContext encoderContext) {
+
+        requireNonNull(writer, "writer is null");
+        requireNonNull(value, "value is null");
+        long units;
+        try {
+            units = toEpochUnits(
+                    value.getEpochSecond(), value.getNano(), unitsPerSecond
+            );
+        }
+        catch (RuntimeException ex) {
+            throw translateEncodeException(value, ex);
+        }
+        writer.writeInt64(units);
+    }
+
+    @Override
+    public Instant decode(
+            BsonReader reader,
+            DecoderContext decoderContext) {
+
+        requireNonNull(reader, "reader is null");
+        long value = reader.readInt64();
+        return Instant.ofEpochSecond(
+                floorDiv(value, unitsPerSecond),
+                floorMod(value, unitsPerSecond) *
+                (1_000_000_000L / unitsPerSecond)
+        );
+    }
+
+    @Override
+    public Class<Instant> getEncoderClass() {
+        return Instant.class;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) { return true; }
+        if (obj == null || getClass() != obj.getClass()) { return false; }
+
+        InstantAsInt64Codec rhs = (InstantAsInt64Codec)obj;
+
+        return unit == rhs.unit;
+    }
+
+    @Override
+    public int hashCode() {
+        return unit.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "InstantAsInt64Codec[" +
+               "unit=" + unit +
+               ']';
+    }
+}
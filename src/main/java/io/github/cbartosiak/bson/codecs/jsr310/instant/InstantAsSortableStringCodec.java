@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.instant;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.SortableFormat.formatInstant;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.SortableFormat.parseInstant;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * <p>
+ * Encodes and decodes {@code Instant} values to and from
+ * {@code BSON String}, such as {@code 00000002018-01-02T10:15:30.000000000Z}.
+ * <p>
+ * The values are stored as {@code ISO-8601} formatted {@code UTC} strings
+ * of a fixed width, such that their lexicographic order is the
+ * chronological order: the year is zero-padded to eleven characters and
+ * the seconds and nine fraction digits are always present. Years before
+ * zero are stored as {@code -} followed by ten digits of the year increased
+ * by {@code 10^10}.
+ * <p>
+ * This type is <b>immutable</b>.
+ */
+public final class InstantAsSortableStringCodec implements Codec<Instant> {
+
+    @Override
+    public void encode(
+            BsonWriter writer,
+            Instant value,
+            EncoderContext encoderContext) {
+
+        requireNonNull(writer, "writer is null");
+        requireNonNull(value, "value is null");
+        writer.writeString(formatInstant(value));
+    }
+
+    @Override
+    public Instant decode(
+            BsonReader reader,
+            DecoderContext decoderContext) {
+
+        requireNonNull(reader, "reader is null");
+        String value = reader.readString();
+        try {
+            return parseInstant(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
+    }
+
+    @Override
+    public Class<Instant> getEncoderClass() {
+        return Instant.class;
+    }
+}
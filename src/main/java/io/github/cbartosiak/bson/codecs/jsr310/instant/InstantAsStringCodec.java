@@ -16,7 +16,9 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.instant;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.IsoFormatter.formatInstant;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.IsoParser.parseInstant;
 import static java.util.Objects.requireNonNull;
 
 import java.time.Instant;
@@ -47,7 +49,7 @@ public final class InstantAsStringCodec implements Codec<Instant> {
 
         requireNonNull(writer, "writer is null");
         requireNonNull(value, "value is null");
-        writer.writeString(value.toString());
+        writer.writeString(formatInstant(value));
     }
 
     @Override
@@ -56,10 +58,13 @@ public final class InstantAsStringCodec implements Codec<Instant> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readString,
-                Instant::parse
-        );
+        String value = reader.readString();
+        try {
+            return parseInstant(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.instant;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.getLongLittleEndian;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.putLongLittleEndian;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readPackedBinary;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateEncodeException;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.writePackedBinary;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * <p>
+ * Encodes and decodes {@code List<Instant>} values to and from
+ * {@code BSON Binary} of the user defined subtype.
+ * <p>
+ * The values are stored as consecutive 8-byte little-endian numbers of
+ * milliseconds since the epoch, the same as {@link InstantAsDateTimeCodec}
+ * stores them. With thousands of elements it takes about 40% less space than
+ * a {@code BSON Array} of {@code BSON DateTime} values, which spends 5 to 7
+ * bytes per element on its type and index key.
+ * <p>
+ * Note that the nanoseconds precision is lost.
+ * <p>
+ * The encoder class is the raw {@code List}, so the codec is meant to be set
+ * on particular properties, such as with {@code PropertyModelBuilder.codec},
+ * and must not be added to a {@code CodecRegistry}, where it would be used for
+ * all the {@code List} values.
+ * <p>
+ * This type is <b>immutable</b>.
+ */
+public final class InstantListAsBinaryCodec implements Codec<List<Instant>> {
+
+    private static final int WIDTH = 8;
+
+    @Override
+    public void encode(
+            BsonWriter writer,
+            List<Instant> value,
+            EncoderContext encoderContext) {
+
+        requireNonNull(writer, "writer is null");
+        requireNonNull(value, "value is null");
+        byte[] data = new byte[value.size() * WIDTH];
+        int index = 0;
+        for (Instant instant : value) {
+            requireNonNull(instant, "value contains null");
+            try {
+                putLongLittleEndian(data, index, instant.toEpochMilli());
+            }
+            catch (RuntimeException ex) {
+                throw translateEncodeException(instant, ex);
+            }
+            index += WIDTH;
+        }
+        writePackedBinary(writer, data);
+    }
+
+    @Override
+    public List<Instant> decode(
+            BsonReader reader,
+            DecoderContext decoderContext) {
+
+        requireNonNull(reader, "reader is null");
+        byte[] data = readPackedBinary(reader, WIDTH);
+        List<Instant> value = new ArrayList<>(data.length / WIDTH);
+        for (int index = 0; index < data.length; index += WIDTH) {
+            value.add(Instant.ofEpochMilli(getLongLittleEndian(data, index)));
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<List<Instant>> getEncoderClass() {
+        return (Class<List<Instant>>) (Class<?>) List.class;
+    }
+}
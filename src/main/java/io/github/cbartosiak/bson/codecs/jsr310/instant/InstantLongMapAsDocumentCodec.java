@@ -0,0 +1,276 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.instant;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.FULL;
+import static io.github.cbartosiak.bson.codecs.jsr310.instant.BucketColumns.FIELD_NAMES;
+import static io.github.cbartosiak.bson.codecs.jsr310.instant.BucketColumns.WIDTH;
+import static io.github.cbartosiak.bson.codecs.jsr310.instant.BucketColumns.checkCapacity;
+import static io.github.cbartosiak.bson.codecs.jsr310.instant.BucketColumns.checkDistinct;
+import static io.github.cbartosiak.bson.codecs.jsr310.instant.BucketColumns.checkDistinctMillis;
+import static io.github.cbartosiak.bson.codecs.jsr310.instant.BucketColumns.putTimestamp;
+import static io.github.cbartosiak.bson.codecs.jsr310.instant.BucketColumns.readColumns;
+import static io.github.cbartosiak.bson.codecs.jsr310.instant.BucketColumns.readTimestamps;
+import static io.github.cbartosiak.bson.codecs.jsr310.instant.BucketColumns.timestampsBuffer;
+import static io.github.cbartosiak.bson.codecs.jsr310.instant.BucketColumns.writeColumns;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.fieldNames;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.getLongLittleEndian;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.putLongLittleEndian;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateEncodeException;
+import static java.lang.String.format;
+import static java.util.Arrays.copyOf;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import io.github.cbartosiak.bson.codecs.jsr310.FieldNaming;
+
+/**
+ * <p>
+ * Encodes and decodes {@code Map<Instant, Long>} values, such as buckets
+ * of counters, to and from {@code BSON Document} of two parallel
+ * columns, such as {@code { timestamps: <Binary>, values: <Binary> }}.
+ * <p>
+ * The values are stored using the following structure:
+ * <ul>
+ * <li>{@code timestamps} (a non-null {@code Binary} of the user defined
+ * subtype, which holds the keys the same way
+ * {@link InstantSequenceAsBinaryCodec} holds milliseconds);
+ * <li>{@code values} (a non-null {@code Binary} of the user defined subtype,
+ * which holds the values as 8-byte little-endian numbers).
+ * </ul>
+ * <p>
+ * The entries are decoded into a {@code LinkedHashMap} in the order they
+ * were encoded in. Besides the {@code Codec} methods, the columns can be
+ * encoded from and decoded into arrays of numbers of milliseconds since
+ * the epoch and of values, without creating any {@code Instant} or
+ * {@code Long} objects.
+ * <p>
+ * Note that the precision finer than milliseconds is lost, so the keys
+ * are required to be in distinct milliseconds.
+ * <p>
+ * The names of the fields depend on the provided {@link FieldNaming}, the
+ * ones above are the {@link FieldNaming#FULL} names.
+ * <p>
+ * The encoder class is the raw {@code Map}, so the codec is meant to be set
+ * on particular properties, such as with {@code PropertyModelBuilder.codec},
+ * and must not be added to a {@code CodecRegistry}, where it would be used for
+ * all the {@code Map} values.
+ * <p>
+ * This type is <b>immutable</b>.
+ */
+public final class InstantLongMapAsDocumentCodec
+        implements Codec<Map<Instant, Long>> {
+
+    private final FieldNaming fieldNaming;
+    private final String[]    fieldNames;
+
+    /**
+     * Creates an {@code InstantLongMapAsDocumentCodec} using
+     * the {@link FieldNaming#FULL} names.
+     */
+    public InstantLongMapAsDocumentCodec() {
+        this(FULL);
+    }
+
+    /**
+     * Creates an {@code InstantLongMapAsDocumentCodec} using
+     * the provided names.
+     *
+     * @param fieldNaming not null
+     */
+    public InstantLongMapAsDocumentCodec(FieldNaming fieldNaming) {
+        this.fieldNaming = requireNonNull(fieldNaming, "fieldNaming is null");
+        fieldNames = fieldNames(fieldNaming, FIELD_NAMES);
+    }
+
+    @Override
+    public void encode(
+            BsonWriter writer,
+            Map<Instant, Long> value,
+            EncoderContext encoderContext) {
+
+        requireNonNull(writer, "writer is null");
+        requireNonNull(value, "value is null");
+
+        byte[] timestamps = timestampsBuffer(value.size());
+        byte[] values = new byte[value.size() * WIDTH];
+        int end = 1;
+        int index = 0;
+        long previous = 0L;
+        boolean increasing = true;
+        boolean truncated = false;
+        for (Map.Entry<Instant, Long> entry : value.entrySet()) {
+            Instant instant = requireNonNull(
+                    entry.getKey(), "value contains null key"
+            );
+            Long number = requireNonNull(
+                    entry.getValue(), "value contains null value"
+            );
+            long epochMilli;
+            try {
+                epochMilli = instant.toEpochMilli();
+            }
+            catch (RuntimeException ex) {
+                throw translateEncodeException(instant, ex);
+            }
+            end = putTimestamp(timestamps, end, epochMilli, previous);
+            increasing &= index == 0 || epochMilli > previous;
+            truncated |= instant.getNano() % 1_000_000 != 0;
+            previous = epochMilli;
+            putLongLittleEndian(values, index++ * WIDTH, number);
+        }
+        if (!increasing && truncated) {
+            checkDistinctMillis(value.keySet());
+        }
+        writeColumns(writer, fieldNames, copyOf(timestamps, end), values);
+    }
+
+    /**
+     * Encodes the first {@code length} entries of the provided columns.
+     *
+     * @param writer      not null
+     * @param epochMillis not null, numbers of milliseconds since the epoch
+     * @param values      not null
+     * @param length      not greater than the lengths of the arrays
+     *
+     * @throws BsonInvalidOperationException if any of the numbers of
+     *                                       milliseconds is duplicated
+     */
+    public void encode(
+            BsonWriter writer,
+            long[] epochMillis,
+            long[] values,
+            int length) {
+
+        requireNonNull(writer, "writer is null");
+        requireNonNull(epochMillis, "epochMillis is null");
+        requireNonNull(values, "values is null");
+        if (length < 0 ||
+            length > epochMillis.length ||
+            length > values.length) {
+
+            throw new IllegalArgumentException(format(
+                    "The length %d does not fit arrays of lengths %d and %d",
+                    length, epochMillis.length, values.length
+            ));
+        }
+
+        checkDistinct(epochMillis, length);
+        byte[] timestamps = timestampsBuffer(length);
+        byte[] packedValues = new byte[length * WIDTH];
+        int end = 1;
+        long previous = 0L;
+        for (int i = 0; i < length; i++) {
+            end = putTimestamp(timestamps, end, epochMillis[i], previous);
+            previous = epochMillis[i];
+            putLongLittleEndian(packedValues, i * WIDTH, values[i]);
+        }
+        writeColumns(writer, fieldNames, copyOf(timestamps, end), packedValues);
+    }
+
+    @Override
+    public Map<Instant, Long> decode(
+            BsonReader reader,
+            DecoderContext decoderContext) {
+
+        requireNonNull(reader, "reader is null");
+        byte[][] columns = readColumns(reader, fieldNames);
+        int count = columns[1].length / WIDTH;
+        long[] epochMillis = new long[count];
+        readTimestamps(columns[0], epochMillis, count);
+
+        Map<Instant, Long> value = new LinkedHashMap<>(count * 4 / 3 + 1);
+        for (int i = 0; i < count; i++) {
+            value.put(
+                    Instant.ofEpochMilli(epochMillis[i]),
+                    getLongLittleEndian(columns[1], i * WIDTH)
+            );
+        }
+        return value;
+    }
+
+    /**
+     * Decodes the columns into the provided arrays, starting at their
+     * beginning.
+     *
+     * @param reader      not null
+     * @param epochMillis not null, receives numbers of milliseconds since
+     *                    the epoch
+     * @param values      not null
+     *
+     * @return the number of decoded entries
+     *
+     * @throws BsonInvalidOperationException if any of the arrays is too short
+     *                                       or the timestamps are duplicated
+     */
+    public int decode(
+            BsonReader reader,
+            long[] epochMillis,
+            long[] values) {
+
+        requireNonNull(reader, "reader is null");
+        requireNonNull(epochMillis, "epochMillis is null");
+        requireNonNull(values, "values is null");
+
+        byte[][] columns = readColumns(reader, fieldNames);
+        int count = columns[1].length / WIDTH;
+        checkCapacity(count, epochMillis.length, values.length);
+        readTimestamps(columns[0], epochMillis, count);
+        for (int i = 0; i < count; i++) {
+            values[i] = getLongLittleEndian(columns[1], i * WIDTH);
+        }
+        return count;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<Map<Instant, Long>> getEncoderClass() {
+        return (Class<Map<Instant, Long>>) (Class<?>) Map.class;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) { return true; }
+        if (obj == null || getClass() != obj.getClass()) { return false; }
+
+        InstantLongMapAsDocumentCodec rhs = (InstantLongMapAsDocumentCodec)obj;
+
+        return fieldNaming == rhs.fieldNaming;
+    }
+
+    @Override
+    public int hashCode() {
+        return fieldNaming.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "InstantLongMapAsDocumentCodec[" +
+               "fieldNaming=" + fieldNaming +
+               ']';
+    }
+}
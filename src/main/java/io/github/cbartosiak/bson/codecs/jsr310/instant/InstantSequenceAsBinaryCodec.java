@@ -0,0 +1,239 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.instant;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.MAX_VAR_LONG_LENGTH;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.encodeBuffer;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.getVarLong;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.putVarLong;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readBinaryWithHeader;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateEncodeException;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.unZigZag;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.varLongEnd;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.writePackedBinary;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.zigZag;
+import static java.lang.String.format;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static java.util.Arrays.copyOf;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * <p>
+ * Encodes and decodes {@code List<Instant>} values, such as sequences of
+ * event timestamps, to and from {@code BSON Binary} of the user defined
+ * subtype.
+ * <p>
+ * The values are stored as the difference from the previous value (the
+ * first one from the epoch), written as a zig-zag variable-length number,
+ * so that values which are close to each other take one to three bytes.
+ * The first byte holds the number of fraction digits kept:
+ * <ul>
+ * <li>{@code 3}: each value is a single number of milliseconds;
+ * <li>{@code 6} or {@code 9}: each value is a number of seconds followed by
+ * a number of microseconds or nanoseconds of a second.
+ * </ul>
+ * The values are not required to be ordered, but the more monotonic they
+ * are the smaller the result is. Any of the layouts is decoded regardless of
+ * the precision the codec was created with.
+ * <p>
+ * Note that the precision finer than the chosen one is lost.
+ * <p>
+ * The encoder class is the raw {@code List}, so the codec is meant to be set
+ * on particular properties, such as with {@code PropertyModelBuilder.codec},
+ * and must not be added to a {@code CodecRegistry}, where it would be used for
+ * all the {@code List} values.
+ * <p>
+ * This type is <b>immutable</b>.
+ */
+public final class InstantSequenceAsBinaryCodec
+        implements Codec<List<Instant>> {
+
+    private static final int MILLIS_DIGITS = 3;
+    private static final int MICROS_DIGITS = 6;
+    private static final int NANOS_DIGITS  = 9;
+
+    private final ChronoUnit precision;
+    private final int        digits;
+
+    /**
+     * Creates an {@code InstantSequenceAsBinaryCodec} keeping milliseconds.
+     */
+    public InstantSequenceAsBinaryCodec() {
+        this(MILLIS);
+    }
+
+    /**
+     * Creates an {@code InstantSequenceAsBinaryCodec} keeping the provided
+     * precision.
+     *
+     * @param precision not null, {@code MILLIS}, {@code MICROS} or
+     *                  {@code NANOS}
+     */
+    public InstantSequenceAsBinaryCodec(ChronoUnit precision) {
+        this.precision = requireNonNull(precision, "precision is null");
+        switch (precision) {
+            case MILLIS:
+                digits = MILLIS_DIGITS;
+                break;
+            case MICROS:
+                digits = MICROS_DIGITS;
+                break;
+            case NANOS:
+                digits = NANOS_DIGITS;
+                break;
+            default:
+                throw new IllegalArgumentException(format(
+                        "The precision %s is not supported", precision
+                ));
+        }
+    }
+
+    @Override
+    public void encode(
+            BsonWriter writer,
+            List<Instant> value,
+            EncoderContext encoderContext) {
+
+        requireNonNull(writer, "writer is null");
+        requireNonNull(value, "value is null");
+
+        byte[] buffer =
+                encodeBuffer(1 + value.size() * 2 * MAX_VAR_LONG_LENGTH);
+        buffer[0] = (byte) digits;
+        int end = 1;
+        long previousWhole = 0L;
+        long previousFraction = 0L;
+        for (Instant instant : value) {
+            requireNonNull(instant, "value contains null");
+            if (digits == MILLIS_DIGITS) {
+                long millis;
+                try {
+                    millis = instant.toEpochMilli();
+                }
+                catch (RuntimeException ex) {
+                    throw translateEncodeException(instant, ex);
+                }
+                end = putVarLong(buffer, end, zigZag(millis - previousWhole));
+                previousWhole = millis;
+            }
+            else {
+                long seconds = instant.getEpochSecond();
+                long fraction = digits == MICROS_DIGITS ?
+                                instant.getNano() / 1_000 :
+                                instant.getNano();
+                end = putVarLong(
+                        buffer, end, zigZag(seconds - previousWhole)
+                );
+                end = putVarLong(
+                        buffer, end, zigZag(fraction - previousFraction)
+                );
+                previousWhole = seconds;
+                previousFraction = fraction;
+            }
+        }
+        writePackedBinary(writer, copyOf(buffer, end));
+    }
+
+    @Override
+    public List<Instant> decode(
+            BsonReader reader,
+            DecoderContext decoderContext) {
+
+        requireNonNull(reader, "reader is null");
+        byte[] data = readBinaryWithHeader(reader);
+        int storedDigits = data[0];
+        if (storedDigits != MILLIS_DIGITS &&
+            storedDigits != MICROS_DIGITS &&
+            storedDigits != NANOS_DIGITS) {
+
+            throw new BsonInvalidOperationException(format(
+                    "The precision of %d digits is not supported",
+                    storedDigits
+            ));
+        }
+
+        List<Instant> value = new ArrayList<>();
+        int position = 1;
+        long whole = 0L;
+        long fraction = 0L;
+        while (position < data.length) {
+            int end = varLongEnd(data, position);
+            whole += unZigZag(getVarLong(data, position));
+            position = end;
+            if (storedDigits == MILLIS_DIGITS) {
+                value.add(Instant.ofEpochMilli(whole));
+                continue;
+            }
+            end = varLongEnd(data, position);
+            fraction += unZigZag(getVarLong(data, position));
+            position = end;
+            try {
+                value.add(Instant.ofEpochSecond(
+                        whole,
+                        storedDigits == MICROS_DIGITS ?
+                        fraction * 1_000L :
+                        fraction
+                ));
+            }
+            catch (RuntimeException ex) {
+                throw translateDecodeException(whole, ex);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<List<Instant>> getEncoderClass() {
+        return (Class<List<Instant>>) (Class<?>) List.class;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) { return true; }
+        if (obj == null || getClass() != obj.getClass()) { return false; }
+
+        InstantSequenceAsBinaryCodec rhs = (InstantSequenceAsBinaryCodec)obj;
+
+        return precision == rhs.precision;
+    }
+
+    @Override
+    public int hashCode() {
+        return precision.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "InstantSequenceAsBinaryCodec[" +
+               "precision=" + precision +
+               ']';
+    }
+}
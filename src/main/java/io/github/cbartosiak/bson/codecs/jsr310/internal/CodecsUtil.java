@@ -16,111 +16,668 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.internal;
 
+import static java.lang.Integer.numberOfTrailingZeros;
+import static java.lang.Long.compareUnsigned;
+import static java.lang.Math.addExact;
+import static java.lang.Math.min;
+import static java.lang.Math.multiplyExact;
 import static java.lang.String.format;
-import static org.bson.BsonType.END_OF_DOCUMENT;
+import static java.math.RoundingMode.FLOOR;
+import static org.bson.BsonBinarySubType.USER_DEFINED;
+import static org.bson.BsonType.NULL;
+import static org.bson.types.Decimal128.fromIEEE754BIDEncoding;
 
+import java.math.BigDecimal;
 import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.function.Supplier;
 
+import org.bson.BsonBinary;
 import org.bson.BsonInvalidOperationException;
 import org.bson.BsonReader;
-import org.bson.Document;
-import org.bson.codecs.Decoder;
-import org.bson.codecs.DecoderContext;
+import org.bson.BsonWriter;
+import org.bson.types.Decimal128;
+
+import io.github.cbartosiak.bson.codecs.jsr310.FieldNaming;
+import io.github.cbartosiak.bson.codecs.jsr310.ZeroComponents;
 
 public final class CodecsUtil {
 
+    public static final int MAX_VAR_LONG_LENGTH = 10;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private static final int MAX_CACHED_BUFFER_LENGTH = 64 * 1024;
+
+    private static final ThreadLocal<byte[]> BUFFER =
+            ThreadLocal.withInitial(() -> new byte[1024]);
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L,
+            1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+    };
+
+    private static final int  DECIMAL128_EXPONENT_BIAS     = 6176;
+    private static final int  DECIMAL128_EXPONENT_SHIFT    = 49;
+    private static final long DECIMAL128_EXPONENT_MASK     = 0x3FFFL;
+    private static final long DECIMAL128_SIGN              = 1L << 63;
+    private static final long DECIMAL128_COMBINATION_MASK  = 3L << 61;
+    private static final long DECIMAL128_SIGNIFICAND_MASK  =
+            (1L << DECIMAL128_EXPONENT_SHIFT) - 1L;
+    private static final long UNSIGNED_INT_MASK            = 0xFFFF_FFFFL;
+
+    private static final Map<String, String> COMPACT_FIELD_NAMES =
+            new HashMap<>();
+
+    static {
+        String[][] names = {
+                { "year", "y" }, { "years", "y" },
+                { "month", "M" }, { "months", "M" },
+                { "day", "d" }, { "days", "d" }, { "date", "d" },
+                { "hour", "h" },
+                { "minute", "m" },
+                { "second", "s" }, { "seconds", "s" },
+                { "nano", "n" }, { "nanos", "n" },
+                { "time", "t" }, { "timestamps", "t" },
+                { "dateTime", "dt" },
+                { "offset", "o" },
+                { "zone", "z" },
+                { "instant", "i" },
+                { "values", "v" }
+        };
+        for (String[] name : names) {
+            COMPACT_FIELD_NAMES.put(name[0], name[1]);
+        }
+    }
+
     private CodecsUtil() {}
 
     // Exceptions
 
-    public static <Value> void translateEncodeExceptions(
-            Supplier<Value> valueSupplier,
-            Consumer<Value> valueConsumer) {
+    public static RuntimeException translateEncodeException(
+            Object value,
+            RuntimeException ex) {
 
-        Value value = valueSupplier.get();
-        try {
-            valueConsumer.accept(value);
-        }
-        catch (ArithmeticException |
-                DateTimeException |
-                NumberFormatException ex) {
+        if (ex instanceof ArithmeticException ||
+            ex instanceof DateTimeException ||
+            ex instanceof NumberFormatException) {
 
-            throw new BsonInvalidOperationException(format(
-                    "The value %s is not supported", value
-            ), ex);
+            return unsupportedValue(value, ex);
         }
+        return ex;
     }
 
-    public static <Value, Result> Result translateDecodeExceptions(
-            Supplier<Value> valueSupplier,
-            Function<Value, Result> valueConverter) {
+    public static RuntimeException translateDecodeException(
+            Object value,
+            RuntimeException ex) {
 
-        Value value = valueSupplier.get();
-        try {
-            return valueConverter.apply(value);
-        }
-        catch (ArithmeticException |
-                DateTimeException |
-                IllegalArgumentException ex) {
+        if (ex instanceof ArithmeticException ||
+            ex instanceof DateTimeException ||
+            ex instanceof IllegalArgumentException) {
 
-            throw new BsonInvalidOperationException(format(
-                    "The value %s is not supported", value
-            ), ex);
+            return unsupportedValue(value, ex);
         }
+        return ex;
+    }
+
+    public static BsonInvalidOperationException unsupportedValue(
+            Object value) {
+
+        return unsupportedValue(value, null);
+    }
+
+    private static BsonInvalidOperationException unsupportedValue(
+            Object value,
+            RuntimeException cause) {
+
+        return new BsonInvalidOperationException(format(
+                "The value %s is not supported", value
+        ), cause);
     }
 
     // Document codecs
 
-    public static Document readDocument(
+    /**
+     * Returns the names of the fields of the provided full names, to be
+     * computed once per codec.
+     */
+    public static String[] fieldNames(
+            FieldNaming fieldNaming,
+            String... fullNames) {
+
+        if (fieldNaming == FieldNaming.FULL) {
+            return fullNames.clone();
+        }
+        String[] names = new String[fullNames.length];
+        for (int i = 0; i < fullNames.length; i++) {
+            names[i] = COMPACT_FIELD_NAMES.get(fullNames[i]);
+            if (names[i] == null) {
+                throw new IllegalArgumentException(format(
+                        "The field %s has no compact name", fullNames[i]
+                ));
+            }
+        }
+        return names;
+    }
+
+    public static int readField(
             BsonReader reader,
-            DecoderContext decoderContext,
-            Map<String, Decoder<?>> fieldDecoders) {
-
-        Document document = new Document();
-        reader.readStartDocument();
-        while (reader.readBsonType() != END_OF_DOCUMENT) {
-            String fieldName = reader.readName();
-            if (fieldDecoders.containsKey(fieldName)) {
-                document.put(
-                        fieldName,
-                        fieldDecoders
-                                .get(fieldName)
-                                .decode(reader, decoderContext)
-                );
+            String[] fieldNames,
+            int readFields) {
+
+        String fieldName = reader.readName();
+
+        // The codecs write fields in the order of fieldNames, so a document
+        // they produced always continues with the first field not read yet.
+        int expected = numberOfTrailingZeros(~readFields);
+        if (expected < fieldNames.length &&
+            fieldNames[expected].equals(fieldName)) {
+
+            return checkFieldValue(reader, fieldName, expected);
+        }
+
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (fieldNames[i].equals(fieldName)) {
+                if ((readFields & 1 << i) != 0) {
+                    throw new BsonInvalidOperationException(format(
+                            "The field %s is duplicated", fieldName
+                    ));
+                }
+                return checkFieldValue(reader, fieldName, i);
             }
-            else {
+        }
+        throw new BsonInvalidOperationException(format(
+                "The field %s is not expected here", fieldName
+        ));
+    }
+
+    private static int checkFieldValue(
+            BsonReader reader,
+            String fieldName,
+            int field) {
+
+        if (reader.getCurrentBsonType() == NULL) {
+            throw new BsonInvalidOperationException(format(
+                    "The value of the field %s is null", fieldName
+            ));
+        }
+        return field;
+    }
+
+    public static void checkFields(String[] fieldNames, int readFields) {
+        if (readFields == (1 << fieldNames.length) - 1) {
+            return;
+        }
+        for (int i = 0; i < fieldNames.length; i++) {
+            if ((readFields & 1 << i) == 0) {
                 throw new BsonInvalidOperationException(format(
-                        "The field %s is not expected here", fieldName
+                        "The value of the field %s is null", fieldNames[i]
                 ));
             }
         }
-        reader.readEndDocument();
-        return document;
     }
 
-    public static <Value> Value getFieldValue(
-            Document document,
-            Object key,
-            Class<Value> clazz) {
+    /**
+     * Checks that all the fields have been read, unless the missing
+     * components are decoded as zero.
+     */
+    public static void checkFields(
+            String[] fieldNames,
+            int readFields,
+            ZeroComponents zeroComponents) {
 
-        try {
-            Value value = document.get(key, clazz);
-            if (value == null) {
-                throw new BsonInvalidOperationException(format(
-                        "The value of the field %s is null", key
+        if (zeroComponents == ZeroComponents.REQUIRED) {
+            checkFields(fieldNames, readFields);
+        }
+    }
+
+    /**
+     * Writes the component, unless it is zero and such components are
+     * omitted.
+     */
+    public static void writeComponent(
+            BsonWriter writer,
+            String fieldName,
+            int value,
+            ZeroComponents zeroComponents) {
+
+        if (value != 0 || zeroComponents == ZeroComponents.REQUIRED) {
+            writer.writeInt32(fieldName, value);
+        }
+    }
+
+    /**
+     * Writes the component, unless it is zero and such components are
+     * omitted.
+     */
+    public static void writeComponent(
+            BsonWriter writer,
+            String fieldName,
+            long value,
+            ZeroComponents zeroComponents) {
+
+        if (value != 0L || zeroComponents == ZeroComponents.REQUIRED) {
+            writer.writeInt64(fieldName, value);
+        }
+    }
+
+    public static BsonInvalidOperationException unsupportedDocument(
+            String[] fieldNames,
+            Object[] fieldValues,
+            RuntimeException cause) {
+
+        StringBuilder document = new StringBuilder("{ ");
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (i > 0) {
+                document.append(", ");
+            }
+            document.append(fieldNames[i])
+                    .append(": ")
+                    .append(fieldValues[i]);
+        }
+        document.append(" }");
+
+        return unsupportedValue(document, cause);
+    }
+
+    // Epoch
+
+    /**
+     * Returns the same number of milliseconds as
+     * {@code Instant.ofEpochSecond(epochSecond, nano).toEpochMilli()}.
+     *
+     * @throws ArithmeticException if the result overflows a long
+     */
+    public static long toEpochMilli(long epochSecond, int nano) {
+        return toEpochUnits(epochSecond, nano, 1_000L);
+    }
+
+    /**
+     * Returns the number of units since the epoch of the provided time,
+     * rounded towards negative infinity the same way as
+     * {@link #toEpochMilli(long, int)}.
+     *
+     * @param unitsPerSecond a divisor of {@code 1_000_000_000}
+     *
+     * @throws ArithmeticException if the result overflows a long
+     */
+    public static long toEpochUnits(
+            long epochSecond,
+            int nano,
+            long unitsPerSecond) {
+
+        long nanosPerUnit = NANOS_PER_SECOND / unitsPerSecond;
+        if (epochSecond < 0L && nano > 0) {
+            return addExact(
+                    multiplyExact(epochSecond + 1L, unitsPerSecond),
+                    nano / nanosPerUnit - unitsPerSecond
+            );
+        }
+        return addExact(
+                multiplyExact(epochSecond, unitsPerSecond),
+                nano / nanosPerUnit
+        );
+    }
+
+    /**
+     * Returns the number of the provided units in a second.
+     *
+     * @throws IllegalArgumentException if the unit is neither
+     *                                  {@code MICROS} nor {@code NANOS}
+     */
+    public static long epochUnitsPerSecond(ChronoUnit unit) {
+        switch (unit) {
+            case MICROS:
+                return 1_000_000L;
+            case NANOS:
+                return NANOS_PER_SECOND;
+            default:
+                throw new IllegalArgumentException(format(
+                        "The unit %s is not supported", unit
                 ));
+        }
+    }
+
+    // Decimal128
+
+    /**
+     * Returns the {@code Decimal128} value of {@code integral.fraction},
+     * where {@code fraction} has exactly {@code scale} digits, that is
+     * the same value {@code Decimal128.parse} returns for such a string.
+     * The sign is taken from {@code integral} only.
+     */
+    public static Decimal128 toDecimal128(
+            long integral,
+            long fraction,
+            int scale) {
+
+        return toDecimal128(
+                integral < 0L,
+                integral < 0L ? -integral : integral,
+                fraction,
+                scale
+        );
+    }
+
+    /**
+     * Returns the {@code Decimal128} value of the number of seconds since
+     * the epoch of the provided time, with exactly nine fraction digits,
+     * such as {@code -0.500000000} for {@code ofEpochSecond(-1, 500_000_000)}.
+     * Unlike {@link #toDecimal128(long, long, int)} the result is always
+     * the exact value, so such values are ordered the same way as the times.
+     */
+    public static Decimal128 epochToDecimal128(long epochSecond, int nano) {
+        if (epochSecond < 0L && nano > 0) {
+            return toDecimal128(
+                    true, -(epochSecond + 1L), NANOS_PER_SECOND - nano, 9
+            );
+        }
+        return toDecimal128(epochSecond, nano, 9);
+    }
+
+    /**
+     * Returns the time of the number of seconds since the epoch, rounded
+     * towards negative infinity to nanoseconds.
+     *
+     * @throws ArithmeticException if the value is not finite or
+     *                             the number of seconds overflows a long
+     * @throws DateTimeException   if the value exceeds {@code Instant}
+     */
+    public static Instant epochFromDecimal128(Decimal128 value) {
+        return epochFromDecimal128(value, Instant::ofEpochSecond);
+    }
+
+    /**
+     * Creates the time of the number of seconds since the epoch, rounded
+     * towards negative infinity to nanoseconds, using the provided factory.
+     *
+     * @throws ArithmeticException if the value is not finite or
+     *                             the number of seconds overflows a long
+     */
+    public static <T> T epochFromDecimal128(
+            Decimal128 value,
+            EpochFactory<T> factory) {
+
+        if (hasScale(value, 9)) {
+            long integral = integralPart(value, 9);
+            long fraction = fractionPart(value, 9);
+            if (value.isNegative() && fraction > 0L) {
+                return factory.of(integral - 1L, NANOS_PER_SECOND - fraction);
             }
-            return value;
+            return factory.of(integral, fraction);
         }
-        catch (ClassCastException ex) {
-            throw new BsonInvalidOperationException(format(
-                    "The value of the field %s is not of the type %s",
-                    key, clazz.getName()
-            ), ex);
+        BigDecimal bigDecimal = value.bigDecimalValue();
+        BigDecimal seconds = bigDecimal.setScale(0, FLOOR);
+        return factory.of(
+                seconds.longValueExact(),
+                bigDecimal.subtract(seconds).movePointRight(9).longValue()
+        );
+    }
+
+    private static Decimal128 toDecimal128(
+            boolean negative,
+            long magnitude,
+            long fraction,
+            int scale) {
+
+        long multiplier = POWERS_OF_TEN[scale];
+
+        // magnitude * multiplier + fraction as an unsigned 128-bit number
+        long lowProduct = (magnitude & UNSIGNED_INT_MASK) * multiplier;
+        long highProduct = (magnitude >>> 32) * multiplier;
+        long low = lowProduct + (highProduct << 32);
+        long high = (highProduct >>> 32) +
+                    (compareUnsigned(low, lowProduct) < 0 ? 1L : 0L);
+        long sum = low + fraction;
+        high += compareUnsigned(sum, low) < 0 ? 1L : 0L;
+
+        high |= (long) (DECIMAL128_EXPONENT_BIAS - scale) <<
+                DECIMAL128_EXPONENT_SHIFT;
+        if (negative) {
+            high |= DECIMAL128_SIGN;
         }
+        return fromIEEE754BIDEncoding(high, sum);
+    }
+
+    /**
+     * Returns whether the value is a finite {@code Decimal128} with exactly
+     * {@code scale} fraction digits, in which case it can be split with
+     * {@link #integralPart} and {@link #fractionPart}.
+     */
+    public static boolean hasScale(Decimal128 value, int scale) {
+        long high = value.getHigh();
+        return (high & DECIMAL128_COMBINATION_MASK) !=
+               DECIMAL128_COMBINATION_MASK &&
+               (high >>> DECIMAL128_EXPONENT_SHIFT &
+                DECIMAL128_EXPONENT_MASK) ==
+               DECIMAL128_EXPONENT_BIAS - scale;
+    }
+
+    /**
+     * Returns the integral part of the value, which has to satisfy
+     * {@link #hasScale}.
+     *
+     * @throws ArithmeticException if the integral part overflows a long
+     */
+    public static long integralPart(Decimal128 value, int scale) {
+        long magnitude = divideSignificand(value, scale, false);
+        if (value.isNegative()) {
+            if (compareUnsigned(magnitude, Long.MIN_VALUE) > 0) {
+                throw new ArithmeticException("long overflow");
+            }
+            return -magnitude;
+        }
+        if (magnitude < 0L) {
+            throw new ArithmeticException("long overflow");
+        }
+        return magnitude;
+    }
+
+    /**
+     * Returns the digits of the fraction part of the value, which has to
+     * satisfy {@link #hasScale}, regardless of its sign.
+     */
+    public static long fractionPart(Decimal128 value, int scale) {
+        return divideSignificand(value, scale, true);
+    }
+
+    private static long divideSignificand(
+            Decimal128 value,
+            int scale,
+            boolean remainder) {
+
+        long high = value.getHigh() & DECIMAL128_SIGNIFICAND_MASK;
+        long low = value.getLow();
+        long divisor = POWERS_OF_TEN[scale];
+
+        // Long division by 32-bit limbs, the divisor fits in 31 bits
+        long current = high >>> 32;
+        long quotient3 = current / divisor;
+        current = current % divisor << 32 | high & UNSIGNED_INT_MASK;
+        long quotient2 = current / divisor;
+        current = current % divisor << 32 | low >>> 32;
+        long quotient1 = current / divisor;
+        current = current % divisor << 32 | low & UNSIGNED_INT_MASK;
+        long quotient0 = current / divisor;
+
+        if (remainder) {
+            return current % divisor;
+        }
+        if (quotient3 != 0L || quotient2 != 0L) {
+            throw new ArithmeticException("long overflow");
+        }
+        return quotient1 << 32 | quotient0;
+    }
+
+    // Binary
+
+    /**
+     * Returns a buffer of at least the provided length, to be copied out of
+     * before the next call on the same thread. The buffers of up to 64 KiB
+     * are reused by the thread, the longer ones are created on each call so
+     * that encoding a single large value does not keep its buffer alive.
+     */
+    public static byte[] encodeBuffer(int length) {
+        if (length > MAX_CACHED_BUFFER_LENGTH) {
+            return new byte[length];
+        }
+        byte[] buffer = BUFFER.get();
+        if (buffer.length < length) {
+            buffer = new byte[length];
+            BUFFER.set(buffer);
+        }
+        return buffer;
+    }
+
+    /**
+     * Reads a {@code BSON Binary} of the user defined subtype starting with
+     * a header byte.
+     *
+     * @throws BsonInvalidOperationException if the subtype is not expected or
+     *                                       the header is missing
+     */
+    public static byte[] readBinaryWithHeader(BsonReader reader) {
+        BsonBinary binary = reader.readBinaryData();
+        byte[] data = binary.getData();
+        if (binary.getType() != USER_DEFINED.getValue() || data.length == 0) {
+            throw unsupportedBinary(binary.getType(), data.length);
+        }
+        return data;
+    }
+
+    /**
+     * Reads a {@code BSON Binary} of the user defined subtype holding
+     * fixed-width values.
+     *
+     * @throws BsonInvalidOperationException if the subtype or the length is
+     *                                       not expected
+     */
+    public static byte[] readPackedBinary(BsonReader reader, int width) {
+        BsonBinary binary = reader.readBinaryData();
+        byte[] data = binary.getData();
+        if (binary.getType() != USER_DEFINED.getValue() ||
+            data.length % width != 0) {
+
+            throw unsupportedBinary(binary.getType(), data.length);
+        }
+        return data;
+    }
+
+    private static BsonInvalidOperationException unsupportedBinary(
+            byte type,
+            int length) {
+
+        return new BsonInvalidOperationException(format(
+                "The binary value of subtype %d and length %d " +
+                "is not supported",
+                type, length
+        ));
+    }
+
+    public static void writePackedBinary(BsonWriter writer, byte[] data) {
+        writer.writeBinaryData(new BsonBinary(USER_DEFINED, data));
+    }
+
+    public static void putIntLittleEndian(byte[] data, int index, int value) {
+        data[index] = (byte) value;
+        data[index + 1] = (byte) (value >>> 8);
+        data[index + 2] = (byte) (value >>> 16);
+        data[index + 3] = (byte) (value >>> 24);
+    }
+
+    public static int getIntLittleEndian(byte[] data, int index) {
+        return data[index] & 0xFF |
+               (data[index + 1] & 0xFF) << 8 |
+               (data[index + 2] & 0xFF) << 16 |
+               data[index + 3] << 24;
+    }
+
+    public static void putLongLittleEndian(
+            byte[] data,
+            int index,
+            long value) {
+
+        putIntLittleEndian(data, index, (int) value);
+        putIntLittleEndian(data, index + 4, (int) (value >>> 32));
+    }
+
+    public static long getLongLittleEndian(byte[] data, int index) {
+        return getIntLittleEndian(data, index) & UNSIGNED_INT_MASK |
+               (long) getIntLittleEndian(data, index + 4) << 32;
+    }
+
+    public static long zigZag(long value) {
+        return value << 1 ^ value >> 63;
+    }
+
+    public static long unZigZag(long value) {
+        return value >>> 1 ^ -(value & 1L);
+    }
+
+    /**
+     * Writes a variable-length number, 7 bits per byte starting from
+     * the least significant ones, with the highest bit set in all the bytes
+     * but the last one.
+     *
+     * @return the end of the number
+     */
+    public static int putVarLong(byte[] data, int index, long value) {
+        int position = index;
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0L) {
+            data[position++] = (byte) (remaining | 0x80L);
+            remaining >>>= 7;
+        }
+        data[position++] = (byte) remaining;
+        return position;
+    }
+
+    /**
+     * Returns the end of a variable-length number written by
+     * {@link #putVarLong(byte[], int, long)}.
+     *
+     * @throws BsonInvalidOperationException if the number is truncated or
+     *                                       longer than 10 bytes
+     */
+    public static int varLongEnd(byte[] data, int index) {
+        int limit = min(data.length, index + MAX_VAR_LONG_LENGTH);
+        for (int position = index; position < limit; position++) {
+            if (data[position] >= 0) {
+                return position + 1;
+            }
+        }
+        throw unsupportedBinary(USER_DEFINED.getValue(), data.length);
+    }
+
+    /**
+     * Reads a variable-length number which ends at
+     * {@link #varLongEnd(byte[], int)}.
+     */
+    public static long getVarLong(byte[] data, int index) {
+        long value = 0L;
+        int shift = 0;
+        int position = index;
+        byte current;
+        do {
+            current = data[position++];
+            value |= (current & 0x7FL) << shift;
+            shift += 7;
+        }
+        while (current < 0);
+        return value;
+    }
+
+    /**
+     * Creates times of numbers of seconds since the epoch.
+     */
+    @FunctionalInterface
+    public interface EpochFactory<T> {
+
+        /**
+         * @param nano from {@code 0} to {@code 999_999_999}
+         */
+        T of(long epochSecond, long nano);
     }
 }
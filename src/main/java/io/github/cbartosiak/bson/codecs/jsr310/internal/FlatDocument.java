@@ -0,0 +1,156 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.internal;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.checkFields;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readField;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.unsupportedDocument;
+import static org.bson.BsonType.END_OF_DOCUMENT;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+
+/**
+ * <p>
+ * Writes and reads the documents of the {@code XxxAsFlatDocumentCodec}
+ * classes, which store all the components of a value as sibling fields of
+ * a single document, such as
+ * {@code { year: 2018, month: 1, day: 2, hour: 10, minute: 15, second: 30,
+ * nano: 0, offset: 3600 }}.
+ * <p>
+ * All the fields are {@code Int32} values, except for the last field of
+ * a layout which may be a {@code String} one (the zone ID). The fields are
+ * read in a single pass over the document, without any nested readers.
+ * <p>
+ * The layouts below have the full names, the codecs derive their names from
+ * them once, according to their {@code FieldNaming}.
+ */
+public final class FlatDocument {
+
+    public static final String[] DATE_TIME_FIELD_NAMES = {
+            "year", "month", "day", "hour", "minute", "second", "nano"
+    };
+
+    public static final String[] OFFSET_DATE_TIME_FIELD_NAMES = {
+            "year", "month", "day", "hour", "minute", "second", "nano",
+            "offset"
+    };
+
+    public static final String[] ZONED_DATE_TIME_FIELD_NAMES = {
+            "year", "month", "day", "hour", "minute", "second", "nano",
+            "offset", "zone"
+    };
+
+    public static final String[] OFFSET_TIME_FIELD_NAMES = {
+            "hour", "minute", "second", "nano", "offset"
+    };
+
+    private FlatDocument() {}
+
+    /**
+     * Writes the fields of the date-time, named as the first seven of
+     * the provided names, without starting a document.
+     */
+    public static void writeDateTime(
+            BsonWriter writer,
+            String[] fieldNames,
+            LocalDateTime value) {
+
+        writer.writeInt32(fieldNames[0], value.getYear());
+        writer.writeInt32(fieldNames[1], value.getMonthValue());
+        writer.writeInt32(fieldNames[2], value.getDayOfMonth());
+        writeTime(writer, fieldNames, 3, value.toLocalTime());
+    }
+
+    /**
+     * Writes the fields of the time, named as the four of the provided names
+     * starting at {@code first}, without starting a document.
+     */
+    public static void writeTime(
+            BsonWriter writer,
+            String[] fieldNames,
+            int first,
+            LocalTime value) {
+
+        writer.writeInt32(fieldNames[first], value.getHour());
+        writer.writeInt32(fieldNames[first + 1], value.getMinute());
+        writer.writeInt32(fieldNames[first + 2], value.getSecond());
+        writer.writeInt32(fieldNames[first + 3], value.getNano());
+    }
+
+    /**
+     * Reads a document of the provided fields, the {@code Int32} ones into
+     * {@code values} at the indices of their names.
+     *
+     * @param fieldNames the names of {@code values.length} {@code Int32}
+     *                   fields, optionally followed by the name of
+     *                   a {@code String} field
+     *
+     * @return the value of the {@code String} field or {@code null} if
+     *         there is no such field
+     *
+     * @throws BsonInvalidOperationException if any field is missing, is
+     *                                       duplicated or is not expected
+     */
+    public static String readFlatDocument(
+            BsonReader reader,
+            String[] fieldNames,
+            int[] values) {
+
+        String string = null;
+        int readFields = 0;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != END_OF_DOCUMENT) {
+            int field = readField(reader, fieldNames, readFields);
+            readFields |= 1 << field;
+            if (field < values.length) {
+                values[field] = reader.readInt32();
+            }
+            else {
+                string = reader.readString();
+            }
+        }
+        reader.readEndDocument();
+        checkFields(fieldNames, readFields);
+        return string;
+    }
+
+    /**
+     * Describes the read document in the message of an exception thrown
+     * when its values do not make a valid value.
+     */
+    public static BsonInvalidOperationException unsupportedFlatDocument(
+            String[] fieldNames,
+            int[] values,
+            String string,
+            RuntimeException cause) {
+
+        Object[] fieldValues = new Object[fieldNames.length];
+        for (int i = 0; i < values.length; i++) {
+            fieldValues[i] = values[i];
+        }
+        if (fieldNames.length > values.length) {
+            fieldValues[values.length] = string;
+        }
+        return unsupportedDocument(fieldNames, fieldValues, cause);
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.internal;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * <p>
+ * Formats the {@code java.time} types exactly as their {@code toString()}
+ * methods do, but writes the text into a reusable per-thread buffer instead
+ * of going through {@code StringBuilder} and {@code DateTimeFormatter}
+ * instances. The only allocation is the resulting string.
+ */
+public final class IsoFormatter {
+
+    private static final int DATE_TIME_LENGTH = 48;
+
+    private static final long SECONDS_PER_DAY   = 86_400L;
+    private static final long DAYS_PER_CYCLE    = 146_097L;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+
+    private static final ThreadLocal<char[]> BUFFER =
+            ThreadLocal.withInitial(() -> new char[DATE_TIME_LENGTH]);
+
+    private IsoFormatter() {}
+
+    public static String formatLocalDate(LocalDate value) {
+        char[] buffer = buffer(DATE_TIME_LENGTH);
+        int end = date(
+                buffer,
+                0,
+                value.getYear(),
+                value.getMonthValue(),
+                value.getDayOfMonth()
+        );
+        return new String(buffer, 0, end);
+    }
+
+    public static String formatLocalTime(LocalTime value) {
+        char[] buffer = buffer(DATE_TIME_LENGTH);
+        int end = time(buffer, 0, value);
+        return new String(buffer, 0, end);
+    }
+
+    public static String formatLocalDateTime(LocalDateTime value) {
+        char[] buffer = buffer(DATE_TIME_LENGTH);
+        int end = dateTime(buffer, 0, value);
+        return new String(buffer, 0, end);
+    }
+
+    public static String formatOffsetTime(OffsetTime value) {
+        char[] buffer = buffer(DATE_TIME_LENGTH);
+        int end = time(buffer, 0, value.toLocalTime());
+        end = id(buffer, end, value.getOffset().getId());
+        return new String(buffer, 0, end);
+    }
+
+    public static String formatOffsetDateTime(OffsetDateTime value) {
+        char[] buffer = buffer(DATE_TIME_LENGTH);
+        int end = dateTime(buffer, 0, value.toLocalDateTime());
+        end = id(buffer, end, value.getOffset().getId());
+        return new String(buffer, 0, end);
+    }
+
+    public static String formatZonedDateTime(ZonedDateTime value) {
+        ZoneOffset offset = value.getOffset();
+        ZoneId zone = value.getZone();
+        String zoneId = offset == zone ? null : zone.getId();
+
+        char[] buffer = buffer(
+                zoneId == null ?
+                DATE_TIME_LENGTH :
+                DATE_TIME_LENGTH + zoneId.length() + 2
+        );
+        int end = dateTime(buffer, 0, value.toLocalDateTime());
+        end = id(buffer, end, offset.getId());
+        if (zoneId != null) {
+            buffer[end++] = '[';
+            end = id(buffer, end, zoneId);
+            buffer[end++] = ']';
+        }
+        return new String(buffer, 0, end);
+    }
+
+    /**
+     * The same as {@link Instant#toString()}, which always contains seconds
+     * and is not limited to the {@code LocalDateTime} range of years.
+     */
+    public static String formatInstant(Instant value) {
+        long epochSecond = value.getEpochSecond();
+        long epochDay = floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) floorMod(epochSecond, SECONDS_PER_DAY);
+
+        // The same as LocalDate.ofEpochDay(long), without range checks
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60L;
+        long adjust = 0L;
+        if (zeroDay < 0L) {
+            long adjustCycles = (zeroDay + 1L) / DAYS_PER_CYCLE - 1L;
+            adjust = adjustCycles * 400L;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        long year = (400L * zeroDay + 591L) / DAYS_PER_CYCLE;
+        long dayOfYear = zeroDay - dayOfCycle(year);
+        if (dayOfYear < 0L) {
+            year--;
+            dayOfYear = zeroDay - dayOfCycle(year);
+        }
+        int marchMonth = ((int) dayOfYear * 5 + 2) / 153;
+        int month = (marchMonth + 2) % 12 + 1;
+        int day = (int) dayOfYear - (marchMonth * 306 + 5) / 10 + 1;
+        year += adjust + marchMonth / 10;
+
+        char[] buffer = buffer(DATE_TIME_LENGTH);
+        int end = date(buffer, 0, year, month, day);
+        buffer[end++] = 'T';
+        end = twoDigits(buffer, end, secondOfDay / 3600);
+        buffer[end++] = ':';
+        end = twoDigits(buffer, end, secondOfDay / 60 % 60);
+        buffer[end++] = ':';
+        end = twoDigits(buffer, end, secondOfDay % 60);
+        end = fraction(buffer, end, value.getNano());
+        buffer[end++] = 'Z';
+        return new String(buffer, 0, end);
+    }
+
+    private static char[] buffer(int length) {
+        char[] buffer = BUFFER.get();
+        if (buffer.length < length) {
+            buffer = new char[length];
+            BUFFER.set(buffer);
+        }
+        return buffer;
+    }
+
+    // Parts, returning the end of the part
+
+    private static int date(
+            char[] buffer,
+            int start,
+            long year,
+            int month,
+            int day) {
+
+        int position = start;
+        if (year > -1000L && year < 1000L) {
+            if (year < 0L) {
+                buffer[position++] = '-';
+            }
+            position = digits(buffer, position, abs(year), 4);
+        }
+        else {
+            if (year > 9999L) {
+                buffer[position++] = '+';
+            }
+            else if (year < 0L) {
+                buffer[position++] = '-';
+            }
+            position = number(buffer, position, abs(year));
+        }
+        buffer[position++] = '-';
+        position = twoDigits(buffer, position, month);
+        buffer[position++] = '-';
+        return twoDigits(buffer, position, day);
+    }
+
+    private static int time(char[] buffer, int start, LocalTime value) {
+        int second = value.getSecond();
+        int nano = value.getNano();
+
+        int position = twoDigits(buffer, start, value.getHour());
+        buffer[position++] = ':';
+        position = twoDigits(buffer, position, value.getMinute());
+        if (second > 0 || nano > 0) {
+            buffer[position++] = ':';
+            position = twoDigits(buffer, position, second);
+            position = fraction(buffer, position, nano);
+        }
+        return position;
+    }
+
+    private static int dateTime(
+            char[] buffer,
+            int start,
+            LocalDateTime value) {
+
+        int position = date(
+                buffer,
+                start,
+                value.getYear(),
+                value.getMonthValue(),
+                value.getDayOfMonth()
+        );
+        buffer[position++] = 'T';
+        return time(buffer, position, value.toLocalTime());
+    }
+
+    /**
+     * Writes nothing for zero and three, six or nine digits otherwise.
+     */
+    private static int fraction(char[] buffer, int start, int nano) {
+        if (nano == 0) {
+            return start;
+        }
+        buffer[start] = '.';
+        if (nano % 1_000_000 == 0) {
+            return digits(buffer, start + 1, nano / 1_000_000, 3);
+        }
+        if (nano % 1_000 == 0) {
+            return digits(buffer, start + 1, nano / 1_000, 6);
+        }
+        return digits(buffer, start + 1, nano, 9);
+    }
+
+    private static int id(char[] buffer, int start, String id) {
+        int length = id.length();
+        id.getChars(0, length, buffer, start);
+        return start + length;
+    }
+
+    // Numbers
+
+    private static int twoDigits(char[] buffer, int start, int value) {
+        buffer[start] = (char) ('0' + value / 10);
+        buffer[start + 1] = (char) ('0' + value % 10);
+        return start + 2;
+    }
+
+    private static int digits(
+            char[] buffer,
+            int start,
+            long value,
+            int count) {
+
+        long remaining = value;
+        for (int i = start + count - 1; i >= start; i--) {
+            buffer[i] = (char) ('0' + remaining % 10L);
+            remaining /= 10L;
+        }
+        return start + count;
+    }
+
+    private static int number(char[] buffer, int start, long value) {
+        int count = 1;
+        for (long remaining = value / 10L; remaining > 0L; remaining /= 10L) {
+            count++;
+        }
+        return digits(buffer, start, value, count);
+    }
+
+    private static long dayOfCycle(long year) {
+        return 365L * year + year / 4L - year / 100L + year / 400L;
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.internal;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.ZoneIdCache.zoneId;
+import static java.lang.Math.min;
+import static java.time.ZoneOffset.UTC;
+import static java.time.ZoneOffset.ofTotalSeconds;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * <p>
+ * Parses the {@code ISO-8601} layouts produced by the {@code toString()}
+ * methods of the {@code java.time} types without going through
+ * {@code DateTimeFormatter}.
+ * <p>
+ * Only dates with four digit years, upper case {@code T} and {@code Z}
+ * designators and valid field values are handled directly. Any other text
+ * is passed to the corresponding {@code parse} method, so the results and
+ * the exceptions thrown are the same as theirs.
+ */
+public final class IsoParser {
+
+    private static final int[] FRACTION_MULTIPLIERS = {
+            100_000_000, 10_000_000, 1_000_000, 100_000, 10_000,
+            1_000, 100, 10, 1
+    };
+
+    private static final int DATE_LENGTH        = 10;
+    private static final int HOURS_MINUTES_END  = 5;
+    private static final int SECONDS_END        = 8;
+    private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+
+    private IsoParser() {}
+
+    public static LocalDate parseLocalDate(String text) {
+        if (text.length() == DATE_LENGTH && isDate(text, 0)) {
+            return localDate(text, 0);
+        }
+        return LocalDate.parse(text);
+    }
+
+    public static LocalTime parseLocalTime(String text) {
+        int end = timeEnd(text, 0);
+        if (end == text.length()) {
+            return localTime(text, 0, end);
+        }
+        return LocalTime.parse(text);
+    }
+
+    public static LocalDateTime parseLocalDateTime(String text) {
+        int end = dateTimeEnd(text, 0);
+        if (end == text.length()) {
+            return localDateTime(text, 0, end);
+        }
+        return LocalDateTime.parse(text);
+    }
+
+    public static OffsetTime parseOffsetTime(String text) {
+        int end = timeEnd(text, 0);
+        if (end >= 0 && offsetEnd(text, end) == text.length()) {
+            return OffsetTime.of(
+                    localTime(text, 0, end),
+                    offset(text, end)
+            );
+        }
+        return OffsetTime.parse(text);
+    }
+
+    public static OffsetDateTime parseOffsetDateTime(String text) {
+        int end = dateTimeEnd(text, 0);
+        if (end >= 0 && offsetEnd(text, end) == text.length()) {
+            return OffsetDateTime.of(
+                    localDateTime(text, 0, end),
+                    offset(text, end)
+            );
+        }
+        return OffsetDateTime.parse(text);
+    }
+
+    public static ZonedDateTime parseZonedDateTime(String text) {
+        int length = text.length();
+        int end = dateTimeEnd(text, 0);
+        int offsetEnd = end >= 0 ? offsetEnd(text, end) : -1;
+        if (offsetEnd == length) {
+            ZoneOffset offset = offset(text, end);
+            return ZonedDateTime.ofInstant(
+                    localDateTime(text, 0, end),
+                    offset,
+                    offset
+            );
+        }
+        if (offsetEnd >= 0 &&
+            length - offsetEnd > 2 &&
+            text.charAt(offsetEnd) == '[' &&
+            text.charAt(length - 1) == ']') {
+
+            return ZonedDateTime.ofInstant(
+                    localDateTime(text, 0, end),
+                    offset(text, end),
+                    zoneId(text.substring(offsetEnd + 1, length - 1))
+            );
+        }
+        return ZonedDateTime.parse(text);
+    }
+
+    public static Instant parseInstant(String text) {
+        int timeStart = DATE_LENGTH + 1;
+        int end = dateTimeEnd(text, 0);
+        if (end - timeStart >= SECONDS_END &&
+            end == text.length() - 1 &&
+            text.charAt(end) == 'Z') {
+
+            long epochDay = epochDay(
+                    digits(text, 0, 4),
+                    digits(text, 5, 2),
+                    digits(text, 8, 2)
+            );
+            long secondOfDay = digits(text, timeStart, 2) * 3600L +
+                               digits(text, timeStart + 3, 2) * 60L +
+                               digits(text, timeStart + 6, 2);
+            return Instant.ofEpochSecond(
+                    epochDay * SECONDS_PER_DAY + secondOfDay,
+                    nano(text, timeStart, end)
+            );
+        }
+        return Instant.parse(text);
+    }
+
+    // Syntax, returning the end of the part or -1 if it is not recognized
+
+    private static boolean isDate(CharSequence text, int start) {
+        if (text.length() < start + DATE_LENGTH ||
+            text.charAt(start + 4) != '-' ||
+            text.charAt(start + 7) != '-') {
+
+            return false;
+        }
+        int year = digits(text, start, 4);
+        int month = digits(text, start + 5, 2);
+        int day = digits(text, start + 8, 2);
+        return year >= 0 &&
+               month >= 1 && month <= 12 &&
+               day >= 1 && day <= monthLength(year, month);
+    }
+
+    private static int timeEnd(CharSequence text, int start) {
+        int length = text.length();
+        if (length < start + HOURS_MINUTES_END ||
+            text.charAt(start + 2) != ':') {
+
+            return -1;
+        }
+        int hour = digits(text, start, 2);
+        int minute = digits(text, start + 3, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return -1;
+        }
+        int position = start + HOURS_MINUTES_END;
+        if (position == length || text.charAt(position) != ':') {
+            return position;
+        }
+        if (length < start + SECONDS_END) {
+            return -1;
+        }
+        int second = digits(text, position + 1, 2);
+        if (second < 0 || second > 59) {
+            return -1;
+        }
+        position = start + SECONDS_END;
+        if (position == length || text.charAt(position) != '.') {
+            return position;
+        }
+        int fractionStart = ++position;
+        int fractionEnd = min(length, fractionStart + 9);
+        while (position < fractionEnd && isDigit(text.charAt(position))) {
+            position++;
+        }
+        return position > fractionStart ? position : -1;
+    }
+
+    private static int dateTimeEnd(CharSequence text, int start) {
+        if (!isDate(text, start) ||
+            text.length() <= start + DATE_LENGTH ||
+            text.charAt(start + DATE_LENGTH) != 'T') {
+
+            return -1;
+        }
+        return timeEnd(text, start + DATE_LENGTH + 1);
+    }
+
+    private static int offsetEnd(CharSequence text, int start) {
+        int length = text.length();
+        if (start >= length) {
+            return -1;
+        }
+        char sign = text.charAt(start);
+        if (sign == 'Z') {
+            return start + 1;
+        }
+        if (sign != '+' && sign != '-' ||
+            length < start + 6 ||
+            text.charAt(start + 3) != ':') {
+
+            return -1;
+        }
+        int hours = digits(text, start + 1, 2);
+        int minutes = digits(text, start + 4, 2);
+        int seconds = 0;
+        int position = start + 6;
+        if (position < length && text.charAt(position) == ':') {
+            seconds = length < position + 3 ?
+                      -1 :
+                      digits(text, position + 1, 2);
+            position += 3;
+        }
+        if (hours < 0 ||
+            minutes < 0 || minutes > 59 ||
+            seconds < 0 || seconds > 59 ||
+            hours * 3600 + minutes * 60 + seconds > MAX_OFFSET_SECONDS) {
+
+            return -1;
+        }
+        return position;
+    }
+
+    // Values of the parts already recognized
+
+    private static LocalDate localDate(CharSequence text, int start) {
+        return LocalDate.of(
+                digits(text, start, 4),
+                digits(text, start + 5, 2),
+                digits(text, start + 8, 2)
+        );
+    }
+
+    private static LocalTime localTime(CharSequence text, int start, int end) {
+        return LocalTime.of(
+                digits(text, start, 2),
+                digits(text, start + 3, 2),
+                end - start >= SECONDS_END ? digits(text, start + 6, 2) : 0,
+                nano(text, start, end)
+        );
+    }
+
+    private static LocalDateTime localDateTime(
+            CharSequence text,
+            int start,
+            int end) {
+
+        return LocalDateTime.of(
+                localDate(text, start),
+                localTime(text, start + DATE_LENGTH + 1, end)
+        );
+    }
+
+    private static ZoneOffset offset(CharSequence text, int start) {
+        char sign = text.charAt(start);
+        if (sign == 'Z') {
+            return UTC;
+        }
+        int totalSeconds = digits(text, start + 1, 2) * 3600 +
+                           digits(text, start + 4, 2) * 60;
+        if (text.length() > start + 6 && text.charAt(start + 6) == ':') {
+            totalSeconds += digits(text, start + 7, 2);
+        }
+        return ofTotalSeconds(sign == '-' ? -totalSeconds : totalSeconds);
+    }
+
+    private static int nano(CharSequence text, int timeStart, int timeEnd) {
+        int fractionStart = timeStart + SECONDS_END + 1;
+        int digits = timeEnd - fractionStart;
+        if (digits <= 0) {
+            return 0;
+        }
+        return digits(text, fractionStart, digits) *
+               FRACTION_MULTIPLIERS[digits - 1];
+    }
+
+    // Numbers
+
+    private static int digits(CharSequence text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int monthLength(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * The same as {@link LocalDate#toEpochDay()} for non-negative years.
+     */
+    private static long epochDay(int year, int month, int day) {
+        long total = 365L * year +
+                     (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400 +
+                     (367 * month - 362) / 12 +
+                     day - 1;
+        if (month > 2) {
+            total -= isLeapYear(year) ? 1 : 2;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+}
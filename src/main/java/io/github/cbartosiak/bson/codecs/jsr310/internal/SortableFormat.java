@@ -0,0 +1,382 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.internal;
+
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+import static java.lang.Math.toIntExact;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+/**
+ * <p>
+ * Formats and parses the fixed-width layouts of the
+ * {@code XxxAsSortableStringCodec} classes, whose lexicographic order is
+ * the chronological order of the values:
+ * <ul>
+ * <li>time: {@code HH:mm:ss.nnnnnnnnn}, always with nine fraction digits;
+ * <li>date: {@code YYYYYYYYYYY-MM-dd}, where the year takes eleven
+ * characters: years from zero are zero-padded digits, earlier years are
+ * {@code -} (which sorts before digits) followed by ten digits of the year
+ * increased by {@code 10^10}, so that the more negative the year is the
+ * smaller the digits are;
+ * <li>date-time: the date and the time separated by {@code T};
+ * <li>instant: the {@code UTC} date-time followed by {@code Z};
+ * <li>offset date-time: the instant followed by six digits of the offset
+ * seconds increased by {@code 64800} (18 hours), which orders the values of
+ * the same instant as {@code OffsetDateTime.compareTo} does.
+ * </ul>
+ * <p>
+ * Any text which does not have exactly the layout fails with
+ * {@code DateTimeParseException}, invalid field values with
+ * {@code DateTimeException}.
+ */
+public final class SortableFormat {
+
+    private static final int  YEAR_LENGTH     = 11;
+    private static final long YEAR_COMPLEMENT = 10_000_000_000L;
+
+    private static final int TIME_LENGTH      = 18;
+    private static final int DATE_LENGTH      = YEAR_LENGTH + 6;
+    private static final int DATE_TIME_LENGTH = DATE_LENGTH + 1 + TIME_LENGTH;
+    private static final int INSTANT_LENGTH   = DATE_TIME_LENGTH + 1;
+    private static final int OFFSET_LENGTH    = 6;
+
+    private static final int OFFSET_BIAS = 18 * 3600;
+
+    private static final long SECONDS_PER_DAY         = 86_400L;
+    private static final long DAYS_PER_CYCLE          = 146_097L;
+    private static final long DAYS_MARCH_0000_TO_1970 = 719_468L;
+
+    private static final ThreadLocal<char[]> BUFFER =
+            ThreadLocal.withInitial(
+                    () -> new char[INSTANT_LENGTH + OFFSET_LENGTH]
+            );
+
+    private SortableFormat() {}
+
+    public static String formatLocalTime(LocalTime value) {
+        char[] buffer = BUFFER.get();
+        int end = time(buffer, 0, value.toSecondOfDay(), value.getNano());
+        return new String(buffer, 0, end);
+    }
+
+    public static String formatLocalDateTime(LocalDateTime value) {
+        char[] buffer = BUFFER.get();
+        int end = date(
+                buffer,
+                0,
+                value.getYear(),
+                value.getMonthValue(),
+                value.getDayOfMonth()
+        );
+        buffer[end++] = 'T';
+        end = time(
+                buffer,
+                end,
+                value.toLocalTime().toSecondOfDay(),
+                value.getNano()
+        );
+        return new String(buffer, 0, end);
+    }
+
+    public static String formatInstant(Instant value) {
+        char[] buffer = BUFFER.get();
+        int end = instant(
+                buffer,
+                value.getEpochSecond(),
+                value.getNano()
+        );
+        return new String(buffer, 0, end);
+    }
+
+    public static String formatOffsetDateTime(OffsetDateTime value) {
+        char[] buffer = BUFFER.get();
+        int end = instant(
+                buffer,
+                value.toEpochSecond(),
+                value.getNano()
+        );
+        end = digits(
+                buffer,
+                end,
+                value.getOffset().getTotalSeconds() + OFFSET_BIAS,
+                OFFSET_LENGTH
+        );
+        return new String(buffer, 0, end);
+    }
+
+    public static LocalTime parseLocalTime(String text) {
+        checkLength(text, TIME_LENGTH);
+        return localTime(text, 0);
+    }
+
+    public static LocalDateTime parseLocalDateTime(String text) {
+        checkLength(text, DATE_TIME_LENGTH);
+        return LocalDateTime.of(
+                LocalDate.of(
+                        toIntExact(year(text)),
+                        month(text),
+                        day(text)
+                ),
+                localTime(text, DATE_LENGTH + 1)
+        );
+    }
+
+    public static Instant parseInstant(String text) {
+        checkLength(text, INSTANT_LENGTH);
+        expect(text, DATE_TIME_LENGTH, 'Z');
+        return Instant.ofEpochSecond(
+                epochSecond(text),
+                nano(text, DATE_LENGTH + 1)
+        );
+    }
+
+    public static OffsetDateTime parseOffsetDateTime(String text) {
+        checkLength(text, INSTANT_LENGTH + OFFSET_LENGTH);
+        expect(text, DATE_TIME_LENGTH, 'Z');
+        ZoneOffset offset = ZoneOffset.ofTotalSeconds(
+                (int) digits(text, INSTANT_LENGTH, OFFSET_LENGTH) -
+                OFFSET_BIAS
+        );
+        return OffsetDateTime.ofInstant(
+                Instant.ofEpochSecond(
+                        epochSecond(text),
+                        nano(text, DATE_LENGTH + 1)
+                ),
+                offset
+        );
+    }
+
+    // Formatting, returning the end of the part
+
+    private static int instant(char[] buffer, long epochSecond, int nano) {
+        long epochDay = floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) floorMod(epochSecond, SECONDS_PER_DAY);
+
+        // Civil from days, counted in 400-year cycles starting at March
+        long zeroDay = epochDay + DAYS_MARCH_0000_TO_1970;
+        long cycle = floorDiv(zeroDay, DAYS_PER_CYCLE);
+        long dayOfCycle = zeroDay - cycle * DAYS_PER_CYCLE;
+        long yearOfCycle = (dayOfCycle - dayOfCycle / 1460L +
+                            dayOfCycle / 36_524L -
+                            dayOfCycle / 146_096L) / 365L;
+        int dayOfYear = (int) (dayOfCycle - (365L * yearOfCycle +
+                                             yearOfCycle / 4L -
+                                             yearOfCycle / 100L));
+        int marchMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * marchMonth + 2) / 5 + 1;
+        int month = marchMonth < 10 ? marchMonth + 3 : marchMonth - 9;
+        long year = yearOfCycle + cycle * 400L + (month <= 2 ? 1L : 0L);
+
+        int end = date(buffer, 0, year, month, day);
+        buffer[end++] = 'T';
+        end = time(buffer, end, secondOfDay, nano);
+        buffer[end++] = 'Z';
+        return end;
+    }
+
+    private static int date(
+            char[] buffer,
+            int start,
+            long year,
+            int month,
+            int day) {
+
+        int position = start;
+        if (year < 0L) {
+            buffer[position++] = '-';
+            position = digits(
+                    buffer, position, year + YEAR_COMPLEMENT, YEAR_LENGTH - 1
+            );
+        }
+        else {
+            position = digits(buffer, position, year, YEAR_LENGTH);
+        }
+        buffer[position++] = '-';
+        position = digits(buffer, position, month, 2);
+        buffer[position++] = '-';
+        return digits(buffer, position, day, 2);
+    }
+
+    private static int time(
+            char[] buffer,
+            int start,
+            int secondOfDay,
+            int nano) {
+
+        int position = digits(buffer, start, secondOfDay / 3600, 2);
+        buffer[position++] = ':';
+        position = digits(buffer, position, secondOfDay / 60 % 60, 2);
+        buffer[position++] = ':';
+        position = digits(buffer, position, secondOfDay % 60, 2);
+        buffer[position++] = '.';
+        return digits(buffer, position, nano, 9);
+    }
+
+    private static int digits(
+            char[] buffer,
+            int start,
+            long value,
+            int count) {
+
+        long remaining = value;
+        for (int i = start + count - 1; i >= start; i--) {
+            buffer[i] = (char) ('0' + remaining % 10L);
+            remaining /= 10L;
+        }
+        return start + count;
+    }
+
+    // Parsing
+
+    private static long epochSecond(String text) {
+        long year = year(text);
+        int month = month(text);
+        int day = day(text);
+        if (day > monthLength(year, month)) {
+            throw new DateTimeException(
+                    "Invalid date: day " + day + " of month " + month
+            );
+        }
+
+        // Days from civil, the inverse of the formatting
+        long marchYear = month <= 2 ? year - 1L : year;
+        long cycle = floorDiv(marchYear, 400L);
+        long yearOfCycle = marchYear - cycle * 400L;
+        long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2L) /
+                         5L + day - 1L;
+        long dayOfCycle = yearOfCycle * 365L + yearOfCycle / 4L -
+                          yearOfCycle / 100L + dayOfYear;
+        long epochDay = cycle * DAYS_PER_CYCLE + dayOfCycle -
+                        DAYS_MARCH_0000_TO_1970;
+
+        return epochDay * SECONDS_PER_DAY + secondOfDay(text, DATE_LENGTH + 1);
+    }
+
+    private static long year(String text) {
+        expect(text, YEAR_LENGTH, '-');
+        if (text.charAt(0) == '-') {
+            return digits(text, 1, YEAR_LENGTH - 1) - YEAR_COMPLEMENT;
+        }
+        return digits(text, 0, YEAR_LENGTH);
+    }
+
+    private static int month(String text) {
+        int month = (int) digits(text, YEAR_LENGTH + 1, 2);
+        if (month < 1 || month > 12) {
+            throw new DateTimeException("Invalid month: " + month);
+        }
+        expect(text, YEAR_LENGTH + 3, '-');
+        return month;
+    }
+
+    private static int day(String text) {
+        int day = (int) digits(text, YEAR_LENGTH + 4, 2);
+        if (day < 1) {
+            throw new DateTimeException("Invalid day: " + day);
+        }
+        if (text.length() > DATE_LENGTH) {
+            expect(text, DATE_LENGTH, 'T');
+        }
+        return day;
+    }
+
+    private static LocalTime localTime(String text, int start) {
+        return LocalTime.ofNanoOfDay(
+                secondOfDay(text, start) * 1_000_000_000L + nano(text, start)
+        );
+    }
+
+    private static long secondOfDay(String text, int start) {
+        expect(text, start + 2, ':');
+        expect(text, start + 5, ':');
+        expect(text, start + 8, '.');
+        int hour = (int) digits(text, start, 2);
+        int minute = (int) digits(text, start + 3, 2);
+        int second = (int) digits(text, start + 6, 2);
+        if (hour > 23 || minute > 59 || second > 59) {
+            throw new DateTimeException("Invalid time: " + text);
+        }
+        return hour * 3600L + minute * 60L + second;
+    }
+
+    private static int nano(String text, int start) {
+        return (int) digits(text, start + 9, 9);
+    }
+
+    private static void checkLength(String text, int length) {
+        if (text.length() != length) {
+            throw new DateTimeParseException(
+                    "Text '" + text + "' is not of length " + length,
+                    text,
+                    0
+            );
+        }
+    }
+
+    private static void expect(String text, int index, char c) {
+        if (text.charAt(index) != c) {
+            throw new DateTimeParseException(
+                    "Text '" + text + "' expects '" + c + "' at " + index,
+                    text,
+                    index
+            );
+        }
+    }
+
+    private static long digits(String text, int start, int count) {
+        long value = 0L;
+        for (int i = start; i < start + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new DateTimeParseException(
+                        "Text '" + text + "' expects a digit at " + i,
+                        text,
+                        i
+                );
+            }
+            value = value * 10L + (c - '0');
+        }
+        return value;
+    }
+
+    private static int monthLength(long year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static boolean isLeapYear(long year) {
+        return (year & 3L) == 0L && (year % 100L != 0L || year % 400L == 0L);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.internal;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ * Caches the results of {@link ZoneId#of(String)} and
+ * {@link ZoneOffset#of(String)} by the decoded IDs, so that the ID format
+ * is not validated and the zone rules are not looked up over and over again
+ * for the same few zones.
+ * <p>
+ * Each cache holds up to {@value #MAX_SIZE} entries, once it is full the
+ * remaining IDs are simply not cached. IDs which are not valid are never
+ * cached. The encoding side needs no cache as {@link ZoneId#getId()} returns
+ * a string held by the zone itself.
+ */
+public final class ZoneIdCache {
+
+    public static final int MAX_SIZE = 1024;
+
+    private static final ConcurrentMap<String, ZoneId> ZONE_IDS =
+            new ConcurrentHashMap<>();
+
+    private static final ConcurrentMap<String, ZoneOffset> ZONE_OFFSETS =
+            new ConcurrentHashMap<>();
+
+    private ZoneIdCache() {}
+
+    public static ZoneId zoneId(String id) {
+        ZoneId zoneId = ZONE_IDS.get(id);
+        if (zoneId == null) {
+            zoneId = ZoneId.of(id);
+            if (ZONE_IDS.size() < MAX_SIZE) {
+                ZONE_IDS.putIfAbsent(id, zoneId);
+            }
+        }
+        return zoneId;
+    }
+
+    public static ZoneOffset zoneOffset(String id) {
+        ZoneOffset zoneOffset = ZONE_OFFSETS.get(id);
+        if (zoneOffset == null) {
+            zoneOffset = ZoneOffset.of(id);
+            if (ZONE_OFFSETS.size() < MAX_SIZE) {
+                ZONE_OFFSETS.putIfAbsent(id, zoneOffset);
+            }
+        }
+        return zoneOffset;
+    }
+}
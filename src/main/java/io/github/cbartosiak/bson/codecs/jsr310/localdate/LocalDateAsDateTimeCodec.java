@@ -16,10 +16,10 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.localdate;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateEncodeExceptions;
-import static java.time.Instant.ofEpochMilli;
-import static java.time.ZoneOffset.UTC;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateEncodeException;
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.multiplyExact;
+import static java.time.LocalDate.ofEpochDay;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
@@ -45,6 +45,8 @@ import org.bson.codecs.EncoderContext;
  */
 public final class LocalDateAsDateTimeCodec implements Codec<LocalDate> {
 
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
     @Override
     public void encode(
             BsonWriter writer,
@@ -53,14 +55,14 @@ public final class LocalDateAsDateTimeCodec implements Codec<LocalDate> {
 
         requireNonNull(writer, "writer is null");
         requireNonNull(value, "value is null");
-        translateEncodeExceptions(
-                () -> value,
-                val -> writer.writeDateTime(
-                        val.atStartOfDay()
-                           .toInstant(UTC)
-                           .toEpochMilli()
-                )
-        );
+        long millis;
+        try {
+            millis = multiplyExact(value.toEpochDay(), MILLIS_PER_DAY);
+        }
+        catch (RuntimeException ex) {
+            throw translateEncodeException(value, ex);
+        }
+        writer.writeDateTime(millis);
     }
 
     @Override
@@ -69,13 +71,8 @@ public final class LocalDateAsDateTimeCodec implements Codec<LocalDate> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readDateTime,
-                val -> ofEpochMilli(val)
-                        .atOffset(UTC)
-                        .toLocalDate()
-
-        );
+        long value = reader.readDateTime();
+        return ofEpochDay(floorDiv(value, MILLIS_PER_DAY));
     }
 
     @Override
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.localdate;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateEncodeException;
+import static java.lang.Math.toIntExact;
+import static java.time.LocalDate.ofEpochDay;
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * <p>
+ * Encodes and decodes {@code LocalDate} values to and from
+ * {@code BSON Int32}, such as {@code 17_533}.
+ * <p>
+ * The values are stored as numbers of days since the epoch
+ * (see {@link LocalDate#toEpochDay()}), so they are ordered and can be
+ * queried by ranges the same way as the dates.
+ * <p>
+ * Note that only the dates between {@code -5877641-06-23} and
+ * {@code +5881580-07-11} are supported.
+ * <p>
+ * This type is <b>immutable</b>.
+ */
+public final class LocalDateAsInt32Codec implements Codec<LocalDate> {
+
+    @Override
+    public void encode(
+            BsonWriter writer,
+            LocalDate value,
+            EncoderContext encoderContext) {
+
+        requireNonNull(writer, "writer is null");
+        requireNonNull(value, "value is null");
+        int epochDay;
+        try {
+            epochDay = toIntExact(value.toEpochDay());
+        }
+        catch (RuntimeException ex) {
+            throw translateEncodeException(value, ex);
+        }
+        writer.writeInt32(epochDay);
+    }
+
+    @Override
+    public LocalDate decode(
+            BsonReader reader,
+            DecoderContext decoderContext) {
+
+        requireNonNull(reader, "reader is null");
+        return ofEpochDay(reader.readInt32());
+    }
+
+    @Override
+    public Class<LocalDate> getEncoderClass() {
+        return LocalDate.class;
+    }
+}
@@ -16,7 +16,9 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.localdate;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.IsoFormatter.formatLocalDate;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.IsoParser.parseLocalDate;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
@@ -47,7 +49,7 @@ public final class LocalDateAsStringCodec implements Codec<LocalDate> {
 
         requireNonNull(writer, "writer is null");
         requireNonNull(value, "value is null");
-        writer.writeString(value.toString());
+        writer.writeString(formatLocalDate(value));
     }
 
     @Override
@@ -56,10 +58,13 @@ public final class LocalDateAsStringCodec implements Codec<LocalDate> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readString,
-                LocalDate::parse
-        );
+        String value = reader.readString();
+        try {
+            return parseLocalDate(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.localdate;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.getIntLittleEndian;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.putIntLittleEndian;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readPackedBinary;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateEncodeException;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.writePackedBinary;
+import static java.lang.Math.toIntExact;
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * <p>
+ * Encodes and decodes {@code List<LocalDate>} values to and from
+ * {@code BSON Binary} of the user defined subtype.
+ * <p>
+ * The values are stored as consecutive 4-byte little-endian epoch days
+ * (see {@link LocalDate#toEpochDay()}). With thousands of elements it takes
+ * about a third of the space of a {@code BSON Array} of
+ * {@code BSON DateTime} values.
+ * <p>
+ * Note that only the dates with epoch days fitting an {@code int} (years
+ * from about -5,877,641 to 5,881,580) are supported.
+ * <p>
+ * The encoder class is the raw {@code List}, so the codec is meant to be set
+ * on particular properties, such as with {@code PropertyModelBuilder.codec},
+ * and must not be added to a {@code CodecRegistry}, where it would be used for
+ * all the {@code List} values.
+ * <p>
+ * This type is <b>immutable</b>.
+ */
+public final class LocalDateListAsBinaryCodec
+        implements Codec<List<LocalDate>> {
+
+    private static final int WIDTH = 4;
+
+    @Override
+    public void encode(
+            BsonWriter writer,
+            List<LocalDate> value,
+            EncoderContext encoderContext) {
+
+        requireNonNull(writer, "writer is null");
+        requireNonNull(value, "value is null");
+        byte[] data = new byte[value.size() * WIDTH];
+        int index = 0;
+        for (LocalDate localDate : value) {
+            requireNonNull(localDate, "value contains null");
+            try {
+                putIntLittleEndian(
+                        data, index, toIntExact(localDate.toEpochDay())
+                );
+            }
+            catch (RuntimeException ex) {
+                throw translateEncodeException(localDate, ex);
+            }
+            index += WIDTH;
+        }
+        writePackedBinary(writer, data);
+    }
+
+    @Override
+    public List<LocalDate> decode(
+            BsonReader reader,
+            DecoderContext decoderContext) {
+
+        requireNonNull(reader, "reader is null");
+        byte[] data = readPackedBinary(reader, WIDTH);
+        List<LocalDate> value = new ArrayList<>(data.length / WIDTH);
+        for (int index = 0; index < data.length; index += WIDTH) {
+            value.add(LocalDate.ofEpochDay(getIntLittleEndian(data, index)));
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<List<LocalDate>> getEncoderClass() {
+        return (Class<List<LocalDate>>) (Class<?>) List.class;
+    }
+}
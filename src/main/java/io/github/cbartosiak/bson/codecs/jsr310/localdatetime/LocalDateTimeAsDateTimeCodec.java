@@ -16,9 +16,12 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.localdatetime;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateEncodeExceptions;
-import static java.time.Instant.ofEpochMilli;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.toEpochMilli;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateEncodeException;
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+import static java.time.LocalDate.ofEpochDay;
+import static java.time.LocalTime.ofNanoOfDay;
 import static java.time.ZoneOffset.UTC;
 import static java.util.Objects.requireNonNull;
 
@@ -46,6 +49,8 @@ import org.bson.codecs.EncoderContext;
 public final class LocalDateTimeAsDateTimeCodec
         implements Codec<LocalDateTime> {
 
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
     @Override
     public void encode(
             BsonWriter writer,
@@ -54,13 +59,14 @@ public final class LocalDateTimeAsDateTimeCodec
 
         requireNonNull(writer, "writer is null");
         requireNonNull(value, "value is null");
-        translateEncodeExceptions(
-                () -> value,
-                val -> writer.writeDateTime(
-                        val.toInstant(UTC)
-                           .toEpochMilli()
-                )
-        );
+        long millis;
+        try {
+            millis = toEpochMilli(value.toEpochSecond(UTC), value.getNano());
+        }
+        catch (RuntimeException ex) {
+            throw translateEncodeException(value, ex);
+        }
+        writer.writeDateTime(millis);
     }
 
     @Override
@@ -69,11 +75,10 @@ public final class LocalDateTimeAsDateTimeCodec
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readDateTime,
-                val -> ofEpochMilli(val)
-                        .atOffset(UTC)
-                        .toLocalDateTime()
+        long value = reader.readDateTime();
+        return LocalDateTime.of(
+                ofEpochDay(floorDiv(value, MILLIS_PER_DAY)),
+                ofNanoOfDay(floorMod(value, MILLIS_PER_DAY) * 1_000_000L)
         );
     }
 
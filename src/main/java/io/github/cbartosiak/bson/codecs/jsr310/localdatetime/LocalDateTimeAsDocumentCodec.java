@@ -16,26 +16,27 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.localdatetime;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.getFieldValue;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readDocument;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.FULL;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.checkFields;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.fieldNames;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readField;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.unsupportedDocument;
 import static java.time.LocalDateTime.of;
-import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
+import static org.bson.BsonType.END_OF_DOCUMENT;
 
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.bson.BsonReader;
 import org.bson.BsonWriter;
 import org.bson.codecs.Codec;
-import org.bson.codecs.Decoder;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 
+import io.github.cbartosiak.bson.codecs.jsr310.FieldNaming;
 import io.github.cbartosiak.bson.codecs.jsr310.localdate.LocalDateAsDocumentCodec;
 import io.github.cbartosiak.bson.codecs.jsr310.localtime.LocalTimeAsDocumentCodec;
 
@@ -55,17 +56,22 @@ import io.github.cbartosiak.bson.codecs.jsr310.localtime.LocalTimeAsDocumentCode
  * <li>{@code date} (a non-null value);
  * <li>{@code time} (a non-null value).
  * </ul>
- * The field values depend on provided codecs.
+ * The field values depend on provided codecs, the names of the fields on
+ * the provided {@link FieldNaming}.
  * <p>
  * This type is <b>immutable</b>.
  */
 public final class LocalDateTimeAsDocumentCodec
         implements Codec<LocalDateTime> {
 
+    private static final String[] FIELD_NAMES = {
+            "date", "time"
+    };
+
     private final Codec<LocalDate> localDateCodec;
     private final Codec<LocalTime> localTimeCodec;
-
-    private final Map<String, Decoder<?>> fieldDecoders;
+    private final FieldNaming      fieldNaming;
+    private final String[]         fieldNames;
 
     /**
      * Creates a {@code LocalDateTimeAsDocumentCodec} using:
@@ -75,9 +81,24 @@ public final class LocalDateTimeAsDocumentCodec
      * </ul>
      */
     public LocalDateTimeAsDocumentCodec() {
+        this(FULL);
+    }
+
+    /**
+     * Creates a {@code LocalDateTimeAsDocumentCodec} using:
+     * <ul>
+     * <li>a {@link LocalDateAsDocumentCodec};
+     * <li>a {@link LocalTimeAsDocumentCodec},
+     * </ul>
+     * all of them using the provided names.
+     *
+     * @param fieldNaming not null
+     */
+    public LocalDateTimeAsDocumentCodec(FieldNaming fieldNaming) {
         this(
-                new LocalDateAsDocumentCodec(),
-                new LocalTimeAsDocumentCodec()
+                new LocalDateAsDocumentCodec(fieldNaming),
+                new LocalTimeAsDocumentCodec(fieldNaming),
+                fieldNaming
         );
     }
 
@@ -92,17 +113,30 @@ public final class LocalDateTimeAsDocumentCodec
             Codec<LocalDate> localDateCodec,
             Codec<LocalTime> localTimeCodec) {
 
+        this(localDateCodec, localTimeCodec, FULL);
+    }
+
+    /**
+     * Creates a {@code LocalDateTimeAsDocumentCodec} using
+     * the provided codecs and names.
+     *
+     * @param localDateCodec not null
+     * @param localTimeCodec not null
+     * @param fieldNaming    not null
+     */
+    public LocalDateTimeAsDocumentCodec(
+            Codec<LocalDate> localDateCodec,
+            Codec<LocalTime> localTimeCodec,
+            FieldNaming fieldNaming) {
+
         this.localDateCodec = requireNonNull(
                 localDateCodec, "localDateCodec is null"
         );
         this.localTimeCodec = requireNonNull(
                 localTimeCodec, "localTimeCodec is null"
         );
-
-        Map<String, Decoder<?>> fd = new HashMap<>();
-        fd.put("date", localDateCodec::decode);
-        fd.put("time", localTimeCodec::decode);
-        fieldDecoders = unmodifiableMap(fd);
+        this.fieldNaming = requireNonNull(fieldNaming, "fieldNaming is null");
+        fieldNames = fieldNames(fieldNaming, FIELD_NAMES);
     }
 
     @Override
@@ -116,10 +150,10 @@ public final class LocalDateTimeAsDocumentCodec
 
         writer.writeStartDocument();
 
-        writer.writeName("date");
+        writer.writeName(fieldNames[0]);
         localDateCodec.encode(writer, value.toLocalDate(), encoderContext);
 
-        writer.writeName("time");
+        writer.writeName(fieldNames[1]);
         localTimeCodec.encode(writer, value.toLocalTime(), encoderContext);
 
         writer.writeEndDocument();
@@ -131,13 +165,35 @@ public final class LocalDateTimeAsDocumentCodec
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                () -> readDocument(reader, decoderContext, fieldDecoders),
-                val -> of(
-                        getFieldValue(val, "date", LocalDate.class),
-                        getFieldValue(val, "time", LocalTime.class)
-                )
-        );
+
+        LocalDate date = null;
+        LocalTime time = null;
+        int readFields = 0;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != END_OF_DOCUMENT) {
+            int field = readField(reader, fieldNames, readFields);
+            readFields |= 1 << field;
+            switch (field) {
+                case 0:
+                    date = localDateCodec.decode(reader, decoderContext);
+                    break;
+                default:
+                    time = localTimeCodec.decode(reader, decoderContext);
+                    break;
+            }
+        }
+        reader.readEndDocument();
+        checkFields(fieldNames, readFields);
+
+        try {
+            return of(date, time);
+        }
+        catch (DateTimeException ex) {
+            throw unsupportedDocument(
+                    fieldNames, new Object[] { date, time }, ex
+            );
+        }
     }
 
     @Override
@@ -154,14 +210,14 @@ public final class LocalDateTimeAsDocumentCodec
 
         return localDateCodec.equals(rhs.localDateCodec) &&
                localTimeCodec.equals(rhs.localTimeCodec) &&
-               fieldDecoders.equals(rhs.fieldDecoders);
+               fieldNaming == rhs.fieldNaming;
     }
 
     @Override
     public int hashCode() {
         int result = localDateCodec.hashCode();
         result = 31 * result + localTimeCodec.hashCode();
-        result = 31 * result + fieldDecoders.hashCode();
+        result = 31 * result + fieldNaming.hashCode();
         return result;
     }
 
@@ -170,7 +226,7 @@ public final class LocalDateTimeAsDocumentCodec
         return "LocalDateTimeAsDocumentCodec[" +
                "localDateCodec=" + localDateCodec +
                ",localTimeCodec=" + localTimeCodec +
-               ",fieldDecoders=" + fieldDecoders +
+               ",fieldNaming=" + fieldNaming +
                ']';
     }
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.localdatetime;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.FULL;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.fieldNames;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.FlatDocument.DATE_TIME_FIELD_NAMES;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.FlatDocument.readFlatDocument;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.FlatDocument.unsupportedFlatDocument;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.FlatDocument.writeDateTime;
+import static java.time.LocalDateTime.of;
+import static java.util.Objects.requireNonNull;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import io.github.cbartosiak.bson.codecs.jsr310.FieldNaming;
+
+/**
+ * <p>
+ * Encodes and decodes {@code LocalDateTime} values to and from
+ * {@code BSON Document} of a single level, such as
+ * {@code { year: 2018, month: 1, day: 2, hour: 10, minute: 15, second: 30,
+ * nano: 0 }}.
+ * <p>
+ * The values are stored using the following structure:
+ * <ul>
+ * <li>{@code year} (a non-null {@code Int32});
+ * <li>{@code month} (a non-null {@code Int32});
+ * <li>{@code day} (a non-null {@code Int32});
+ * <li>{@code hour} (a non-null {@code Int32});
+ * <li>{@code minute} (a non-null {@code Int32});
+ * <li>{@code second} (a non-null {@code Int32});
+ * <li>{@code nano} (a non-null {@code Int32}).
+ * </ul>
+ * <p>
+ * Unlike {@link LocalDateTimeAsDocumentCodec}, it does not nest documents
+ * of the date and the time, which saves their lengths and terminators.
+ * <p>
+ * The names of the fields depend on the provided {@link FieldNaming}, the
+ * ones above are the {@link FieldNaming#FULL} names.
+ * <p>
+ * This type is <b>immutable</b>.
+ */
+public final class LocalDateTimeAsFlatDocumentCodec
+        implements Codec<LocalDateTime> {
+
+    private final FieldNaming fieldNaming;
+    private final String[]    fieldNames;
+
+    /**
+     * Creates a {@code LocalDateTimeAsFlatDocumentCodec} using
+     * the {@link FieldNaming#FULL} names.
+     */
+    public LocalDateTimeAsFlatDocumentCodec() {
+        this(FULL);
+    }
+
+    /**
+     * Creates a {@code LocalDateTimeAsFlatDocumentCodec} using
+     * the provided names.
+     *
+     * @param fieldNaming not null
+     */
+    public LocalDateTimeAsFlatDocumentCodec(FieldNaming fieldNaming) {
+        this.fieldNaming = requireNonNull(fieldNaming, "fieldNaming is null");
+        fieldNames = fieldNames(fieldNaming, DATE_TIME_FIELD_NAMES);
+    }
+
+    @Override
+    public void encode(
+            BsonWriter writer,
+            LocalDateTime value,
+            EncoderContext encoderContext) {
+
+        requireNonNull(writer, "writer is null");
+        requireNonNull(value, "value is null");
+        writer.writeStartDocument();
+        writeDateTime(writer, fieldNames, value);
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public LocalDateTime decode(
+            BsonReader reader,
+            DecoderContext decoderContext) {
+
+        requireNonNull(reader, "reader is null");
+
+        int[] values = new int[DATE_TIME_FIELD_NAMES.length];
+        readFlatDocument(reader, fieldNames, values);
+
+        try {
+            return of(
+                    values[0], values[1], values[2],
+                    values[3], values[4], values[5], values[6]
+            );
+        }
+        catch (DateTimeException ex) {
+            throw unsupportedFlatDocument(
+                    fieldNames, values, null, ex
+            );
+        }
+    }
+
+    @Override
+    public Class<LocalDateTime> getEncoderClass() {
+        return LocalDateTime.class;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) { return true; }
+        if (obj == null || getClass() != obj.getClass()) { return false; }
+
+        LocalDateTimeAsFlatDocumentCodec rhs =
+                (LocalDateTimeAsFlatDocumentCodec)obj;
+
+        return fieldNaming == rhs.fieldNaming;
+    }
+
+    @Override
+    public int hashCode() {
+        return fieldNaming.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "LocalDateTimeAsFlatDocumentCodec[" +
+               "fieldNaming=" + fieldNaming +
+               ']';
+    }
+}
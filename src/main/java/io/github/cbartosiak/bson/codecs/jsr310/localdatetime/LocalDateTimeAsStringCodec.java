@@ -16,7 +16,9 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.localdatetime;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.IsoFormatter.formatLocalDateTime;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.IsoParser.parseLocalDateTime;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDateTime;
@@ -47,7 +49,7 @@ public final class LocalDateTimeAsStringCodec implements Codec<LocalDateTime> {
 
         requireNonNull(writer, "writer is null");
         requireNonNull(value, "value is null");
-        writer.writeString(value.toString());
+        writer.writeString(formatLocalDateTime(value));
     }
 
     @Override
@@ -56,10 +58,13 @@ public final class LocalDateTimeAsStringCodec implements Codec<LocalDateTime> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readString,
-                LocalDateTime::parse
-        );
+        String value = reader.readString();
+        try {
+            return parseLocalDateTime(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
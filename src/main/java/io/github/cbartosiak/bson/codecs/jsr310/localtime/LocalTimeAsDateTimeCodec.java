@@ -16,11 +16,8 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.localtime;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateEncodeExceptions;
-import static java.time.Instant.ofEpochMilli;
-import static java.time.LocalDate.ofEpochDay;
-import static java.time.ZoneOffset.UTC;
+import static java.lang.Math.floorMod;
+import static java.time.LocalTime.ofNanoOfDay;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalTime;
@@ -47,6 +44,8 @@ import org.bson.codecs.EncoderContext;
  */
 public final class LocalTimeAsDateTimeCodec implements Codec<LocalTime> {
 
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
     @Override
     public void encode(
             BsonWriter writer,
@@ -55,14 +54,7 @@ public final class LocalTimeAsDateTimeCodec implements Codec<LocalTime> {
 
         requireNonNull(writer, "writer is null");
         requireNonNull(value, "value is null");
-        translateEncodeExceptions(
-                () -> value,
-                val -> writer.writeDateTime(
-                        val.atDate(ofEpochDay(0L))
-                           .toInstant(UTC)
-                           .toEpochMilli()
-                )
-        );
+        writer.writeDateTime(value.toNanoOfDay() / 1_000_000L);
     }
 
     @Override
@@ -71,12 +63,8 @@ public final class LocalTimeAsDateTimeCodec implements Codec<LocalTime> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readDateTime,
-                val -> ofEpochMilli(val)
-                        .atOffset(UTC)
-                        .toLocalTime()
-        );
+        long value = reader.readDateTime();
+        return ofNanoOfDay(floorMod(value, MILLIS_PER_DAY) * 1_000_000L);
     }
 
     @Override
@@ -16,24 +16,29 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.localtime;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.getFieldValue;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readDocument;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.FULL;
+import static io.github.cbartosiak.bson.codecs.jsr310.ZeroComponents.REQUIRED;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.checkFields;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.fieldNames;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readField;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.unsupportedDocument;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.writeComponent;
 import static java.time.LocalTime.of;
-import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
+import static org.bson.BsonType.END_OF_DOCUMENT;
 
+import java.time.DateTimeException;
 import java.time.LocalTime;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.bson.BsonReader;
 import org.bson.BsonWriter;
 import org.bson.codecs.Codec;
-import org.bson.codecs.Decoder;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 
+import io.github.cbartosiak.bson.codecs.jsr310.FieldNaming;
+import io.github.cbartosiak.bson.codecs.jsr310.ZeroComponents;
+
 /**
  * <p>
  * Encodes and decodes {@code LocalTime} values to and from
@@ -48,19 +53,58 @@ import org.bson.codecs.EncoderContext;
  * <li>{@code nano} (a non-null {@code Int32}).
  * </ul>
  * <p>
+ * The names of the fields depend on the provided {@link FieldNaming}, the
+ * ones above are the {@link FieldNaming#FULL} names.
+ * <p>
+ * With {@link ZeroComponents#OMITTED}, the fields of the components equal to
+ * zero are not written and the missing fields are decoded as zero.
+ * <p>
  * This type is <b>immutable</b>.
  */
 public final class LocalTimeAsDocumentCodec implements Codec<LocalTime> {
 
-    private static final Map<String, Decoder<?>> FIELD_DECODERS;
+    private static final String[] FIELD_NAMES = {
+            "hour", "minute", "second", "nano"
+    };
+
+    private final FieldNaming    fieldNaming;
+    private final ZeroComponents zeroComponents;
+    private final String[]       fieldNames;
 
-    static {
-        Map<String, Decoder<?>> fd = new HashMap<>();
-        fd.put("hour", (r, dc) -> r.readInt32());
-        fd.put("minute", (r, dc) -> r.readInt32());
-        fd.put("second", (r, dc) -> r.readInt32());
-        fd.put("nano", (r, dc) -> r.readInt32());
-        FIELD_DECODERS = unmodifiableMap(fd);
+    /**
+     * Creates a {@code LocalTimeAsDocumentCodec} using
+     * the {@link FieldNaming#FULL} names.
+     */
+    public LocalTimeAsDocumentCodec() {
+        this(FULL);
+    }
+
+    /**
+     * Creates a {@code LocalTimeAsDocumentCodec} using
+     * the provided names.
+     *
+     * @param fieldNaming not null
+     */
+    public LocalTimeAsDocumentCodec(FieldNaming fieldNaming) {
+        this(fieldNaming, REQUIRED);
+    }
+
+    /**
+     * Creates a {@code LocalTimeAsDocumentCodec} using
+     * the provided names and treatment of the components equal to zero.
+     *
+     * @param fieldNaming    not null
+     * @param zeroComponents not null
+     */
+    public LocalTimeAsDocumentCodec(
+            FieldNaming fieldNaming,
+            ZeroComponents zeroComponents) {
+
+        this.fieldNaming = requireNonNull(fieldNaming, "fieldNaming is null");
+        this.zeroComponents = requireNonNull(
+                zeroComponents, "zeroComponents is null"
+        );
+        fieldNames = fieldNames(fieldNaming, FIELD_NAMES);
     }
 
     @Override
@@ -72,10 +116,18 @@ public final class LocalTimeAsDocumentCodec implements Codec<LocalTime> {
         requireNonNull(writer, "writer is null");
         requireNonNull(value, "value is null");
         writer.writeStartDocument();
-        writer.writeInt32("hour", value.getHour());
-        writer.writeInt32("minute", value.getMinute());
-        writer.writeInt32("second", value.getSecond());
-        writer.writeInt32("nano", value.getNano());
+        writeComponent(
+                writer, fieldNames[0], value.getHour(), zeroComponents
+        );
+        writeComponent(
+                writer, fieldNames[1], value.getMinute(), zeroComponents
+        );
+        writeComponent(
+                writer, fieldNames[2], value.getSecond(), zeroComponents
+        );
+        writeComponent(
+                writer, fieldNames[3], value.getNano(), zeroComponents
+        );
         writer.writeEndDocument();
     }
 
@@ -85,19 +137,73 @@ public final class LocalTimeAsDocumentCodec implements Codec<LocalTime> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                () -> readDocument(reader, decoderContext, FIELD_DECODERS),
-                val -> of(
-                        getFieldValue(val, "hour", Integer.class),
-                        getFieldValue(val, "minute", Integer.class),
-                        getFieldValue(val, "second", Integer.class),
-                        getFieldValue(val, "nano", Integer.class)
-                )
-        );
+
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int nano = 0;
+        int readFields = 0;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != END_OF_DOCUMENT) {
+            int field = readField(reader, fieldNames, readFields);
+            readFields |= 1 << field;
+            switch (field) {
+                case 0:
+                    hour = reader.readInt32();
+                    break;
+                case 1:
+                    minute = reader.readInt32();
+                    break;
+                case 2:
+                    second = reader.readInt32();
+                    break;
+                default:
+                    nano = reader.readInt32();
+                    break;
+            }
+        }
+        reader.readEndDocument();
+        checkFields(fieldNames, readFields, zeroComponents);
+
+        try {
+            return of(hour, minute, second, nano);
+        }
+        catch (DateTimeException ex) {
+            throw unsupportedDocument(
+                    fieldNames, new Object[] { hour, minute, second, nano }, ex
+            );
+        }
     }
 
     @Override
     public Class<LocalTime> getEncoderClass() {
         return LocalTime.class;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) { return true; }
+        if (obj == null || getClass() != obj.getClass()) { return false; }
+
+        LocalTimeAsDocumentCodec rhs = (LocalTimeAsDocumentCodec)obj;
+
+        return fieldNaming == rhs.fieldNaming &&
+               zeroComponents == rhs.zeroComponents;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = fieldNaming.hashCode();
+        result = 31 * result + zeroComponents.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "LocalTimeAsDocumentCodec[" +
+               "fieldNaming=" + fieldNaming +
+               ",zeroComponents=" + zeroComponents +
+               ']';
+    }
 }
@@ -16,7 +16,7 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.localtime;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalTime;
@@ -56,10 +56,13 @@ public final class LocalTimeAsInt64Codec implements Codec<LocalTime> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readInt64,
-                LocalTime::ofNanoOfDay
-        );
+        long value = reader.readInt64();
+        try {
+            return LocalTime.ofNanoOfDay(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
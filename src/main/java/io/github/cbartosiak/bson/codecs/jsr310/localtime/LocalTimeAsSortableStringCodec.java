@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.localtime;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.SortableFormat.formatLocalTime;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.SortableFormat.parseLocalTime;
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalTime;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * <p>
+ * Encodes and decodes {@code LocalTime} values to and from
+ * {@code BSON String}, such as {@code 10:15:30.000000000}.
+ * <p>
+ * The values are stored as {@code ISO-8601} formatted strings of a fixed
+ * width, such that their lexicographic order is the chronological order:
+ * the seconds and nine fraction digits are always present.
+ * <p>
+ * This type is <b>immutable</b>.
+ */
+public final class LocalTimeAsSortableStringCodec implements Codec<LocalTime> {
+
+    @Override
+    public void encode(
+            BsonWriter writer,
+            LocalTime value,
+            EncoderContext encoderContext) {
+
+        requireNonNull(writer, "writer is null");
+        requireNonNull(value, "value is null");
+        writer.writeString(formatLocalTime(value));
+    }
+
+    @Override
+    public LocalTime decode(
+            BsonReader reader,
+            DecoderContext decoderContext) {
+
+        requireNonNull(reader, "reader is null");
+        String value = reader.readString();
+        try {
+            return parseLocalTime(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
+    }
+
+    @Override
+    public Class<LocalTime> getEncoderClass() {
+        return LocalTime.class;
+    }
+}
@@ -16,7 +16,9 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.localtime;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.IsoFormatter.formatLocalTime;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.IsoParser.parseLocalTime;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalTime;
@@ -47,7 +49,7 @@ public final class LocalTimeAsStringCodec implements Codec<LocalTime> {
 
         requireNonNull(writer, "writer is null");
         requireNonNull(value, "value is null");
-        writer.writeString(value.toString());
+        writer.writeString(formatLocalTime(value));
     }
 
     @Override
@@ -56,10 +58,13 @@ public final class LocalTimeAsStringCodec implements Codec<LocalTime> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readString,
-                LocalTime::parse
-        );
+        String value = reader.readString();
+        try {
+            return parseLocalTime(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
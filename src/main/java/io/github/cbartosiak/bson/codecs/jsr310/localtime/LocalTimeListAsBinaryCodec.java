@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.localtime;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.getLongLittleEndian;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.putLongLittleEndian;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readPackedBinary;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.writePackedBinary;
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * <p>
+ * Encodes and decodes {@code List<LocalTime>} values to and from
+ * {@code BSON Binary} of the user defined subtype.
+ * <p>
+ * The values are stored as consecutive 8-byte little-endian nanoseconds of
+ * a day, the same as {@link LocalTimeAsInt64Codec} stores them. With
+ * thousands of elements it takes about 40% less space than
+ * a {@code BSON Array} of {@code BSON Int64} values.
+ * <p>
+ * The encoder class is the raw {@code List}, so the codec is meant to be set
+ * on particular properties, such as with {@code PropertyModelBuilder.codec},
+ * and must not be added to a {@code CodecRegistry}, where it would be used for
+ * all the {@code List} values.
+ * <p>
+ * This type is <b>immutable</b>.
+ */
+public final class LocalTimeListAsBinaryCodec
+        implements Codec<List<LocalTime>> {
+
+    private static final int WIDTH = 8;
+
+    @Override
+    public void encode(
+            BsonWriter writer,
+            List<LocalTime> value,
+            EncoderContext encoderContext) {
+
+        requireNonNull(writer, "writer is null");
+        requireNonNull(value, "value is null");
+        byte[] data = new byte[value.size() * WIDTH];
+        int index = 0;
+        for (LocalTime localTime : value) {
+            requireNonNull(localTime, "value contains null");
+            putLongLittleEndian(data, index, localTime.toNanoOfDay());
+            index += WIDTH;
+        }
+        writePackedBinary(writer, data);
+    }
+
+    @Override
+    public List<LocalTime> decode(
+            BsonReader reader,
+            DecoderContext decoderContext) {
+
+        requireNonNull(reader, "reader is null");
+        byte[] data = readPackedBinary(reader, WIDTH);
+        List<LocalTime> value = new ArrayList<>(data.length / WIDTH);
+        for (int index = 0; index < data.length; index += WIDTH) {
+            long nanoOfDay = getLongLittleEndian(data, index);
+            try {
+                value.add(LocalTime.ofNanoOfDay(nanoOfDay));
+            }
+            catch (RuntimeException ex) {
+                throw translateDecodeException(nanoOfDay, ex);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<List<LocalTime>> getEncoderClass() {
+        return (Class<List<LocalTime>>) (Class<?>) List.class;
+    }
+}
@@ -16,7 +16,7 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.month;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
 import static java.util.Objects.requireNonNull;
 
 import java.time.Month;
@@ -39,6 +39,8 @@ import org.bson.codecs.EncoderContext;
  */
 public final class MonthAsInt32Codec implements Codec<Month> {
 
+    private static final Month[] VALUES = Month.values();
+
     @Override
     public void encode(
             BsonWriter writer,
@@ -56,10 +58,16 @@ public final class MonthAsInt32Codec implements Codec<Month> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readInt32,
-                Month::of
-        );
+        int value = reader.readInt32();
+        if (value >= 1 && value <= VALUES.length) {
+            return VALUES[value - 1];
+        }
+        try {
+            return Month.of(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
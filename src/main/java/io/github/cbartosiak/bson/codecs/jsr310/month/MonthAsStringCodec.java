@@ -16,7 +16,7 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.month;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
 import static java.util.Objects.requireNonNull;
 
 import java.time.Month;
@@ -56,14 +56,75 @@ public final class MonthAsStringCodec implements Codec<Month> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readString,
-                Month::valueOf
-        );
+        String value = reader.readString();
+        try {
+            Month candidate = candidate(value);
+            return candidate != null && candidate.name().equals(value) ?
+                   candidate :
+                   Month.valueOf(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
     public Class<Month> getEncoderClass() {
         return Month.class;
     }
+
+    /**
+     * Returns the only constant the value can be the name of, judging by its
+     * length and a distinguishing character, or {@code null}.
+     */
+    private static Month candidate(String value) {
+        switch (value.length()) {
+            case 3:
+                return Month.MAY;
+            case 4:
+                switch (value.charAt(2)) {
+                    case 'N':
+                        return Month.JUNE;
+                    case 'L':
+                        return Month.JULY;
+                    default:
+                        return null;
+                }
+            case 5:
+                switch (value.charAt(0)) {
+                    case 'M':
+                        return Month.MARCH;
+                    case 'A':
+                        return Month.APRIL;
+                    default:
+                        return null;
+                }
+            case 6:
+                return Month.AUGUST;
+            case 7:
+                switch (value.charAt(0)) {
+                    case 'J':
+                        return Month.JANUARY;
+                    case 'O':
+                        return Month.OCTOBER;
+                    default:
+                        return null;
+                }
+            case 8:
+                switch (value.charAt(0)) {
+                    case 'F':
+                        return Month.FEBRUARY;
+                    case 'N':
+                        return Month.NOVEMBER;
+                    case 'D':
+                        return Month.DECEMBER;
+                    default:
+                        return null;
+                }
+            case 9:
+                return Month.SEPTEMBER;
+            default:
+                return null;
+        }
+    }
 }
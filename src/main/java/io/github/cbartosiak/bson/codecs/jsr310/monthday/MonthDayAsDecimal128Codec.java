@@ -16,12 +16,13 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.monthday;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateEncodeExceptions;
-import static java.lang.String.format;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.fractionPart;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.hasScale;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.integralPart;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.toDecimal128;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
 import static java.time.MonthDay.of;
 import static java.util.Objects.requireNonNull;
-import static org.bson.types.Decimal128.parse;
 
 import java.math.BigDecimal;
 import java.time.MonthDay;
@@ -31,6 +32,7 @@ import org.bson.BsonWriter;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
+import org.bson.types.Decimal128;
 
 /**
  * <p>
@@ -42,6 +44,11 @@ import org.bson.codecs.EncoderContext;
  * <li>the first part represents a month;
  * <li>the latter part represents a day of this month.
  * </ul>
+ * <p>
+ * The values are encoded and decoded without intermediate strings nor
+ * {@code BigDecimal} values, unless a value with a different number of
+ * fraction digits is decoded.
+ * <p>
  * This type is <b>immutable</b>.
  */
 public final class MonthDayAsDecimal128Codec implements Codec<MonthDay> {
@@ -54,14 +61,11 @@ public final class MonthDayAsDecimal128Codec implements Codec<MonthDay> {
 
         requireNonNull(writer, "writer is null");
         requireNonNull(value, "value is null");
-        translateEncodeExceptions(
-                () -> value,
-                val -> writer.writeDecimal128(parse(format(
-                        "%d.%02d",
-                        val.getMonthValue(),
-                        val.getDayOfMonth()
-                )))
-        );
+        writer.writeDecimal128(toDecimal128(
+                value.getMonthValue(),
+                value.getDayOfMonth(),
+                2
+        ));
     }
 
     @Override
@@ -70,17 +74,24 @@ public final class MonthDayAsDecimal128Codec implements Codec<MonthDay> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readDecimal128,
-                val -> {
-                    BigDecimal bigDecimal = val.bigDecimalValue();
-                    int month = bigDecimal.intValue();
-                    int day = bigDecimal.subtract(new BigDecimal(month))
-                                        .scaleByPowerOfTen(2)
-                                        .intValue();
-                    return of(month, day);
+        Decimal128 value = reader.readDecimal128();
+        try {
+            if (hasScale(value, 2)) {
+                long month = integralPart(value, 2);
+                if (month == (int) month) {
+                    return of((int) month, (int) fractionPart(value, 2));
                 }
-        );
+            }
+            BigDecimal bigDecimal = value.bigDecimalValue();
+            int month = bigDecimal.intValue();
+            int day = bigDecimal.subtract(new BigDecimal(month))
+                                .scaleByPowerOfTen(2)
+                                .intValue();
+            return of(month, day);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
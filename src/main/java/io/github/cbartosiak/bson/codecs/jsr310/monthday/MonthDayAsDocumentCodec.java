@@ -16,24 +16,26 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.monthday;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.getFieldValue;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readDocument;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.FULL;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.checkFields;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.fieldNames;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readField;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.unsupportedDocument;
 import static java.time.MonthDay.of;
-import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
+import static org.bson.BsonType.END_OF_DOCUMENT;
 
+import java.time.DateTimeException;
 import java.time.MonthDay;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.bson.BsonReader;
 import org.bson.BsonWriter;
 import org.bson.codecs.Codec;
-import org.bson.codecs.Decoder;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 
+import io.github.cbartosiak.bson.codecs.jsr310.FieldNaming;
+
 /**
  * <p>
  * Encodes and decodes {@code MonthDay} values to and from
@@ -45,17 +47,37 @@ import org.bson.codecs.EncoderContext;
  * <li>{@code day} (a non-null {@code Int32}).
  * </ul>
  * <p>
+ * The names of the fields depend on the provided {@link FieldNaming}, the
+ * ones above are the {@link FieldNaming#FULL} names.
+ * <p>
  * This type is <b>immutable</b>.
  */
 public final class MonthDayAsDocumentCodec implements Codec<MonthDay> {
 
-    private static final Map<String, Decoder<?>> FIELD_DECODERS;
+    private static final String[] FIELD_NAMES = {
+            "month", "day"
+    };
+
+    private final FieldNaming fieldNaming;
+    private final String[]    fieldNames;
+
+    /**
+     * Creates a {@code MonthDayAsDocumentCodec} using
+     * the {@link FieldNaming#FULL} names.
+     */
+    public MonthDayAsDocumentCodec() {
+        this(FULL);
+    }
 
-    static {
-        Map<String, Decoder<?>> fd = new HashMap<>();
-        fd.put("month", (r, dc) -> r.readInt32());
-        fd.put("day", (r, dc) -> r.readInt32());
-        FIELD_DECODERS = unmodifiableMap(fd);
+    /**
+     * Creates a {@code MonthDayAsDocumentCodec} using
+     * the provided names.
+     *
+     * @param fieldNaming not null
+     */
+    public MonthDayAsDocumentCodec(FieldNaming fieldNaming) {
+        this.fieldNaming = requireNonNull(fieldNaming, "fieldNaming is null");
+        fieldNames = fieldNames(fieldNaming, FIELD_NAMES);
     }
 
     @Override
@@ -67,8 +89,8 @@ public final class MonthDayAsDocumentCodec implements Codec<MonthDay> {
         requireNonNull(writer, "writer is null");
         requireNonNull(value, "value is null");
         writer.writeStartDocument();
-        writer.writeInt32("month", value.getMonthValue());
-        writer.writeInt32("day", value.getDayOfMonth());
+        writer.writeInt32(fieldNames[0], value.getMonthValue());
+        writer.writeInt32(fieldNames[1], value.getDayOfMonth());
         writer.writeEndDocument();
     }
 
@@ -78,17 +100,61 @@ public final class MonthDayAsDocumentCodec implements Codec<MonthDay> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                () -> readDocument(reader, decoderContext, FIELD_DECODERS),
-                val -> of(
-                        getFieldValue(val, "month", Integer.class),
-                        getFieldValue(val, "day", Integer.class)
-                )
-        );
+
+        int month = 0;
+        int day = 0;
+        int readFields = 0;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != END_OF_DOCUMENT) {
+            int field = readField(reader, fieldNames, readFields);
+            readFields |= 1 << field;
+            switch (field) {
+                case 0:
+                    month = reader.readInt32();
+                    break;
+                default:
+                    day = reader.readInt32();
+                    break;
+            }
+        }
+        reader.readEndDocument();
+        checkFields(fieldNames, readFields);
+
+        try {
+            return of(month, day);
+        }
+        catch (DateTimeException ex) {
+            throw unsupportedDocument(
+                    fieldNames, new Object[] { month, day }, ex
+            );
+        }
     }
 
     @Override
     public Class<MonthDay> getEncoderClass() {
         return MonthDay.class;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) { return true; }
+        if (obj == null || getClass() != obj.getClass()) { return false; }
+
+        MonthDayAsDocumentCodec rhs = (MonthDayAsDocumentCodec)obj;
+
+        return fieldNaming == rhs.fieldNaming;
+    }
+
+    @Override
+    public int hashCode() {
+        return fieldNaming.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "MonthDayAsDocumentCodec[" +
+               "fieldNaming=" + fieldNaming +
+               ']';
+    }
 }
@@ -16,7 +16,7 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.monthday;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
 import static java.util.Objects.requireNonNull;
 
 import java.time.MonthDay;
@@ -56,10 +56,13 @@ public final class MonthDayAsStringCodec implements Codec<MonthDay> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readString,
-                MonthDay::parse
-        );
+        String value = reader.readString();
+        try {
+            return MonthDay.parse(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
@@ -16,26 +16,31 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.offsetdatetime;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.getFieldValue;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readDocument;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.FULL;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.checkFields;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.fieldNames;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readField;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.unsupportedDocument;
 import static java.time.OffsetDateTime.of;
-import static java.util.Collections.unmodifiableMap;
+import static java.util.Arrays.copyOf;
 import static java.util.Objects.requireNonNull;
+import static org.bson.BsonType.END_OF_DOCUMENT;
 
+import java.time.DateTimeException;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Objects;
 
 import org.bson.BsonReader;
 import org.bson.BsonWriter;
 import org.bson.codecs.Codec;
-import org.bson.codecs.Decoder;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 
+import io.github.cbartosiak.bson.codecs.jsr310.FieldNaming;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantAsDateTimeCodec;
 import io.github.cbartosiak.bson.codecs.jsr310.localdatetime.LocalDateTimeAsDocumentCodec;
 import io.github.cbartosiak.bson.codecs.jsr310.zoneoffset.ZoneOffsetAsInt32Codec;
 
@@ -55,17 +60,32 @@ import io.github.cbartosiak.bson.codecs.jsr310.zoneoffset.ZoneOffsetAsInt32Codec
  * <li>{@code dateTime} (a non-null value);
  * <li>{@code offset} (a non-null value).
  * </ul>
- * The field values depend on provided codecs.
+ * The field values depend on provided codecs, the names of the fields on
+ * the provided {@link FieldNaming}.
+ * <p>
+ * Optionally, the codec also writes the {@code instant} field, holding
+ * the value normalized to {@code UTC} using the provided codec, such as
+ * {@link InstantAsDateTimeCodec}. Its order does not depend on the offsets
+ * of the values, so that an index on it serves range queries. The field is
+ * ignored when decoding, so that documents with and without it can be read.
  * <p>
  * This type is <b>immutable</b>.
  */
 public final class OffsetDateTimeAsDocumentCodec
         implements Codec<OffsetDateTime> {
 
+    private static final String[] FIELD_NAMES = {
+            "dateTime", "offset", "instant"
+    };
+
+    private static final int REQUIRED_FIELDS = 2;
+
     private final Codec<LocalDateTime> localDateTimeCodec;
     private final Codec<ZoneOffset>    zoneOffsetCodec;
-
-    private final Map<String, Decoder<?>> fieldDecoders;
+    private final Codec<Instant>       instantCodec;
+    private final FieldNaming          fieldNaming;
+    private final String[]             fieldNames;
+    private final String[]             requiredFieldNames;
 
     /**
      * Creates an {@code OffsetDateTimeAsDocumentCodec} using:
@@ -75,9 +95,25 @@ public final class OffsetDateTimeAsDocumentCodec
      * </ul>
      */
     public OffsetDateTimeAsDocumentCodec() {
+        this(FULL);
+    }
+
+    /**
+     * Creates an {@code OffsetDateTimeAsDocumentCodec} using:
+     * <ul>
+     * <li>a {@link LocalDateTimeAsDocumentCodec};
+     * <li>a {@link ZoneOffsetAsInt32Codec},
+     * </ul>
+     * and the provided names.
+     *
+     * @param fieldNaming not null
+     */
+    public OffsetDateTimeAsDocumentCodec(FieldNaming fieldNaming) {
         this(
-                new LocalDateTimeAsDocumentCodec(),
-                new ZoneOffsetAsInt32Codec()
+                new LocalDateTimeAsDocumentCodec(fieldNaming),
+                new ZoneOffsetAsInt32Codec(),
+                null,
+                fieldNaming
         );
     }
 
@@ -92,17 +128,57 @@ public final class OffsetDateTimeAsDocumentCodec
             Codec<LocalDateTime> localDateTimeCodec,
             Codec<ZoneOffset> zoneOffsetCodec) {
 
+        this(localDateTimeCodec, zoneOffsetCodec, null, FULL);
+    }
+
+    /**
+     * Creates an {@code OffsetDateTimeAsDocumentCodec} using
+     * the provided codecs, which also writes the {@code instant} field.
+     *
+     * @param localDateTimeCodec not null
+     * @param zoneOffsetCodec    not null
+     * @param instantCodec       not null
+     */
+    public OffsetDateTimeAsDocumentCodec(
+            Codec<LocalDateTime> localDateTimeCodec,
+            Codec<ZoneOffset> zoneOffsetCodec,
+            Codec<Instant> instantCodec) {
+
+        this(
+                localDateTimeCodec,
+                zoneOffsetCodec,
+                requireNonNull(instantCodec, "instantCodec is null"),
+                FULL
+        );
+    }
+
+    /**
+     * Creates an {@code OffsetDateTimeAsDocumentCodec} using
+     * the provided codecs and names, which also writes the {@code instant}
+     * field if its codec is provided.
+     *
+     * @param localDateTimeCodec not null
+     * @param zoneOffsetCodec    not null
+     * @param instantCodec       {@code null} not to write the {@code instant}
+     *                           field
+     * @param fieldNaming        not null
+     */
+    public OffsetDateTimeAsDocumentCodec(
+            Codec<LocalDateTime> localDateTimeCodec,
+            Codec<ZoneOffset> zoneOffsetCodec,
+            Codec<Instant> instantCodec,
+            FieldNaming fieldNaming) {
+
         this.localDateTimeCodec = requireNonNull(
                 localDateTimeCodec, "localDateTimeCodec is null"
         );
         this.zoneOffsetCodec = requireNonNull(
                 zoneOffsetCodec, "zoneOffsetCodec is null"
         );
-
-        Map<String, Decoder<?>> fd = new HashMap<>();
-        fd.put("dateTime", localDateTimeCodec::decode);
-        fd.put("offset", zoneOffsetCodec::decode);
-        fieldDecoders = unmodifiableMap(fd);
+        this.instantCodec = instantCodec;
+        this.fieldNaming = requireNonNull(fieldNaming, "fieldNaming is null");
+        fieldNames = fieldNames(fieldNaming, FIELD_NAMES);
+        requiredFieldNames = copyOf(fieldNames, REQUIRED_FIELDS);
     }
 
     @Override
@@ -116,14 +192,19 @@ public final class OffsetDateTimeAsDocumentCodec
 
         writer.writeStartDocument();
 
-        writer.writeName("dateTime");
+        writer.writeName(fieldNames[0]);
         localDateTimeCodec.encode(
                 writer, value.toLocalDateTime(), encoderContext
         );
 
-        writer.writeName("offset");
+        writer.writeName(fieldNames[1]);
         zoneOffsetCodec.encode(writer, value.getOffset(), encoderContext);
 
+        if (instantCodec != null) {
+            writer.writeName(fieldNames[2]);
+            instantCodec.encode(writer, value.toInstant(), encoderContext);
+        }
+
         writer.writeEndDocument();
     }
 
@@ -133,13 +214,44 @@ public final class OffsetDateTimeAsDocumentCodec
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                () -> readDocument(reader, decoderContext, fieldDecoders),
-                val -> of(
-                        getFieldValue(val, "dateTime", LocalDateTime.class),
-                        getFieldValue(val, "offset", ZoneOffset.class)
-                )
+
+        LocalDateTime dateTime = null;
+        ZoneOffset offset = null;
+        int readFields = 0;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != END_OF_DOCUMENT) {
+            int field = readField(reader, fieldNames, readFields);
+            readFields |= 1 << field;
+            switch (field) {
+                case 0:
+                    dateTime = localDateTimeCodec.decode(
+                            reader, decoderContext
+                    );
+                    break;
+                case 1:
+                    offset = zoneOffsetCodec.decode(reader, decoderContext);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.readEndDocument();
+        checkFields(
+                requiredFieldNames, readFields & ~(1 << REQUIRED_FIELDS)
         );
+
+        try {
+            return of(dateTime, offset);
+        }
+        catch (DateTimeException ex) {
+            throw unsupportedDocument(
+                    requiredFieldNames,
+                    new Object[] { dateTime, offset },
+                    ex
+            );
+        }
     }
 
     @Override
@@ -156,14 +268,16 @@ public final class OffsetDateTimeAsDocumentCodec
 
         return localDateTimeCodec.equals(rhs.localDateTimeCodec) &&
                zoneOffsetCodec.equals(rhs.zoneOffsetCodec) &&
-               fieldDecoders.equals(rhs.fieldDecoders);
+               Objects.equals(instantCodec, rhs.instantCodec) &&
+               fieldNaming == rhs.fieldNaming;
     }
 
     @Override
     public int hashCode() {
         int result = localDateTimeCodec.hashCode();
         result = 31 * result + zoneOffsetCodec.hashCode();
-        result = 31 * result + fieldDecoders.hashCode();
+        result = 31 * result + Objects.hashCode(instantCodec);
+        result = 31 * result + fieldNaming.hashCode();
         return result;
     }
 
@@ -172,7 +286,8 @@ public final class OffsetDateTimeAsDocumentCodec
         return "OffsetDateTimeAsDocumentCodec[" +
                "localDateTimeCodec=" + localDateTimeCodec +
                ",zoneOffsetCodec=" + zoneOffsetCodec +
-               ",fieldDecoders=" + fieldDecoders +
+               ",instantCodec=" + instantCodec +
+               ",fieldNaming=" + fieldNaming +
                ']';
     }
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.offsetdatetime;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.OffsetPrecision.QUARTER_HOURS;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.toEpochUnits;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateEncodeException;
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+import static java.lang.String.format;
+import static java.time.temporal.ChronoUnit.MICROS;
+import static java.util.Objects.requireNonNull;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import io.github.cbartosiak.bson.codecs.jsr310.OffsetPrecision;
+
+/**
+ * <p>
+ * Encodes and decodes {@code OffsetDateTime} values to and from
+ * {@code BSON Int64}, such as {@code 387_810_439_711_604_812}.
+ * <p>
+ * The values are stored as the number of the chosen units since the epoch
+ * of the instant, shifted left to make room for the offset, which is stored
+ * increased by 18 hours in the low bits. The example above is
+ * {@code 2018-01-02T10:15:30.123456+01:00} stored with the default
+ * configuration. The supported values depend on the configuration:
+ * <ul>
+ * <li>{@code MILLIS} and {@link OffsetPrecision#QUARTER_HOURS} (8 bits):
+ * about 1.1 million years around the epoch;
+ * <li>{@code MICROS} and {@link OffsetPrecision#QUARTER_HOURS} (8 bits):
+ * the years from 828 to 3111;
+ * <li>{@code MILLIS} and {@link OffsetPrecision#SECONDS} (17 bits):
+ * the years from -260 to 4199.
+ * </ul>
+ * The stored numbers are ordered the same way as
+ * {@link OffsetDateTime#compareTo}: by the instant first and by the offset
+ * then. The offsets are restored exactly.
+ * <p>
+ * Note that the precision finer than the chosen unit is lost.
+ * <p>
+ * This type is <b>immutable</b>.
+ */
+public final class OffsetDateTimeAsInt64Codec
+        implements Codec<OffsetDateTime> {
+
+    private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+    private static final int QUARTER_HOUR_SECONDS = 900;
+
+    private final ChronoUnit      unit;
+    private final OffsetPrecision offsetPrecision;
+    private final long            unitsPerSecond;
+    private final int             offsetDivisor;
+    private final int             offsetBits;
+    private final long            offsetMask;
+
+    /**
+     * Creates an {@code OffsetDateTimeAsInt64Codec} storing microseconds
+     * and {@link OffsetPrecision#QUARTER_HOURS} offsets.
+     */
+    public OffsetDateTimeAsInt64Codec() {
+        this(MICROS, QUARTER_HOURS);
+    }
+
+    /**
+     * Creates an {@code OffsetDateTimeAsInt64Codec} storing the provided
+     * units and offsets of the provided precision.
+     *
+     * @param unit            not null, {@code MILLIS} or {@code MICROS}, the
+     *                        latter with {@link OffsetPrecision#QUARTER_HOURS}
+     *                        only
+     * @param offsetPrecision not null
+     */
+    public OffsetDateTimeAsInt64Codec(
+            ChronoUnit unit,
+            OffsetPrecision offsetPrecision) {
+
+        this.unit = requireNonNull(unit, "unit is null");
+        this.offsetPrecision =
+                requireNonNull(offsetPrecision, "offsetPrecision is null");
+        switch (unit) {
+            case MILLIS:
+                unitsPerSecond = 1_000L;
+                break;
+            case MICROS:
+                if (offsetPrecision != QUARTER_HOURS) {
+                    throw new IllegalArgumentException(format(
+                            "The unit %s is not supported with %s offsets",
+                            unit, offsetPrecision
+                    ));
+                }
+                unitsPerSecond = 1_000_000L;
+                break;
+            default:
+                throw new IllegalArgumentException(format(
+                        "The unit %s is not supported", unit
+                ));
+        }
+        offsetDivisor =
+                offsetPrecision == QUARTER_HOURS ? QUARTER_HOUR_SECONDS : 1;
+        offsetBits = offsetPrecision == QUARTER_HOURS ? 8 : 17;
+        offsetMask = (1L << offsetBits) - 1L;
+    }
+
+    @Override
+    public void encode(
+            BsonWriter writer,
+            OffsetDateTime value,
+            EncoderContext encoderContext) {
+
+        requireNonNull(writer, "writer is null");
+        requireNonNull(value, "value is null");
+        long packed;
+        try {
+            packed = pack(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateEncodeException(value, ex);
+        }
+        writer.writeInt64(packed);
+    }
+
+    private long pack(OffsetDateTime value) {
+        int offsetSeconds = value.getOffset().getTotalSeconds();
+        if (offsetSeconds % offsetDivisor != 0) {
+            throw new DateTimeException(
+                    "The offset is not a whole number of quarter hours"
+            );
+        }
+        long units = toEpochUnits(
+                value.toEpochSecond(), value.getNano(), unitsPerSecond
+        );
+        if (units << offsetBits >> offsetBits != units) {
+            throw new ArithmeticException("long overflow");
+        }
+        return units << offsetBits |
+               (offsetSeconds + MAX_OFFSET_SECONDS) / offsetDivisor;
+    }
+
+    @Override
+    public OffsetDateTime decode(
+            BsonReader reader,
+            DecoderContext decoderContext) {
+
+        requireNonNull(reader, "reader is null");
+        long value = reader.readInt64();
+        long units = value >> offsetBits;
+        try {
+            ZoneOffset offset = ZoneOffset.ofTotalSeconds(
+                    (int) (value & offsetMask) * offsetDivisor -
+                    MAX_OFFSET_SECONDS
+            );
+            return OffsetDateTime.of(
+                    LocalDateTime.ofEpochSecond(
+                            floorDiv(units, unitsPerSecond),
+                            (int) (floorMod(units, unitsPerSecond) *
+                                   (1_000_000_000L / unitsPerSecond)),
+                            offset
+                    ),
+                    offset
+            );
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
+    }
+
+    @Override
+    public Class<OffsetDateTime> getEncoderClass() {
+        return OffsetDateTime.class;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) { return true; }
+        if (obj == null || getClass() != obj.getClass()) { return false; }
+
+        OffsetDateTimeAsInt64Codec rhs = (OffsetDateTimeAsInt64Codec)obj;
+
+        return unit == rhs.unit &&
+               offsetPrecision == rhs.offsetPrecision;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = unit.hashCode();
+        result = 31 * result + offsetPrecision.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "OffsetDateTimeAsInt64Codec[" +
+               "unit=" + unit +
+               ",offsetPrecision=" + offsetPrecision +
+               ']';
+    }
+}
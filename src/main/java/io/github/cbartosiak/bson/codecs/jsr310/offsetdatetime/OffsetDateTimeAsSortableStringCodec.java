@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.offsetdatetime;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.SortableFormat.formatOffsetDateTime;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.SortableFormat.parseOffsetDateTime;
+import static java.util.Objects.requireNonNull;
+
+import java.time.OffsetDateTime;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * <p>
+ * Encodes and decodes {@code OffsetDateTime} values to and from
+ * {@code BSON String}, such as
+ * {@code 00000002018-01-02T09:15:30.000000000Z068400}.
+ * <p>
+ * The values are stored as the instant, in the layout of
+ * {@code InstantAsSortableStringCodec}, followed by six digits of the
+ * offset seconds increased by {@code 64800} (18 hours), such that their
+ * lexicographic order is the order of {@link OffsetDateTime#compareTo}:
+ * by the instant first and by the offset then. The example above is
+ * {@code 2018-01-02T10:15:30+01:00}.
+ * <p>
+ * This type is <b>immutable</b>.
+ */
+public final class OffsetDateTimeAsSortableStringCodec
+        implements Codec<OffsetDateTime> {
+
+    @Override
+    public void encode(
+            BsonWriter writer,
+            OffsetDateTime value,
+            EncoderContext encoderContext) {
+
+        requireNonNull(writer, "writer is null");
+        requireNonNull(value, "value is null");
+        writer.writeString(formatOffsetDateTime(value));
+    }
+
+    @Override
+    public OffsetDateTime decode(
+            BsonReader reader,
+            DecoderContext decoderContext) {
+
+        requireNonNull(reader, "reader is null");
+        String value = reader.readString();
+        try {
+            return parseOffsetDateTime(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
+    }
+
+    @Override
+    public Class<OffsetDateTime> getEncoderClass() {
+        return OffsetDateTime.class;
+    }
+}
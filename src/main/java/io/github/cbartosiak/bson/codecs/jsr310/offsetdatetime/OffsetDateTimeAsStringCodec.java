@@ -16,7 +16,9 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.offsetdatetime;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.IsoFormatter.formatOffsetDateTime;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.IsoParser.parseOffsetDateTime;
 import static java.util.Objects.requireNonNull;
 
 import java.time.OffsetDateTime;
@@ -48,7 +50,7 @@ public final class OffsetDateTimeAsStringCodec
 
         requireNonNull(writer, "writer is null");
         requireNonNull(value, "value is null");
-        writer.writeString(value.toString());
+        writer.writeString(formatOffsetDateTime(value));
     }
 
     @Override
@@ -57,10 +59,13 @@ public final class OffsetDateTimeAsStringCodec
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readString,
-                OffsetDateTime::parse
-        );
+        String value = reader.readString();
+        try {
+            return parseOffsetDateTime(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
@@ -16,26 +16,27 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.offsettime;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.getFieldValue;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readDocument;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.FULL;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.checkFields;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.fieldNames;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readField;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.unsupportedDocument;
 import static java.time.OffsetTime.of;
-import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
+import static org.bson.BsonType.END_OF_DOCUMENT;
 
+import java.time.DateTimeException;
 import java.time.LocalTime;
 import java.time.OffsetTime;
 import java.time.ZoneOffset;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.bson.BsonReader;
 import org.bson.BsonWriter;
 import org.bson.codecs.Codec;
-import org.bson.codecs.Decoder;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 
+import io.github.cbartosiak.bson.codecs.jsr310.FieldNaming;
 import io.github.cbartosiak.bson.codecs.jsr310.localtime.LocalTimeAsDocumentCodec;
 import io.github.cbartosiak.bson.codecs.jsr310.zoneoffset.ZoneOffsetAsInt32Codec;
 
@@ -55,16 +56,21 @@ import io.github.cbartosiak.bson.codecs.jsr310.zoneoffset.ZoneOffsetAsInt32Codec
  * <li>{@code time} (a non-null value);
  * <li>{@code offset} (a non-null value).
  * </ul>
- * The field values depend on provided codecs.
+ * The field values depend on provided codecs, the names of the fields on
+ * the provided {@link FieldNaming}.
  * <p>
  * This type is <b>immutable</b>.
  */
 public final class OffsetTimeAsDocumentCodec implements Codec<OffsetTime> {
 
+    private static final String[] FIELD_NAMES = {
+            "time", "offset"
+    };
+
     private final Codec<LocalTime>  localTimeCodec;
     private final Codec<ZoneOffset> zoneOffsetCodec;
-
-    private final Map<String, Decoder<?>> fieldDecoders;
+    private final FieldNaming       fieldNaming;
+    private final String[]          fieldNames;
 
     /**
      * Creates an {@code OffsetTimeAsDocumentCodec} using:
@@ -74,9 +80,24 @@ public final class OffsetTimeAsDocumentCodec implements Codec<OffsetTime> {
      * </ul>
      */
     public OffsetTimeAsDocumentCodec() {
+        this(FULL);
+    }
+
+    /**
+     * Creates an {@code OffsetTimeAsDocumentCodec} using:
+     * <ul>
+     * <li>a {@link LocalTimeAsDocumentCodec};
+     * <li>a {@link ZoneOffsetAsInt32Codec},
+     * </ul>
+     * and the provided names.
+     *
+     * @param fieldNaming not null
+     */
+    public OffsetTimeAsDocumentCodec(FieldNaming fieldNaming) {
         this(
-                new LocalTimeAsDocumentCodec(),
-                new ZoneOffsetAsInt32Codec()
+                new LocalTimeAsDocumentCodec(fieldNaming),
+                new ZoneOffsetAsInt32Codec(),
+                fieldNaming
         );
     }
 
@@ -91,17 +112,30 @@ public final class OffsetTimeAsDocumentCodec implements Codec<OffsetTime> {
             Codec<LocalTime> localTimeCodec,
             Codec<ZoneOffset> zoneOffsetCodec) {
 
+        this(localTimeCodec, zoneOffsetCodec, FULL);
+    }
+
+    /**
+     * Creates an {@code OffsetTimeAsDocumentCodec} using
+     * the provided codecs and names.
+     *
+     * @param localTimeCodec  not null
+     * @param zoneOffsetCodec not null
+     * @param fieldNaming     not null
+     */
+    public OffsetTimeAsDocumentCodec(
+            Codec<LocalTime> localTimeCodec,
+            Codec<ZoneOffset> zoneOffsetCodec,
+            FieldNaming fieldNaming) {
+
         this.localTimeCodec = requireNonNull(
                 localTimeCodec, "localTimeCodec is null"
         );
         this.zoneOffsetCodec = requireNonNull(
                 zoneOffsetCodec, "zoneOffsetCodec is null"
         );
-
-        Map<String, Decoder<?>> fd = new HashMap<>();
-        fd.put("time", localTimeCodec::decode);
-        fd.put("offset", zoneOffsetCodec::decode);
-        fieldDecoders = unmodifiableMap(fd);
+        this.fieldNaming = requireNonNull(fieldNaming, "fieldNaming is null");
+        fieldNames = fieldNames(fieldNaming, FIELD_NAMES);
     }
 
     @Override
@@ -115,10 +149,10 @@ public final class OffsetTimeAsDocumentCodec implements Codec<OffsetTime> {
 
         writer.writeStartDocument();
 
-        writer.writeName("time");
+        writer.writeName(fieldNames[0]);
         localTimeCodec.encode(writer, value.toLocalTime(), encoderContext);
 
-        writer.writeName("offset");
+        writer.writeName(fieldNames[1]);
         zoneOffsetCodec.encode(writer, value.getOffset(), encoderContext);
 
         writer.writeEndDocument();
@@ -130,13 +164,35 @@ public final class OffsetTimeAsDocumentCodec implements Codec<OffsetTime> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                () -> readDocument(reader, decoderContext, fieldDecoders),
-                val -> of(
-                        getFieldValue(val, "time", LocalTime.class),
-                        getFieldValue(val, "offset", ZoneOffset.class)
-                )
-        );
+
+        LocalTime time = null;
+        ZoneOffset offset = null;
+        int readFields = 0;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != END_OF_DOCUMENT) {
+            int field = readField(reader, fieldNames, readFields);
+            readFields |= 1 << field;
+            switch (field) {
+                case 0:
+                    time = localTimeCodec.decode(reader, decoderContext);
+                    break;
+                default:
+                    offset = zoneOffsetCodec.decode(reader, decoderContext);
+                    break;
+            }
+        }
+        reader.readEndDocument();
+        checkFields(fieldNames, readFields);
+
+        try {
+            return of(time, offset);
+        }
+        catch (DateTimeException ex) {
+            throw unsupportedDocument(
+                    fieldNames, new Object[] { time, offset }, ex
+            );
+        }
     }
 
     @Override
@@ -153,14 +209,14 @@ public final class OffsetTimeAsDocumentCodec implements Codec<OffsetTime> {
 
         return localTimeCodec.equals(rhs.localTimeCodec) &&
                zoneOffsetCodec.equals(rhs.zoneOffsetCodec) &&
-               fieldDecoders.equals(rhs.fieldDecoders);
+               fieldNaming == rhs.fieldNaming;
     }
 
     @Override
     public int hashCode() {
         int result = localTimeCodec.hashCode();
         result = 31 * result + zoneOffsetCodec.hashCode();
-        result = 31 * result + fieldDecoders.hashCode();
+        result = 31 * result + fieldNaming.hashCode();
         return result;
     }
 
@@ -169,7 +225,7 @@ public final class OffsetTimeAsDocumentCodec implements Codec<OffsetTime> {
         return "OffsetTimeAsDocumentCodec[" +
                "localTimeCodec=" + localTimeCodec +
                ",zoneOffsetCodec=" + zoneOffsetCodec +
-               ",fieldDecoders=" + fieldDecoders +
+               ",fieldNaming=" + fieldNaming +
                ']';
     }
 }
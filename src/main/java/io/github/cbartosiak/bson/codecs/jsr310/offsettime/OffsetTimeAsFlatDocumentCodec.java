@@ -0,0 +1,150 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.offsettime;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.FULL;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.fieldNames;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.FlatDocument.OFFSET_TIME_FIELD_NAMES;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.FlatDocument.readFlatDocument;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.FlatDocument.unsupportedFlatDocument;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.FlatDocument.writeTime;
+import static java.time.OffsetTime.of;
+import static java.time.ZoneOffset.ofTotalSeconds;
+import static java.util.Objects.requireNonNull;
+
+import java.time.DateTimeException;
+import java.time.OffsetTime;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import io.github.cbartosiak.bson.codecs.jsr310.FieldNaming;
+
+/**
+ * <p>
+ * Encodes and decodes {@code OffsetTime} values to and from
+ * {@code BSON Document} of a single level, such as
+ * {@code { hour: 10, minute: 15, second: 30, nano: 0, offset: 3600 }}.
+ * <p>
+ * The values are stored using the following structure:
+ * <ul>
+ * <li>{@code hour} (a non-null {@code Int32});
+ * <li>{@code minute} (a non-null {@code Int32});
+ * <li>{@code second} (a non-null {@code Int32});
+ * <li>{@code nano} (a non-null {@code Int32});
+ * <li>{@code offset} (a non-null {@code Int32}, total seconds).
+ * </ul>
+ * <p>
+ * Unlike {@link OffsetTimeAsDocumentCodec}, it does not nest a document of
+ * the time, which saves its length and terminator.
+ * <p>
+ * The names of the fields depend on the provided {@link FieldNaming}, the
+ * ones above are the {@link FieldNaming#FULL} names.
+ * <p>
+ * This type is <b>immutable</b>.
+ */
+public final class OffsetTimeAsFlatDocumentCodec implements Codec<OffsetTime> {
+
+    private final FieldNaming fieldNaming;
+    private final String[]    fieldNames;
+
+    /**
+     * Creates an {@code OffsetTimeAsFlatDocumentCodec} using
+     * the {@link FieldNaming#FULL} names.
+     */
+    public OffsetTimeAsFlatDocumentCodec() {
+        this(FULL);
+    }
+
+    /**
+     * Creates an {@code OffsetTimeAsFlatDocumentCodec} using
+     * the provided names.
+     *
+     * @param fieldNaming not null
+     */
+    public OffsetTimeAsFlatDocumentCodec(FieldNaming fieldNaming) {
+        this.fieldNaming = requireNonNull(fieldNaming, "fieldNaming is null");
+        fieldNames = fieldNames(fieldNaming, OFFSET_TIME_FIELD_NAMES);
+    }
+
+    @Override
+    public void encode(
+            BsonWriter writer,
+            OffsetTime value,
+            EncoderContext encoderContext) {
+
+        requireNonNull(writer, "writer is null");
+        requireNonNull(value, "value is null");
+        writer.writeStartDocument();
+        writeTime(writer, fieldNames, 0, value.toLocalTime());
+        writer.writeInt32(fieldNames[4], value.getOffset().getTotalSeconds());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public OffsetTime decode(
+            BsonReader reader,
+            DecoderContext decoderContext) {
+
+        requireNonNull(reader, "reader is null");
+
+        int[] values = new int[OFFSET_TIME_FIELD_NAMES.length];
+        readFlatDocument(reader, fieldNames, values);
+
+        try {
+            return of(
+                    values[0], values[1], values[2], values[3],
+                    ofTotalSeconds(values[4])
+            );
+        }
+        catch (DateTimeException ex) {
+            throw unsupportedFlatDocument(
+                    fieldNames, values, null, ex
+            );
+        }
+    }
+
+    @Override
+    public Class<OffsetTime> getEncoderClass() {
+        return OffsetTime.class;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) { return true; }
+        if (obj == null || getClass() != obj.getClass()) { return false; }
+
+        OffsetTimeAsFlatDocumentCodec rhs = (OffsetTimeAsFlatDocumentCodec)obj;
+
+        return fieldNaming == rhs.fieldNaming;
+    }
+
+    @Override
+    public int hashCode() {
+        return fieldNaming.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "OffsetTimeAsFlatDocumentCodec[" +
+               "fieldNaming=" + fieldNaming +
+               ']';
+    }
+}
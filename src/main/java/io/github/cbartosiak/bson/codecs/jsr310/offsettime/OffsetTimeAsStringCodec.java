@@ -16,7 +16,9 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.offsettime;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.IsoFormatter.formatOffsetTime;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.IsoParser.parseOffsetTime;
 import static java.util.Objects.requireNonNull;
 
 import java.time.OffsetTime;
@@ -47,7 +49,7 @@ public final class OffsetTimeAsStringCodec implements Codec<OffsetTime> {
 
         requireNonNull(writer, "writer is null");
         requireNonNull(value, "value is null");
-        writer.writeString(value.toString());
+        writer.writeString(formatOffsetTime(value));
     }
 
     @Override
@@ -56,10 +58,13 @@ public final class OffsetTimeAsStringCodec implements Codec<OffsetTime> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readString,
-                OffsetTime::parse
-        );
+        String value = reader.readString();
+        try {
+            return parseOffsetTime(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
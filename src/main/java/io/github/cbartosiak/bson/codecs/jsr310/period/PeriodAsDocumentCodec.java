@@ -16,24 +16,29 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.period;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.getFieldValue;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readDocument;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.FULL;
+import static io.github.cbartosiak.bson.codecs.jsr310.ZeroComponents.REQUIRED;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.checkFields;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.fieldNames;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readField;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.unsupportedDocument;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.writeComponent;
 import static java.time.Period.of;
-import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
+import static org.bson.BsonType.END_OF_DOCUMENT;
 
+import java.time.DateTimeException;
 import java.time.Period;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.bson.BsonReader;
 import org.bson.BsonWriter;
 import org.bson.codecs.Codec;
-import org.bson.codecs.Decoder;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 
+import io.github.cbartosiak.bson.codecs.jsr310.FieldNaming;
+import io.github.cbartosiak.bson.codecs.jsr310.ZeroComponents;
+
 /**
  * <p>
  * Encodes and decodes {@code Period} values to and from
@@ -46,18 +51,58 @@ import org.bson.codecs.EncoderContext;
  * <li>{@code days} (a non-null {@code Int32}).
  * </ul>
  * <p>
+ * The names of the fields depend on the provided {@link FieldNaming}, the
+ * ones above are the {@link FieldNaming#FULL} names.
+ * <p>
+ * With {@link ZeroComponents#OMITTED}, the fields of the components equal to
+ * zero are not written and the missing fields are decoded as zero.
+ * <p>
  * This type is <b>immutable</b>.
  */
 public final class PeriodAsDocumentCodec implements Codec<Period> {
 
-    private static final Map<String, Decoder<?>> FIELD_DECODERS;
+    private static final String[] FIELD_NAMES = {
+            "years", "months", "days"
+    };
+
+    private final FieldNaming    fieldNaming;
+    private final ZeroComponents zeroComponents;
+    private final String[]       fieldNames;
+
+    /**
+     * Creates a {@code PeriodAsDocumentCodec} using
+     * the {@link FieldNaming#FULL} names.
+     */
+    public PeriodAsDocumentCodec() {
+        this(FULL);
+    }
+
+    /**
+     * Creates a {@code PeriodAsDocumentCodec} using
+     * the provided names.
+     *
+     * @param fieldNaming not null
+     */
+    public PeriodAsDocumentCodec(FieldNaming fieldNaming) {
+        this(fieldNaming, REQUIRED);
+    }
+
+    /**
+     * Creates a {@code PeriodAsDocumentCodec} using
+     * the provided names and treatment of the components equal to zero.
+     *
+     * @param fieldNaming    not null
+     * @param zeroComponents not null
+     */
+    public PeriodAsDocumentCodec(
+            FieldNaming fieldNaming,
+            ZeroComponents zeroComponents) {
 
-    static {
-        Map<String, Decoder<?>> fd = new HashMap<>();
-        fd.put("years", (r, dc) -> r.readInt32());
-        fd.put("months", (r, dc) -> r.readInt32());
-        fd.put("days", (r, dc) -> r.readInt32());
-        FIELD_DECODERS = unmodifiableMap(fd);
+        this.fieldNaming = requireNonNull(fieldNaming, "fieldNaming is null");
+        this.zeroComponents = requireNonNull(
+                zeroComponents, "zeroComponents is null"
+        );
+        fieldNames = fieldNames(fieldNaming, FIELD_NAMES);
     }
 
     @Override
@@ -69,9 +114,15 @@ public final class PeriodAsDocumentCodec implements Codec<Period> {
         requireNonNull(writer, "writer is null");
         requireNonNull(value, "value is null");
         writer.writeStartDocument();
-        writer.writeInt32("years", value.getYears());
-        writer.writeInt32("months", value.getMonths());
-        writer.writeInt32("days", value.getDays());
+        writeComponent(
+                writer, fieldNames[0], value.getYears(), zeroComponents
+        );
+        writeComponent(
+                writer, fieldNames[1], value.getMonths(), zeroComponents
+        );
+        writeComponent(
+                writer, fieldNames[2], value.getDays(), zeroComponents
+        );
         writer.writeEndDocument();
     }
 
@@ -81,18 +132,69 @@ public final class PeriodAsDocumentCodec implements Codec<Period> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                () -> readDocument(reader, decoderContext, FIELD_DECODERS),
-                val -> of(
-                        getFieldValue(val, "years", Integer.class),
-                        getFieldValue(val, "months", Integer.class),
-                        getFieldValue(val, "days", Integer.class)
-                )
-        );
+
+        int years = 0;
+        int months = 0;
+        int days = 0;
+        int readFields = 0;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != END_OF_DOCUMENT) {
+            int field = readField(reader, fieldNames, readFields);
+            readFields |= 1 << field;
+            switch (field) {
+                case 0:
+                    years = reader.readInt32();
+                    break;
+                case 1:
+                    months = reader.readInt32();
+                    break;
+                default:
+                    days = reader.readInt32();
+                    break;
+            }
+        }
+        reader.readEndDocument();
+        checkFields(fieldNames, readFields, zeroComponents);
+
+        try {
+            return of(years, months, days);
+        }
+        catch (DateTimeException ex) {
+            throw unsupportedDocument(
+                    fieldNames, new Object[] { years, months, days }, ex
+            );
+        }
     }
 
     @Override
     public Class<Period> getEncoderClass() {
         return Period.class;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) { return true; }
+        if (obj == null || getClass() != obj.getClass()) { return false; }
+
+        PeriodAsDocumentCodec rhs = (PeriodAsDocumentCodec)obj;
+
+        return fieldNaming == rhs.fieldNaming &&
+               zeroComponents == rhs.zeroComponents;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = fieldNaming.hashCode();
+        result = 31 * result + zeroComponents.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "PeriodAsDocumentCodec[" +
+               "fieldNaming=" + fieldNaming +
+               ",zeroComponents=" + zeroComponents +
+               ']';
+    }
 }
@@ -16,7 +16,7 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.period;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
 import static java.util.Objects.requireNonNull;
 
 import java.time.Period;
@@ -56,10 +56,13 @@ public final class PeriodAsStringCodec implements Codec<Period> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readString,
-                Period::parse
-        );
+        String value = reader.readString();
+        try {
+            return Period.parse(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
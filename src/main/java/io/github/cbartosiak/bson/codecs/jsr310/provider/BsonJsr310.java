@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.provider;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * Chooses the representation of a JSR-310 property of a POJO mapped with
+ * {@code PojoCodecProvider}, for example:
+ * <pre>
+ * public final class Entity {
+ *
+ *     &#64;BsonJsr310(Representation.DATE_TIME)
+ *     private Instant createdAt;
+ *
+ *     &#64;BsonJsr310(Representation.DOCUMENT)
+ *     private Instant auditTs;
+ *
+ *     ...
+ * }
+ * </pre>
+ * <p>
+ * The annotation is applied by {@link Jsr310Convention}, which has to be
+ * added to the conventions of the provider.
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ FIELD, METHOD })
+public @interface BsonJsr310 {
+
+    /**
+     * Returns the representation of the annotated property.
+     *
+     * @return the representation available for the property type, see
+     * {@link Jsr310CodecProvider}
+     */
+    Representation value();
+}
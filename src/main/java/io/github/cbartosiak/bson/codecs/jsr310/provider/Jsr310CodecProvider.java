@@ -0,0 +1,471 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.provider;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.DATE_TIME;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.DECIMAL128;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.DOCUMENT;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.FLAT_DOCUMENT;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.INT32;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.INT64;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.SORTABLE_STRING;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.STRING;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.RepresentationStrategy.READABLE;
+import static java.lang.String.format;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+
+import io.github.cbartosiak.bson.codecs.jsr310.dayofweek.DayOfWeekAsInt32Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.dayofweek.DayOfWeekAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.duration.DurationAsDecimal128Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.duration.DurationAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.duration.DurationAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantAsDateTimeCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantAsDecimal128Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantAsInt64Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantAsSortableStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdate.LocalDateAsDateTimeCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdate.LocalDateAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdate.LocalDateAsInt32Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdate.LocalDateAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdatetime.LocalDateTimeAsDateTimeCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdatetime.LocalDateTimeAsDecimal128Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdatetime.LocalDateTimeAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdatetime.LocalDateTimeAsFlatDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdatetime.LocalDateTimeAsInt64Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdatetime.LocalDateTimeAsSortableStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdatetime.LocalDateTimeAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localtime.LocalTimeAsDateTimeCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localtime.LocalTimeAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localtime.LocalTimeAsInt64Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.localtime.LocalTimeAsSortableStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localtime.LocalTimeAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.month.MonthAsInt32Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.month.MonthAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.monthday.MonthDayAsDecimal128Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.monthday.MonthDayAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.monthday.MonthDayAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.offsetdatetime.OffsetDateTimeAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.offsetdatetime.OffsetDateTimeAsFlatDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.offsetdatetime.OffsetDateTimeAsInt64Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.offsetdatetime.OffsetDateTimeAsSortableStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.offsetdatetime.OffsetDateTimeAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.offsettime.OffsetTimeAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.offsettime.OffsetTimeAsFlatDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.offsettime.OffsetTimeAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.period.PeriodAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.period.PeriodAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.year.YearAsInt32Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.yearmonth.YearMonthAsDecimal128Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.yearmonth.YearMonthAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.yearmonth.YearMonthAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.zoneddatetime.ZonedDateTimeAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.zoneddatetime.ZonedDateTimeAsFlatDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.zoneddatetime.ZonedDateTimeAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.zoneid.ZoneIdAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.zoneoffset.ZoneOffsetAsInt32Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.zoneoffset.ZoneOffsetAsStringCodec;
+
+/**
+ * <p>
+ * Provides codecs for all the supported JSR-310 types, choosing their
+ * representations with a {@link RepresentationStrategy}, optionally
+ * overridden for particular types:
+ * <pre>
+ * CodecRegistries.fromProviders(
+ *         new Jsr310CodecProvider(
+ *                 RepresentationStrategy.SORTABLE,
+ *                 singletonMap(Duration.class, Representation.STRING)
+ *         )
+ * )
+ * </pre>
+ * <p>
+ * The available representations are:
+ * <ul>
+ * <li>{@code DayOfWeek}: INT32, STRING;
+ * <li>{@code Duration}: DECIMAL128, DOCUMENT, STRING;
+ * <li>{@code Instant}: DATE_TIME, DECIMAL128, DOCUMENT, INT64, SORTABLE_STRING,
+ * STRING;
+ * <li>{@code LocalDate}: DATE_TIME, DOCUMENT, INT32, STRING;
+ * <li>{@code LocalDateTime}: DATE_TIME, DECIMAL128, DOCUMENT, FLAT_DOCUMENT,
+ * INT64, SORTABLE_STRING, STRING;
+ * <li>{@code LocalTime}: DATE_TIME, DOCUMENT, INT64, SORTABLE_STRING,
+ * STRING;
+ * <li>{@code Month}: INT32, STRING;
+ * <li>{@code MonthDay}: DECIMAL128, DOCUMENT, STRING;
+ * <li>{@code OffsetDateTime}: DOCUMENT, FLAT_DOCUMENT, INT64,
+ * SORTABLE_STRING, STRING;
+ * <li>{@code OffsetTime}: DOCUMENT, FLAT_DOCUMENT, STRING;
+ * <li>{@code Period}: DOCUMENT, STRING;
+ * <li>{@code Year}: INT32;
+ * <li>{@code YearMonth}: DECIMAL128, DOCUMENT, STRING;
+ * <li>{@code ZonedDateTime}: DOCUMENT, FLAT_DOCUMENT, STRING;
+ * <li>{@code ZoneId}: STRING;
+ * <li>{@code ZoneOffset}: INT32, STRING.
+ * </ul>
+ * <p>
+ * The codecs are created once and shared by all the providers, a lookup is
+ * a single identity hash map access. The only exceptions are the
+ * {@code DOCUMENT} representations of {@code LocalDateTime},
+ * {@code OffsetDateTime}, {@code OffsetTime} and {@code ZonedDateTime}, which
+ * are created on each lookup, so that the codecs of their fields are resolved
+ * from the registry (as it might override them).
+ * <p>
+ * This type is <b>immutable</b>.
+ */
+public final class Jsr310CodecProvider implements CodecProvider {
+
+    private static final Map<Class<?>, Map<Representation, Codec<?>>> CODECS =
+            new HashMap<>();
+
+    private static final
+    Map<Class<?>, Function<CodecRegistry, Codec<?>>> DOCUMENT_CODECS =
+            new HashMap<>();
+
+    private static final Class<?> ZONE_REGION_CLASS =
+            ZoneId.of("UTC").getClass();
+
+    static {
+        codec(DayOfWeek.class, INT32, new DayOfWeekAsInt32Codec());
+        codec(DayOfWeek.class, STRING, new DayOfWeekAsStringCodec());
+
+        codec(Duration.class, DECIMAL128, new DurationAsDecimal128Codec());
+        codec(Duration.class, DOCUMENT, new DurationAsDocumentCodec());
+        codec(Duration.class, STRING, new DurationAsStringCodec());
+
+        codec(Instant.class, DATE_TIME, new InstantAsDateTimeCodec());
+        codec(Instant.class, DECIMAL128, new InstantAsDecimal128Codec());
+        codec(Instant.class, DOCUMENT, new InstantAsDocumentCodec());
+        codec(Instant.class, INT64, new InstantAsInt64Codec());
+        codec(
+                Instant.class,
+                SORTABLE_STRING,
+                new InstantAsSortableStringCodec()
+        );
+        codec(Instant.class, STRING, new InstantAsStringCodec());
+
+        codec(LocalDate.class, DATE_TIME, new LocalDateAsDateTimeCodec());
+        codec(LocalDate.class, DOCUMENT, new LocalDateAsDocumentCodec());
+        codec(LocalDate.class, INT32, new LocalDateAsInt32Codec());
+        codec(LocalDate.class, STRING, new LocalDateAsStringCodec());
+
+        codec(
+                LocalDateTime.class,
+                DATE_TIME,
+                new LocalDateTimeAsDateTimeCodec()
+        );
+        codec(
+                LocalDateTime.class,
+                DECIMAL128,
+                new LocalDateTimeAsDecimal128Codec()
+        );
+        documentCodec(
+                LocalDateTime.class,
+                new LocalDateTimeAsDocumentCodec(),
+                registry -> new LocalDateTimeAsDocumentCodec(
+                        registry.get(LocalDate.class),
+                        registry.get(LocalTime.class)
+                )
+        );
+        codec(
+                LocalDateTime.class,
+                FLAT_DOCUMENT,
+                new LocalDateTimeAsFlatDocumentCodec()
+        );
+        codec(LocalDateTime.class, INT64, new LocalDateTimeAsInt64Codec());
+        codec(
+                LocalDateTime.class,
+                SORTABLE_STRING,
+                new LocalDateTimeAsSortableStringCodec()
+        );
+        codec(LocalDateTime.class, STRING, new LocalDateTimeAsStringCodec());
+
+        codec(LocalTime.class, DATE_TIME, new LocalTimeAsDateTimeCodec());
+        codec(LocalTime.class, DOCUMENT, new LocalTimeAsDocumentCodec());
+        codec(LocalTime.class, INT64, new LocalTimeAsInt64Codec());
+        codec(
+                LocalTime.class,
+                SORTABLE_STRING,
+                new LocalTimeAsSortableStringCodec()
+        );
+        codec(LocalTime.class, STRING, new LocalTimeAsStringCodec());
+
+        codec(Month.class, INT32, new MonthAsInt32Codec());
+        codec(Month.class, STRING, new MonthAsStringCodec());
+
+        codec(MonthDay.class, DECIMAL128, new MonthDayAsDecimal128Codec());
+        codec(MonthDay.class, DOCUMENT, new MonthDayAsDocumentCodec());
+        codec(MonthDay.class, STRING, new MonthDayAsStringCodec());
+
+        documentCodec(
+                OffsetDateTime.class,
+                new OffsetDateTimeAsDocumentCodec(),
+                registry -> new OffsetDateTimeAsDocumentCodec(
+                        registry.get(LocalDateTime.class),
+                        registry.get(ZoneOffset.class)
+                )
+        );
+        codec(
+                OffsetDateTime.class,
+                FLAT_DOCUMENT,
+                new OffsetDateTimeAsFlatDocumentCodec()
+        );
+        codec(
+                OffsetDateTime.class,
+                INT64,
+                new OffsetDateTimeAsInt64Codec()
+        );
+        codec(
+                OffsetDateTime.class,
+                SORTABLE_STRING,
+                new OffsetDateTimeAsSortableStringCodec()
+        );
+        codec(
+                OffsetDateTime.class,
+                STRING,
+                new OffsetDateTimeAsStringCodec()
+        );
+
+        documentCodec(
+                OffsetTime.class,
+                new OffsetTimeAsDocumentCodec(),
+                registry -> new OffsetTimeAsDocumentCodec(
+                        registry.get(LocalTime.class),
+                        registry.get(ZoneOffset.class)
+                )
+        );
+        codec(
+                OffsetTime.class,
+                FLAT_DOCUMENT,
+                new OffsetTimeAsFlatDocumentCodec()
+        );
+        codec(OffsetTime.class, STRING, new OffsetTimeAsStringCodec());
+
+        codec(Period.class, DOCUMENT, new PeriodAsDocumentCodec());
+        codec(Period.class, STRING, new PeriodAsStringCodec());
+
+        codec(Year.class, INT32, new YearAsInt32Codec());
+
+        codec(YearMonth.class, DECIMAL128, new YearMonthAsDecimal128Codec());
+        codec(YearMonth.class, DOCUMENT, new YearMonthAsDocumentCodec());
+        codec(YearMonth.class, STRING, new YearMonthAsStringCodec());
+
+        documentCodec(
+                ZonedDateTime.class,
+                new ZonedDateTimeAsDocumentCodec(),
+                registry -> new ZonedDateTimeAsDocumentCodec(
+                        registry.get(LocalDateTime.class),
+                        registry.get(ZoneOffset.class),
+                        registry.get(ZoneId.class)
+                )
+        );
+        codec(
+                ZonedDateTime.class,
+                FLAT_DOCUMENT,
+                new ZonedDateTimeAsFlatDocumentCodec()
+        );
+        codec(ZonedDateTime.class, STRING, new ZonedDateTimeAsStringCodec());
+
+        codec(ZoneId.class, STRING, new ZoneIdAsStringCodec());
+
+        codec(ZoneOffset.class, INT32, new ZoneOffsetAsInt32Codec());
+        codec(ZoneOffset.class, STRING, new ZoneOffsetAsStringCodec());
+    }
+
+    private final RepresentationStrategy         strategy;
+    private final Map<Class<?>, Representation> overrides;
+
+    private final Map<Class<?>, Codec<?>> codecs = new IdentityHashMap<>();
+
+    private final Map<Class<?>, Function<CodecRegistry, Codec<?>>>
+            documentCodecs = new IdentityHashMap<>();
+
+    /**
+     * Creates a {@code Jsr310CodecProvider} using the
+     * {@link RepresentationStrategy#READABLE} strategy.
+     */
+    public Jsr310CodecProvider() {
+        this(READABLE);
+    }
+
+    /**
+     * Creates a {@code Jsr310CodecProvider} using the provided strategy.
+     *
+     * @param strategy not null
+     */
+    public Jsr310CodecProvider(RepresentationStrategy strategy) {
+        this(strategy, emptyMap());
+    }
+
+    /**
+     * Creates a {@code Jsr310CodecProvider} using the provided strategy and
+     * the representations of particular types overriding it.
+     *
+     * @param strategy  not null
+     * @param overrides not null, with the available representations only
+     *
+     * @throws IllegalArgumentException if a representation is not available
+     */
+    public Jsr310CodecProvider(
+            RepresentationStrategy strategy,
+            Map<Class<?>, Representation> overrides) {
+
+        this.strategy = requireNonNull(strategy, "strategy is null");
+        this.overrides = unmodifiableMap(new LinkedHashMap<>(
+                requireNonNull(overrides, "overrides is null")
+        ));
+
+        Map<Class<?>, Representation> representations = new HashMap<>();
+        for (Class<?> type : CODECS.keySet()) {
+            representations.put(type, strategy.getRepresentation(type));
+        }
+        for (Map.Entry<Class<?>, Representation> override :
+                this.overrides.entrySet()) {
+
+            Class<?> type = requireNonNull(
+                    override.getKey(), "overrides contain a null type"
+            );
+            Representation representation = requireNonNull(
+                    override.getValue(),
+                    "overrides contain a null representation"
+            );
+            if (getCodec(type, representation) == null) {
+                throw new IllegalArgumentException(format(
+                        "The representation %s is not available for %s",
+                        representation, type.getName()
+                ));
+            }
+            representations.put(type, representation);
+        }
+
+        for (Map.Entry<Class<?>, Representation> representation :
+                representations.entrySet()) {
+
+            Class<?> type = representation.getKey();
+            if (representation.getValue() == DOCUMENT &&
+                DOCUMENT_CODECS.containsKey(type)) {
+
+                documentCodecs.put(type, DOCUMENT_CODECS.get(type));
+            }
+            else {
+                codecs.put(type, getCodec(type, representation.getValue()));
+            }
+        }
+        codecs.put(ZONE_REGION_CLASS, codecs.get(ZoneId.class));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Codec<T> get(Class<T> clazz, CodecRegistry registry) {
+        Codec<?> codec = codecs.get(clazz);
+        if (codec != null) {
+            return (Codec<T>) codec;
+        }
+        Function<CodecRegistry, Codec<?>> documentCodec =
+                documentCodecs.get(clazz);
+        if (documentCodec != null) {
+            return (Codec<T>) documentCodec.apply(registry);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) { return true; }
+        if (obj == null || getClass() != obj.getClass()) { return false; }
+
+        Jsr310CodecProvider rhs = (Jsr310CodecProvider)obj;
+
+        return codecs.equals(rhs.codecs) &&
+               documentCodecs.keySet().equals(rhs.documentCodecs.keySet());
+    }
+
+    @Override
+    public int hashCode() {
+        int result = codecs.hashCode();
+        result = 31 * result + documentCodecs.keySet().hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "Jsr310CodecProvider[" +
+               "strategy=" + strategy +
+               ",overrides=" + overrides +
+               ']';
+    }
+
+    /**
+     * Returns the shared codec of the provided type and representation,
+     * {@code DOCUMENT} codecs use the default codecs of their fields.
+     *
+     * @return the codec or {@code null} if it is not available
+     */
+    static Codec<?> getCodec(Class<?> type, Representation representation) {
+        Map<Representation, Codec<?>> codecs = CODECS.get(type);
+        return codecs == null ? null : codecs.get(representation);
+    }
+
+    private static void codec(
+            Class<?> type,
+            Representation representation,
+            Codec<?> codec) {
+
+        CODECS.computeIfAbsent(
+                type, key -> new EnumMap<>(Representation.class)
+        ).put(representation, codec);
+    }
+
+    private static void documentCodec(
+            Class<?> type,
+            Codec<?> codec,
+            Function<CodecRegistry, Codec<?>> registryCodec) {
+
+        codec(type, DOCUMENT, codec);
+        DOCUMENT_CODECS.put(type, registryCodec);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.provider;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Jsr310CodecProvider.getCodec;
+import static java.lang.Character.toUpperCase;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.codecs.pojo.ClassModelBuilder;
+import org.bson.codecs.pojo.Convention;
+import org.bson.codecs.pojo.PropertyModelBuilder;
+
+/**
+ * <p>
+ * Applies the {@link BsonJsr310} annotations of POJO properties, setting
+ * the shared codecs of the chosen representations when a {@code ClassModel}
+ * is built, so that neither the annotations nor the registry are looked up
+ * while encoding and decoding:
+ * <pre>
+ * List&lt;Convention&gt; conventions = new ArrayList&lt;&gt;(
+ *         Conventions.DEFAULT_CONVENTIONS
+ * );
+ * conventions.add(new Jsr310Convention());
+ * PojoCodecProvider.builder()
+ *         .conventions(conventions)
+ *         ...
+ * </pre>
+ * <p>
+ * The {@code DOCUMENT} codecs of {@code LocalDateTime},
+ * {@code OffsetDateTime}, {@code OffsetTime} and {@code ZonedDateTime} use
+ * the default codecs of their fields. The properties which are not annotated
+ * are left to the registry.
+ * <p>
+ * This type is <b>immutable</b>.
+ */
+public final class Jsr310Convention implements Convention {
+
+    @Override
+    public void apply(ClassModelBuilder<?> classModelBuilder) {
+        requireNonNull(classModelBuilder, "classModelBuilder is null");
+        for (PropertyModelBuilder<?> propertyModelBuilder :
+                classModelBuilder.getPropertyModelBuilders()) {
+
+            BsonJsr310 annotation = findAnnotation(propertyModelBuilder);
+            if (annotation != null) {
+                applyCodec(
+                        classModelBuilder.getType(),
+                        propertyModelBuilder,
+                        annotation.value()
+                );
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || obj != null && getClass() == obj.getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Jsr310Convention[]";
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void applyCodec(
+            Class<?> type,
+            PropertyModelBuilder<T> propertyModelBuilder,
+            Representation representation) {
+
+        String name = propertyModelBuilder.getName();
+        Class<?> propertyType = findPropertyType(type, name);
+        Codec<?> codec = propertyType == null ?
+                         null :
+                         getCodec(propertyType, representation);
+        if (codec == null) {
+            throw new CodecConfigurationException(format(
+                    "The representation %s is not available for %s.%s",
+                    representation, type.getName(), name
+            ));
+        }
+        propertyModelBuilder.codec((Codec<T>) codec);
+    }
+
+    private static BsonJsr310 findAnnotation(
+            PropertyModelBuilder<?> propertyModelBuilder) {
+
+        BsonJsr310 annotation = findAnnotation(
+                propertyModelBuilder.getReadAnnotations()
+        );
+        return annotation != null ?
+               annotation :
+               findAnnotation(propertyModelBuilder.getWriteAnnotations());
+    }
+
+    private static BsonJsr310 findAnnotation(List<Annotation> annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof BsonJsr310) {
+                return (BsonJsr310) annotation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the type of a field, a getter or a setter of the property, as
+     * {@code PropertyModelBuilder} does not expose it.
+     */
+    private static Class<?> findPropertyType(Class<?> type, String name) {
+        String suffix = toUpperCase(name.charAt(0)) + name.substring(1);
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (field.getName().equals(name)) {
+                    return field.getType();
+                }
+            }
+            for (Method method : c.getDeclaredMethods()) {
+                String methodName = method.getName();
+                int parameters = method.getParameterCount();
+                if (parameters == 0 && (
+                        methodName.equals("get" + suffix) ||
+                        methodName.equals("is" + suffix))) {
+
+                    return method.getReturnType();
+                }
+                if (parameters == 1 && methodName.equals("set" + suffix)) {
+                    return method.getParameterTypes()[0];
+                }
+            }
+        }
+        return null;
+    }
+}
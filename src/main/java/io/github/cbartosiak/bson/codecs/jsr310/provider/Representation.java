@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.provider;
+
+/**
+ * <p>
+ * Represents a BSON type JSR-310 values are stored as, each of them
+ * corresponds to the {@code XxxAsYyyCodec} classes having the same suffix,
+ * for example {@link #DATE_TIME} and {@code InstantAsDateTimeCodec}.
+ * <p>
+ * Not every representation is available for every type, see
+ * {@link Jsr310CodecProvider}.
+ */
+public enum Representation {
+
+    /**
+     * {@code BSON String}
+     */
+    STRING,
+
+    /**
+     * {@code BSON String} of a fixed width, whose lexicographic order is the
+     * chronological order
+     */
+    SORTABLE_STRING,
+
+    /**
+     * {@code BSON Document}
+     */
+    DOCUMENT,
+
+    /**
+     * {@code BSON Document} of a single level, with all the components of
+     * a value as its fields
+     */
+    FLAT_DOCUMENT,
+
+    /**
+     * {@code BSON DateTime}
+     */
+    DATE_TIME,
+
+    /**
+     * {@code BSON Int32}
+     */
+    INT32,
+
+    /**
+     * {@code BSON Int64}
+     */
+    INT64,
+
+    /**
+     * {@code BSON Decimal128}
+     */
+    DECIMAL128
+}
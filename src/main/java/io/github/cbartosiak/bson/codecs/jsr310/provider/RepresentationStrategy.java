@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.provider;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.DATE_TIME;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.DECIMAL128;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.DOCUMENT;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.INT32;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.INT64;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.SORTABLE_STRING;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.STRING;
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Chooses a {@link Representation} for each of the supported JSR-310 types,
+ * following the queryability, sortability and readability recommendations
+ * of the project's documentation.
+ * <p>
+ * Note that {@code BSON DateTime} holds milliseconds, so {@link #COMPACT} and
+ * {@link #SORTABLE} truncate {@code Instant} and {@code LocalDateTime} values
+ * to milliseconds.
+ */
+public enum RepresentationStrategy {
+
+    /**
+     * Uses {@link Representation#STRING} for all the types except
+     * {@code Year}, which uses {@link Representation#INT32}.
+     */
+    READABLE,
+
+    /**
+     * Uses the smallest representations:
+     * <ul>
+     * <li>{@link Representation#INT32} for {@code DayOfWeek},
+     * {@code LocalDate}, {@code Month}, {@code Year} and {@code ZoneOffset};
+     * <li>{@link Representation#INT64} for {@code LocalTime};
+     * <li>{@link Representation#DATE_TIME} for {@code Instant} and
+     * {@code LocalDateTime};
+     * <li>{@link Representation#DECIMAL128} for {@code Duration},
+     * {@code MonthDay} and {@code YearMonth};
+     * <li>{@link Representation#STRING} for the remaining types.
+     * </ul>
+     */
+    COMPACT,
+
+    /**
+     * Uses the same representations as {@link #COMPACT}, which are also
+     * ordered as the JSR-310 values are, except
+     * {@link Representation#SORTABLE_STRING} for {@code OffsetDateTime},
+     * ordered by the instant and covering all the values, and
+     * {@link Representation#DOCUMENT} for {@code OffsetTime}, {@code Period}
+     * and {@code ZonedDateTime}.
+     */
+    SORTABLE;
+
+    private final Map<Class<?>, Representation> representations =
+            new HashMap<>();
+
+    static {
+        representations(DayOfWeek.class, STRING, INT32, INT32);
+        representations(Duration.class, STRING, DECIMAL128, DECIMAL128);
+        representations(Instant.class, STRING, DATE_TIME, DATE_TIME);
+        representations(LocalDate.class, STRING, INT32, INT32);
+        representations(LocalDateTime.class, STRING, DATE_TIME, DATE_TIME);
+        representations(LocalTime.class, STRING, INT64, INT64);
+        representations(Month.class, STRING, INT32, INT32);
+        representations(MonthDay.class, STRING, DECIMAL128, DECIMAL128);
+        representations(OffsetDateTime.class, STRING, STRING, SORTABLE_STRING);
+        representations(OffsetTime.class, STRING, STRING, DOCUMENT);
+        representations(Period.class, STRING, STRING, DOCUMENT);
+        representations(Year.class, INT32, INT32, INT32);
+        representations(YearMonth.class, STRING, DECIMAL128, DECIMAL128);
+        representations(ZonedDateTime.class, STRING, STRING, DOCUMENT);
+        representations(ZoneId.class, STRING, STRING, STRING);
+        representations(ZoneOffset.class, STRING, INT32, INT32);
+    }
+
+    /**
+     * Returns the representation of the provided type.
+     *
+     * @param type not null
+     *
+     * @return the representation or {@code null} if the type is not supported
+     */
+    public Representation getRepresentation(Class<?> type) {
+        requireNonNull(type, "type is null");
+        return representations.get(type);
+    }
+
+    private static void representations(
+            Class<?> type,
+            Representation readable,
+            Representation compact,
+            Representation sortable) {
+
+        READABLE.representations.put(type, readable);
+        COMPACT.representations.put(type, compact);
+        SORTABLE.representations.put(type, sortable);
+    }
+}
@@ -16,7 +16,7 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.year;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
 import static java.util.Objects.requireNonNull;
 
 import java.time.Year;
@@ -56,10 +56,13 @@ public final class YearAsInt32Codec implements Codec<Year> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readInt32,
-                Year::of
-        );
+        int value = reader.readInt32();
+        try {
+            return Year.of(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
@@ -16,12 +16,13 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.yearmonth;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateEncodeExceptions;
-import static java.lang.String.format;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.fractionPart;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.hasScale;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.integralPart;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.toDecimal128;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
 import static java.time.YearMonth.of;
 import static java.util.Objects.requireNonNull;
-import static org.bson.types.Decimal128.parse;
 
 import java.math.BigDecimal;
 import java.time.YearMonth;
@@ -31,6 +32,7 @@ import org.bson.BsonWriter;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
+import org.bson.types.Decimal128;
 
 /**
  * <p>
@@ -43,6 +45,10 @@ import org.bson.codecs.EncoderContext;
  * <li>the latter part represents a month of this year.
  * </ul>
  * <p>
+ * The values are encoded and decoded without intermediate strings nor
+ * {@code BigDecimal} values, unless a value with a different number of
+ * fraction digits is decoded.
+ * <p>
  * This type is <b>immutable</b>.
  */
 public final class YearMonthAsDecimal128Codec implements Codec<YearMonth> {
@@ -55,14 +61,11 @@ public final class YearMonthAsDecimal128Codec implements Codec<YearMonth> {
 
         requireNonNull(writer, "writer is null");
         requireNonNull(value, "value is null");
-        translateEncodeExceptions(
-                () -> value,
-                val -> writer.writeDecimal128(parse(format(
-                        "%d.%02d",
-                        val.getYear(),
-                        val.getMonthValue()
-                )))
-        );
+        writer.writeDecimal128(toDecimal128(
+                value.getYear(),
+                value.getMonthValue(),
+                2
+        ));
     }
 
     @Override
@@ -71,18 +74,25 @@ public final class YearMonthAsDecimal128Codec implements Codec<YearMonth> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readDecimal128,
-                val -> {
-                    BigDecimal bigDecimal = val.bigDecimalValue();
-                    int year = bigDecimal.intValue();
-                    int month = bigDecimal.subtract(new BigDecimal(year))
-                                          .scaleByPowerOfTen(2)
-                                          .abs()
-                                          .intValue();
-                    return of(year, month);
+        Decimal128 value = reader.readDecimal128();
+        try {
+            if (hasScale(value, 2)) {
+                long year = integralPart(value, 2);
+                if (year == (int) year) {
+                    return of((int) year, (int) fractionPart(value, 2));
                 }
-        );
+            }
+            BigDecimal bigDecimal = value.bigDecimalValue();
+            int year = bigDecimal.intValue();
+            int month = bigDecimal.subtract(new BigDecimal(year))
+                                  .scaleByPowerOfTen(2)
+                                  .abs()
+                                  .intValue();
+            return of(year, month);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
@@ -16,24 +16,26 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.yearmonth;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.getFieldValue;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readDocument;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.FULL;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.checkFields;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.fieldNames;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readField;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.unsupportedDocument;
 import static java.time.YearMonth.of;
-import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
+import static org.bson.BsonType.END_OF_DOCUMENT;
 
+import java.time.DateTimeException;
 import java.time.YearMonth;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.bson.BsonReader;
 import org.bson.BsonWriter;
 import org.bson.codecs.Codec;
-import org.bson.codecs.Decoder;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 
+import io.github.cbartosiak.bson.codecs.jsr310.FieldNaming;
+
 /**
  * <p>
  * Encodes and decodes {@code YearMonth} values to and from
@@ -45,17 +47,37 @@ import org.bson.codecs.EncoderContext;
  * <li>{@code month} (a non-null {@code Int32}).
  * </ul>
  * <p>
+ * The names of the fields depend on the provided {@link FieldNaming}, the
+ * ones above are the {@link FieldNaming#FULL} names.
+ * <p>
  * This type is <b>immutable</b>.
  */
 public final class YearMonthAsDocumentCodec implements Codec<YearMonth> {
 
-    private static final Map<String, Decoder<?>> FIELD_DECODERS;
+    private static final String[] FIELD_NAMES = {
+            "year", "month"
+    };
+
+    private final FieldNaming fieldNaming;
+    private final String[]    fieldNames;
+
+    /**
+     * Creates a {@code YearMonthAsDocumentCodec} using
+     * the {@link FieldNaming#FULL} names.
+     */
+    public YearMonthAsDocumentCodec() {
+        this(FULL);
+    }
 
-    static {
-        Map<String, Decoder<?>> fd = new HashMap<>();
-        fd.put("year", (r, dc) -> r.readInt32());
-        fd.put("month", (r, dc) -> r.readInt32());
-        FIELD_DECODERS = unmodifiableMap(fd);
+    /**
+     * Creates a {@code YearMonthAsDocumentCodec} using
+     * the provided names.
+     *
+     * @param fieldNaming not null
+     */
+    public YearMonthAsDocumentCodec(FieldNaming fieldNaming) {
+        this.fieldNaming = requireNonNull(fieldNaming, "fieldNaming is null");
+        fieldNames = fieldNames(fieldNaming, FIELD_NAMES);
     }
 
     @Override
@@ -67,8 +89,8 @@ public final class YearMonthAsDocumentCodec implements Codec<YearMonth> {
         requireNonNull(writer, "writer is null");
         requireNonNull(value, "value is null");
         writer.writeStartDocument();
-        writer.writeInt32("year", value.getYear());
-        writer.writeInt32("month", value.getMonthValue());
+        writer.writeInt32(fieldNames[0], value.getYear());
+        writer.writeInt32(fieldNames[1], value.getMonthValue());
         writer.writeEndDocument();
     }
 
@@ -78,17 +100,61 @@ public final class YearMonthAsDocumentCodec implements Codec<YearMonth> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                () -> readDocument(reader, decoderContext, FIELD_DECODERS),
-                val -> of(
-                        getFieldValue(val, "year", Integer.class),
-                        getFieldValue(val, "month", Integer.class)
-                )
-        );
+
+        int year = 0;
+        int month = 0;
+        int readFields = 0;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != END_OF_DOCUMENT) {
+            int field = readField(reader, fieldNames, readFields);
+            readFields |= 1 << field;
+            switch (field) {
+                case 0:
+                    year = reader.readInt32();
+                    break;
+                default:
+                    month = reader.readInt32();
+                    break;
+            }
+        }
+        reader.readEndDocument();
+        checkFields(fieldNames, readFields);
+
+        try {
+            return of(year, month);
+        }
+        catch (DateTimeException ex) {
+            throw unsupportedDocument(
+                    fieldNames, new Object[] { year, month }, ex
+            );
+        }
     }
 
     @Override
     public Class<YearMonth> getEncoderClass() {
         return YearMonth.class;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) { return true; }
+        if (obj == null || getClass() != obj.getClass()) { return false; }
+
+        YearMonthAsDocumentCodec rhs = (YearMonthAsDocumentCodec)obj;
+
+        return fieldNaming == rhs.fieldNaming;
+    }
+
+    @Override
+    public int hashCode() {
+        return fieldNaming.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "YearMonthAsDocumentCodec[" +
+               "fieldNaming=" + fieldNaming +
+               ']';
+    }
 }
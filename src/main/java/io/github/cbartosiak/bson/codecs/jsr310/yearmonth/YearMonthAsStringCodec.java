@@ -16,7 +16,7 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.yearmonth;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
 import static java.util.Objects.requireNonNull;
 
 import java.time.YearMonth;
@@ -57,10 +57,13 @@ public final class YearMonthAsStringCodec implements Codec<YearMonth> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readString,
-                YearMonth::parse
-        );
+        String value = reader.readString();
+        try {
+            return YearMonth.parse(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
@@ -16,27 +16,32 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.zoneddatetime;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.getFieldValue;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readDocument;
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.FULL;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.checkFields;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.fieldNames;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.readField;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.unsupportedDocument;
 import static java.time.ZonedDateTime.ofStrict;
-import static java.util.Collections.unmodifiableMap;
+import static java.util.Arrays.copyOf;
 import static java.util.Objects.requireNonNull;
+import static org.bson.BsonType.END_OF_DOCUMENT;
 
+import java.time.DateTimeException;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Objects;
 
 import org.bson.BsonReader;
 import org.bson.BsonWriter;
 import org.bson.codecs.Codec;
-import org.bson.codecs.Decoder;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 
+import io.github.cbartosiak.bson.codecs.jsr310.FieldNaming;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantAsDateTimeCodec;
 import io.github.cbartosiak.bson.codecs.jsr310.localdatetime.LocalDateTimeAsDocumentCodec;
 import io.github.cbartosiak.bson.codecs.jsr310.zoneid.ZoneIdAsStringCodec;
 import io.github.cbartosiak.bson.codecs.jsr310.zoneoffset.ZoneOffsetAsInt32Codec;
@@ -59,18 +64,33 @@ import io.github.cbartosiak.bson.codecs.jsr310.zoneoffset.ZoneOffsetAsInt32Codec
  * <li>{@code offset} (a non-null value);
  * <li>{@code zone} (a non-null value).
  * </ul>
- * The field values depend on provided codecs.
+ * The field values depend on provided codecs, the names of the fields on
+ * the provided {@link FieldNaming}.
+ * <p>
+ * Optionally, the codec also writes the {@code instant} field, holding
+ * the value normalized to {@code UTC} using the provided codec, such as
+ * {@link InstantAsDateTimeCodec}. Its order does not depend on the zones
+ * of the values, so that an index on it serves range queries. The field is
+ * ignored when decoding, so that documents with and without it can be read.
  * <p>
  * This type is <b>immutable</b>.
  */
 public final class ZonedDateTimeAsDocumentCodec
         implements Codec<ZonedDateTime> {
 
+    private static final String[] FIELD_NAMES = {
+            "dateTime", "offset", "zone", "instant"
+    };
+
+    private static final int REQUIRED_FIELDS = 3;
+
     private final Codec<LocalDateTime> localDateTimeCodec;
     private final Codec<ZoneOffset>    zoneOffsetCodec;
     private final Codec<ZoneId>        zoneIdCodec;
-
-    private final Map<String, Decoder<?>> fieldDecoders;
+    private final Codec<Instant>       instantCodec;
+    private final FieldNaming          fieldNaming;
+    private final String[]             fieldNames;
+    private final String[]             requiredFieldNames;
 
     /**
      * Creates a {@code ZonedDateTimeAsDocumentCodec} using:
@@ -81,10 +101,27 @@ public final class ZonedDateTimeAsDocumentCodec
      * </ul>
      */
     public ZonedDateTimeAsDocumentCodec() {
+        this(FULL);
+    }
+
+    /**
+     * Creates a {@code ZonedDateTimeAsDocumentCodec} using:
+     * <ul>
+     * <li>a {@link LocalDateTimeAsDocumentCodec};
+     * <li>a {@link ZoneOffsetAsInt32Codec};
+     * <li>a {@link ZoneIdAsStringCodec},
+     * </ul>
+     * and the provided names.
+     *
+     * @param fieldNaming not null
+     */
+    public ZonedDateTimeAsDocumentCodec(FieldNaming fieldNaming) {
         this(
-                new LocalDateTimeAsDocumentCodec(),
+                new LocalDateTimeAsDocumentCodec(fieldNaming),
                 new ZoneOffsetAsInt32Codec(),
-                new ZoneIdAsStringCodec()
+                new ZoneIdAsStringCodec(),
+                null,
+                fieldNaming
         );
     }
 
@@ -101,6 +138,52 @@ public final class ZonedDateTimeAsDocumentCodec
             Codec<ZoneOffset> zoneOffsetCodec,
             Codec<ZoneId> zoneIdCodec) {
 
+        this(localDateTimeCodec, zoneOffsetCodec, zoneIdCodec, null, FULL);
+    }
+
+    /**
+     * Creates a {@code ZonedDateTimeAsDocumentCodec} using
+     * the provided codecs, which also writes the {@code instant} field.
+     *
+     * @param localDateTimeCodec not null
+     * @param zoneOffsetCodec    not null
+     * @param zoneIdCodec        not null
+     * @param instantCodec       not null
+     */
+    public ZonedDateTimeAsDocumentCodec(
+            Codec<LocalDateTime> localDateTimeCodec,
+            Codec<ZoneOffset> zoneOffsetCodec,
+            Codec<ZoneId> zoneIdCodec,
+            Codec<Instant> instantCodec) {
+
+        this(
+                localDateTimeCodec,
+                zoneOffsetCodec,
+                zoneIdCodec,
+                requireNonNull(instantCodec, "instantCodec is null"),
+                FULL
+        );
+    }
+
+    /**
+     * Creates a {@code ZonedDateTimeAsDocumentCodec} using
+     * the provided codecs and names, which also writes the {@code instant}
+     * field if its codec is provided.
+     *
+     * @param localDateTimeCodec not null
+     * @param zoneOffsetCodec    not null
+     * @param zoneIdCodec        not null
+     * @param instantCodec       {@code null} not to write the {@code instant}
+     *                           field
+     * @param fieldNaming        not null
+     */
+    public ZonedDateTimeAsDocumentCodec(
+            Codec<LocalDateTime> localDateTimeCodec,
+            Codec<ZoneOffset> zoneOffsetCodec,
+            Codec<ZoneId> zoneIdCodec,
+            Codec<Instant> instantCodec,
+            FieldNaming fieldNaming) {
+
         this.localDateTimeCodec = requireNonNull(
                 localDateTimeCodec, "localDateTimeCodec is null"
         );
@@ -110,12 +193,10 @@ public final class ZonedDateTimeAsDocumentCodec
         this.zoneIdCodec = requireNonNull(
                 zoneIdCodec, "zoneIdCodec is null"
         );
-
-        Map<String, Decoder<?>> fd = new HashMap<>();
-        fd.put("dateTime", localDateTimeCodec::decode);
-        fd.put("offset", zoneOffsetCodec::decode);
-        fd.put("zone", zoneIdCodec::decode);
-        fieldDecoders = unmodifiableMap(fd);
+        this.instantCodec = instantCodec;
+        this.fieldNaming = requireNonNull(fieldNaming, "fieldNaming is null");
+        fieldNames = fieldNames(fieldNaming, FIELD_NAMES);
+        requiredFieldNames = copyOf(fieldNames, REQUIRED_FIELDS);
     }
 
     @Override
@@ -129,17 +210,22 @@ public final class ZonedDateTimeAsDocumentCodec
 
         writer.writeStartDocument();
 
-        writer.writeName("dateTime");
+        writer.writeName(fieldNames[0]);
         localDateTimeCodec.encode(
                 writer, value.toLocalDateTime(), encoderContext
         );
 
-        writer.writeName("offset");
+        writer.writeName(fieldNames[1]);
         zoneOffsetCodec.encode(writer, value.getOffset(), encoderContext);
 
-        writer.writeName("zone");
+        writer.writeName(fieldNames[2]);
         zoneIdCodec.encode(writer, value.getZone(), encoderContext);
 
+        if (instantCodec != null) {
+            writer.writeName(fieldNames[3]);
+            instantCodec.encode(writer, value.toInstant(), encoderContext);
+        }
+
         writer.writeEndDocument();
     }
 
@@ -149,14 +235,48 @@ public final class ZonedDateTimeAsDocumentCodec
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                () -> readDocument(reader, decoderContext, fieldDecoders),
-                val -> ofStrict(
-                        getFieldValue(val, "dateTime", LocalDateTime.class),
-                        getFieldValue(val, "offset", ZoneOffset.class),
-                        getFieldValue(val, "zone", ZoneId.class)
-                )
+
+        LocalDateTime dateTime = null;
+        ZoneOffset offset = null;
+        ZoneId zone = null;
+        int readFields = 0;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != END_OF_DOCUMENT) {
+            int field = readField(reader, fieldNames, readFields);
+            readFields |= 1 << field;
+            switch (field) {
+                case 0:
+                    dateTime = localDateTimeCodec.decode(
+                            reader, decoderContext
+                    );
+                    break;
+                case 1:
+                    offset = zoneOffsetCodec.decode(reader, decoderContext);
+                    break;
+                case 2:
+                    zone = zoneIdCodec.decode(reader, decoderContext);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.readEndDocument();
+        checkFields(
+                requiredFieldNames, readFields & ~(1 << REQUIRED_FIELDS)
         );
+
+        try {
+            return ofStrict(dateTime, offset, zone);
+        }
+        catch (DateTimeException ex) {
+            throw unsupportedDocument(
+                    requiredFieldNames,
+                    new Object[] { dateTime, offset, zone },
+                    ex
+            );
+        }
     }
 
     @Override
@@ -174,7 +294,8 @@ public final class ZonedDateTimeAsDocumentCodec
         return localDateTimeCodec.equals(rhs.localDateTimeCodec) &&
                zoneOffsetCodec.equals(rhs.zoneOffsetCodec) &&
                zoneIdCodec.equals(rhs.zoneIdCodec) &&
-               fieldDecoders.equals(rhs.fieldDecoders);
+               Objects.equals(instantCodec, rhs.instantCodec) &&
+               fieldNaming == rhs.fieldNaming;
     }
 
     @Override
@@ -182,7 +303,8 @@ public final class ZonedDateTimeAsDocumentCodec
         int result = localDateTimeCodec.hashCode();
         result = 31 * result + zoneOffsetCodec.hashCode();
         result = 31 * result + zoneIdCodec.hashCode();
-        result = 31 * result + fieldDecoders.hashCode();
+        result = 31 * result + Objects.hashCode(instantCodec);
+        result = 31 * result + fieldNaming.hashCode();
         return result;
     }
 
@@ -192,7 +314,8 @@ public final class ZonedDateTimeAsDocumentCodec
                "localDateTimeCodec=" + localDateTimeCodec +
                ",zoneOffsetCodec=" + zoneOffsetCodec +
                ",zoneIdCodec=" + zoneIdCodec +
-               ",fieldDecoders=" + fieldDecoders +
+               ",instantCodec=" + instantCodec +
+               ",fieldNaming=" + fieldNaming +
                ']';
     }
 }
@@ -16,7 +16,9 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.zoneddatetime;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.IsoFormatter.formatZonedDateTime;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.IsoParser.parseZonedDateTime;
 import static java.util.Objects.requireNonNull;
 
 import java.time.ZonedDateTime;
@@ -47,7 +49,7 @@ public final class ZonedDateTimeAsStringCodec implements Codec<ZonedDateTime> {
 
         requireNonNull(writer, "writer is null");
         requireNonNull(value, "value is null");
-        writer.writeString(value.toString());
+        writer.writeString(formatZonedDateTime(value));
     }
 
     @Override
@@ -56,10 +58,13 @@ public final class ZonedDateTimeAsStringCodec implements Codec<ZonedDateTime> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readString,
-                ZonedDateTime::parse
-        );
+        String value = reader.readString();
+        try {
+            return parseZonedDateTime(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
@@ -16,7 +16,8 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.zoneid;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.ZoneIdCache.zoneId;
 import static java.util.Objects.requireNonNull;
 
 import java.time.ZoneId;
@@ -37,6 +38,8 @@ import org.bson.codecs.EncoderContext;
  * The values are stored as IDs
  * (see {@link ZoneId#getId()}).
  * <p>
+ * The decoded IDs are cached, so the same zones are resolved only once.
+ * <p>
  * This type is <b>immutable</b>.
  */
 public final class ZoneIdAsStringCodec implements Codec<ZoneId> {
@@ -58,10 +61,13 @@ public final class ZoneIdAsStringCodec implements Codec<ZoneId> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readString,
-                ZoneId::of
-        );
+        String value = reader.readString();
+        try {
+            return zoneId(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
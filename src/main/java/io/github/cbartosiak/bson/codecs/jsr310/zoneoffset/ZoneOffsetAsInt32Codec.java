@@ -16,7 +16,7 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.zoneoffset;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
 import static java.util.Objects.requireNonNull;
 
 import java.time.ZoneOffset;
@@ -56,10 +56,13 @@ public final class ZoneOffsetAsInt32Codec implements Codec<ZoneOffset> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readInt32,
-                ZoneOffset::ofTotalSeconds
-        );
+        int value = reader.readInt32();
+        try {
+            return ZoneOffset.ofTotalSeconds(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
@@ -16,7 +16,8 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.zoneoffset;
 
-import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeExceptions;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.CodecsUtil.translateDecodeException;
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.ZoneIdCache.zoneOffset;
 import static java.util.Objects.requireNonNull;
 
 import java.time.ZoneOffset;
@@ -35,6 +36,8 @@ import org.bson.codecs.EncoderContext;
  * The values are stored as normalized IDs
  * (see {@link ZoneOffset#getId()}).
  * <p>
+ * The decoded IDs are cached, so the same offsets are parsed only once.
+ * <p>
  * This type is <b>immutable</b>.
  */
 public final class ZoneOffsetAsStringCodec implements Codec<ZoneOffset> {
@@ -56,10 +59,13 @@ public final class ZoneOffsetAsStringCodec implements Codec<ZoneOffset> {
             DecoderContext decoderContext) {
 
         requireNonNull(reader, "reader is null");
-        return translateDecodeExceptions(
-                reader::readString,
-                ZoneOffset::of
-        );
+        String value = reader.readString();
+        try {
+            return zoneOffset(value);
+        }
+        catch (RuntimeException ex) {
+            throw translateDecodeException(value, ex);
+        }
     }
 
     @Override
@@ -17,14 +17,18 @@
 package io.github.cbartosiak.bson.codecs.jsr310.dayofweek;
 
 import static java.time.DayOfWeek.values;
+import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.DayOfWeek;
 
+import org.bson.BsonInt32;
+import org.bson.BsonString;
 import org.bson.codecs.Codec;
 import org.junit.jupiter.api.Test;
 
 import io.github.cbartosiak.bson.codecs.jsr310.internal.AbstractCodecsTests;
+import io.github.cbartosiak.bson.codecs.jsr310.internal.AllocationTest;
 
 @SuppressWarnings("JUnitTestMethodWithNoAssertions")
 final class DayOfWeekCodecsTests extends AbstractCodecsTests {
@@ -44,10 +48,55 @@ final class DayOfWeekCodecsTests extends AbstractCodecsTests {
     @Test
     void testDayOfWeekAsStringCodec() {
         testDayOfWeekCodec(new DayOfWeekAsStringCodec());
+        for (String value : asList(
+                "monday", "MONDAX", "MONDAYS", "TUESDAX", "THURSDAX",
+                "SATURDAX", "WEDNESDAX", "SUNDAX", "FRIDAX", "MAY", ""
+        )) {
+            testDecodingFailure(
+                    new DayOfWeekAsStringCodec(),
+                    new BsonString(value),
+                    value,
+                    () -> DayOfWeek.valueOf(value)
+            );
+        }
+    }
+
+    @AllocationTest
+    void testDayOfWeekAsStringCodecAllocations() {
+        testCodecAllocations(
+                new DayOfWeekAsStringCodec(),
+                DayOfWeek.TUESDAY,
+                (w, v) -> w.writeString(v.name()),
+                r -> {
+                    r.readString();
+                    return DayOfWeek.TUESDAY;
+                }
+        );
     }
 
     @Test
     void testDayOfWeekAsInt32Codec() {
         testDayOfWeekCodec(new DayOfWeekAsInt32Codec());
+        for (int value : new int[] { 0, 8, -1 }) {
+            testDecodingFailure(
+                    new DayOfWeekAsInt32Codec(),
+                    new BsonInt32(value),
+                    value,
+                    () -> DayOfWeek.of(value)
+            );
+        }
+    }
+
+    @AllocationTest
+    void testDayOfWeekAsInt32CodecAllocations() {
+        testCodecAllocations(
+                new DayOfWeekAsInt32Codec(),
+                DayOfWeek.TUESDAY,
+                (w, v) -> w.writeInt32(v.getValue()),
+                r -> {
+                    r.readInt32();
+                    return DayOfWeek.TUESDAY;
+                }
+        );
     }
 }
@@ -16,22 +16,45 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.duration;
 
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.COMPACT;
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.FULL;
+import static io.github.cbartosiak.bson.codecs.jsr310.ZeroComponents.OMITTED;
 import static java.lang.Long.MAX_VALUE;
+import static java.lang.Long.MIN_VALUE;
+import static java.lang.String.format;
 import static java.time.Duration.ZERO;
 import static java.time.Duration.ofHours;
+import static java.time.Duration.ofNanos;
 import static java.time.Duration.ofSeconds;
+import static java.util.Arrays.asList;
+import static org.bson.types.Decimal128.NaN;
+import static org.bson.types.Decimal128.fromIEEE754BIDEncoding;
+import static org.bson.types.Decimal128.parse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonValue;
 import org.bson.codecs.Codec;
+import org.bson.types.Decimal128;
 import org.junit.jupiter.api.Test;
 
 import io.github.cbartosiak.bson.codecs.jsr310.internal.AbstractCodecsTests;
+import io.github.cbartosiak.bson.codecs.jsr310.internal.AllocationTest;
 
 @SuppressWarnings("JUnitTestMethodWithNoAssertions")
 final class DurationCodecsTests extends AbstractCodecsTests {
 
+    private static final Decimal128 DURATION_DECIMAL128 =
+            parse("10.100000000");
+
     private DurationCodecsTests() {}
 
     private static void testDurationCodec(Codec<Duration> codec) {
@@ -49,13 +72,150 @@ final class DurationCodecsTests extends AbstractCodecsTests {
         testDurationCodec(new DurationAsStringCodec());
     }
 
+    @AllocationTest
+    void testDurationAsStringCodecAllocations() {
+        testCodecAllocations(
+                new DurationAsStringCodec(),
+                ofSeconds(10L, 100_000_000L),
+                (w, v) -> w.writeString(v.toString()),
+                r -> Duration.parse(r.readString())
+        );
+    }
+
     @Test
     void testDurationAsDocumentCodec() {
         testDurationCodec(new DurationAsDocumentCodec());
     }
 
+    @AllocationTest
+    void testDurationAsDocumentCodecAllocations() {
+        testCodecAllocations(
+                new DurationAsDocumentCodec(),
+                ofSeconds(10L, 100_000_000L),
+                (w, v) -> {
+                    w.writeStartDocument();
+                    w.writeInt64("seconds", v.getSeconds());
+                    w.writeInt32("nanos", v.getNano());
+                    w.writeEndDocument();
+                },
+                r -> {
+                    r.readStartDocument();
+                    long seconds = r.readInt64("seconds");
+                    int nanos = r.readInt32("nanos");
+                    r.readEndDocument();
+                    return ofSeconds(seconds, nanos);
+                }
+        );
+    }
+
+    @Test
+    void testDurationAsDocumentCodecZeroComponents() {
+        testDurationCodec(new DurationAsDocumentCodec(FULL, OMITTED));
+        testZeroComponents(
+                DurationAsDocumentCodec::new,
+                Duration.ofMinutes(1),
+                "{ seconds: { $numberLong: '60' }, nanos: 0 }",
+                "{ seconds: { $numberLong: '60' } }"
+        );
+
+        DurationAsDocumentCodec codec =
+                new DurationAsDocumentCodec(COMPACT, OMITTED);
+        testCodec(codec, ZERO);
+        assertEquals(new BsonDocument(), encodeValue(codec, ZERO));
+        assertEquals(ZERO, decodeValue(codec, new BsonDocument()));
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(
+                        codec, BsonDocument.parse("{ n: 1, nanos: 1 }")
+                )
+        );
+    }
+
+    @Test
+    void testDurationAsDocumentCodecFieldNaming() {
+        testFieldNaming(
+                DurationAsDocumentCodec::new,
+                ofSeconds(10, 100),
+                "{ seconds: { $numberLong: '10' }, nanos: 100 }",
+                "{ s: { $numberLong: '10' }, n: 100 }"
+        );
+    }
+
     @Test
     void testDurationAsDecimal128Codec() {
         testDurationCodec(new DurationAsDecimal128Codec());
     }
+
+    @AllocationTest
+    void testDurationAsDecimal128CodecAllocations() {
+        testCodecAllocations(
+                new DurationAsDecimal128Codec(),
+                ofSeconds(10L, 100_000_000L),
+                (w, v) -> w.writeDecimal128(fromIEEE754BIDEncoding(
+                        DURATION_DECIMAL128.getHigh(),
+                        DURATION_DECIMAL128.getLow()
+                )),
+                r -> {
+                    r.readDecimal128();
+                    return ofSeconds(10L, 100_000_000L);
+                }
+        );
+    }
+
+    @Test
+    void testDurationAsDecimal128CodecCompatibility() {
+        Codec<Duration> codec = new DurationAsDecimal128Codec();
+        Random random = new Random(0L);
+        List<Duration> durations = new ArrayList<>(asList(
+                ZERO,
+                ofNanos(1L),
+                ofNanos(-1L),
+                ofSeconds(-2L, 500_000_000L),
+                ofSeconds(MAX_VALUE, 999_999_999L),
+                ofSeconds(MIN_VALUE),
+                ofSeconds(MIN_VALUE, 999_999_999L)
+        ));
+        for (int i = 0; i < 1_000; i++) {
+            durations.add(ofSeconds(
+                    random.nextLong() >> random.nextInt(64),
+                    random.nextInt(1_000_000_000)
+            ));
+        }
+        for (Duration duration : durations) {
+            Decimal128 expected = parse(format(
+                    "%d.%09d", duration.getSeconds(), duration.getNano()
+            ));
+            BsonValue encoded = encodeValue(codec, duration);
+            assertEquals(new BsonDecimal128(expected), encoded);
+            assertEquals(duration, decodeValue(codec, encoded));
+        }
+        assertEquals(
+                ofSeconds(10L, 100_000_000L),
+                decodeValue(codec, new BsonDecimal128(parse("10.1")))
+        );
+        assertEquals(
+                ofSeconds(-2L, 500_000_000L),
+                decodeValue(codec, new BsonDecimal128(parse("-2.5")))
+        );
+        assertEquals(
+                ofSeconds(12L),
+                decodeValue(codec, new BsonDecimal128(parse("1.2E+1")))
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(codec, new BsonDecimal128(parse(
+                        "9223372036854775808.000000000"
+                )))
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(codec, new BsonDecimal128(parse(
+                        "-9223372036854775809.000000000"
+                )))
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(codec, new BsonDecimal128(NaN))
+        );
+    }
 }
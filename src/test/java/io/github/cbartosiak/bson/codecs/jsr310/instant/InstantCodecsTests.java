@@ -16,24 +16,69 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.instant;
 
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.COMPACT;
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.FULL;
+import static io.github.cbartosiak.bson.codecs.jsr310.ZeroComponents.OMITTED;
 import static java.time.Instant.EPOCH;
 import static java.time.Instant.MAX;
 import static java.time.Instant.MIN;
 import static java.time.Instant.ofEpochSecond;
+import static java.time.temporal.ChronoUnit.MICROS;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static java.time.temporal.ChronoUnit.NANOS;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static java.util.Arrays.asList;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.copyOfRange;
+import static java.util.Collections.singletonMap;
+import static org.bson.BsonBinarySubType.BINARY;
+import static org.bson.BsonBinarySubType.USER_DEFINED;
+import static org.bson.BsonDocument.parse;
+import static org.bson.types.Decimal128.NaN;
+import static org.bson.types.Decimal128.fromIEEE754BIDEncoding;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
 
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonDateTime;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonDouble;
+import org.bson.BsonInt64;
 import org.bson.BsonInvalidOperationException;
+import org.bson.BsonReader;
+import org.bson.BsonString;
+import org.bson.BsonValue;
 import org.bson.codecs.Codec;
+import org.bson.types.Decimal128;
 import org.junit.jupiter.api.Test;
 import org.opentest4j.AssertionFailedError;
 
 import io.github.cbartosiak.bson.codecs.jsr310.internal.AbstractCodecsTests;
+import io.github.cbartosiak.bson.codecs.jsr310.internal.AllocationTest;
 
 @SuppressWarnings("JUnitTestMethodWithNoAssertions")
 final class InstantCodecsTests extends AbstractCodecsTests {
 
+    private static final Decimal128 INSTANT_DECIMAL128 =
+            Decimal128.parse("1514888130.000000000");
+
     private InstantCodecsTests() {}
 
     private static void testInstantCodec(
@@ -79,6 +124,57 @@ final class InstantCodecsTests extends AbstractCodecsTests {
     @Test
     void testInstantAsStringCodec() {
         testInstantCodec(new InstantAsStringCodec(), false, false);
+        Random random = new Random(0L);
+        List<String> values = new ArrayList<>(asList(
+                "2018-01-02T10:15:30Z", "1970-01-01T00:00:00Z",
+                "0000-01-01T00:00:00Z", "9999-12-31T23:59:59.999999999Z",
+                "1969-12-31T23:59:59.9Z", "2016-12-31T23:59:60Z",
+                "2018-01-02T24:00:00Z", "+10000-01-02T10:15:30Z",
+                "-0001-01-02T10:15:30Z", "2018-01-02T10:15Z",
+                "2018-01-02T10:15:30", "2018-01-02T10:15:30z",
+                "2018-02-29T10:15:30Z"
+        ));
+        for (int i = 0; i < 1_000; i++) {
+            values.add(ofEpochSecond(
+                    random.nextLong() % 253_402_300_800L,
+                    random.nextInt(1_000_000_000) /
+                    (int) Math.pow(10, random.nextInt(10))
+            ).toString());
+        }
+        testStringDecoding(
+                new InstantAsStringCodec(),
+                Instant::parse,
+                values.toArray(new String[0])
+        );
+        List<Instant> instants = new ArrayList<>(asList(
+                MIN, MAX, EPOCH, ofEpochSecond(-1L), ofEpochSecond(-1L, 1L),
+                Instant.parse("-10000-01-01T00:00:00Z"),
+                Instant.parse("-9999-12-31T23:59:59Z"),
+                Instant.parse("+10000-01-01T00:00:00Z"),
+                Instant.parse("9999-12-31T23:59:59Z")
+        ));
+        for (int i = 0; i < 1_000; i++) {
+            long precision = (long) Math.pow(10, random.nextInt(10));
+            instants.add(ofEpochSecond(
+                    random.nextLong() % 31_556_889_864_403_199L >>
+                    random.nextInt(48),
+                    random.nextInt(1_000_000_000) / precision * precision
+            ));
+        }
+        testStringEncoding(new InstantAsStringCodec(), instants);
+    }
+
+    @AllocationTest
+    void testInstantAsStringCodecAllocations() {
+        testCodecAllocations(
+                new InstantAsStringCodec(),
+                ofEpochSecond(1514888130L, 100),
+                (w, v) -> w.writeString(v.toString()),
+                r -> {
+                    r.readString();
+                    return ofEpochSecond(1514888130L, 100);
+                }
+        );
     }
 
     @Test
@@ -86,8 +182,973 @@ final class InstantCodecsTests extends AbstractCodecsTests {
         testInstantCodec(new InstantAsDocumentCodec(), false, false);
     }
 
+    @AllocationTest
+    void testInstantAsDocumentCodecAllocations() {
+        testCodecAllocations(
+                new InstantAsDocumentCodec(),
+                ofEpochSecond(1514888130L, 100),
+                (w, v) -> {
+                    w.writeStartDocument();
+                    w.writeInt64("seconds", v.getEpochSecond());
+                    w.writeInt32("nanos", v.getNano());
+                    w.writeEndDocument();
+                },
+                r -> {
+                    r.readStartDocument();
+                    long seconds = r.readInt64("seconds");
+                    int nanos = r.readInt32("nanos");
+                    r.readEndDocument();
+                    return ofEpochSecond(seconds, nanos);
+                }
+        );
+    }
+
+    @Test
+    void testInstantAsDocumentCodecZeroComponents() {
+        testInstantCodec(
+                new InstantAsDocumentCodec(FULL, OMITTED), false, false
+        );
+        testZeroComponents(
+                InstantAsDocumentCodec::new,
+                ofEpochSecond(1514888130L),
+                "{ seconds: { $numberLong: '1514888130' }, nanos: 0 }",
+                "{ seconds: { $numberLong: '1514888130' } }"
+        );
+
+        InstantAsDocumentCodec codec =
+                new InstantAsDocumentCodec(COMPACT, OMITTED);
+        testCodec(codec, EPOCH);
+        assertEquals(parse("{ }"), encodeValue(codec, EPOCH));
+        assertEquals(EPOCH, decodeValue(codec, parse("{ }")));
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(codec, parse("{ n: 1, nanos: 1 }"))
+        );
+    }
+
+    @Test
+    void testInstantAsDocumentCodecFieldNaming() {
+        testFieldNaming(
+                InstantAsDocumentCodec::new,
+                Instant.ofEpochSecond(10, 100),
+                "{ seconds: { $numberLong: '10' }, nanos: 100 }",
+                "{ s: { $numberLong: '10' }, n: 100 }"
+        );
+    }
+
     @Test
     void testInstantAsDateTimeCodec() {
         testInstantCodec(new InstantAsDateTimeCodec(), true, true);
     }
+
+    @AllocationTest
+    void testInstantAsDateTimeCodecAllocations() {
+        testCodecAllocations(
+                new InstantAsDateTimeCodec(),
+                ofEpochSecond(1514888130L),
+                (w, v) -> w.writeDateTime(v.toEpochMilli()),
+                r -> Instant.ofEpochMilli(r.readDateTime())
+        );
+    }
+
+    @Test
+    void testInstantAsInt64Codec() {
+        testInstantCodec(new InstantAsInt64Codec(), true, true);
+        assertThrows(
+                NullPointerException.class,
+                () -> new InstantAsInt64Codec(null)
+        );
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new InstantAsInt64Codec(MILLIS)
+        );
+        assertEquals(
+                new InstantAsInt64Codec(), new InstantAsInt64Codec(MICROS)
+        );
+        assertEquals(
+                new InstantAsInt64Codec().hashCode(),
+                new InstantAsInt64Codec(MICROS).hashCode()
+        );
+        assertNotEquals(
+                new InstantAsInt64Codec(), new InstantAsInt64Codec(NANOS)
+        );
+
+        Codec<Instant> micros = new InstantAsInt64Codec(MICROS);
+        Codec<Instant> nanos = new InstantAsInt64Codec(NANOS);
+        Instant value = Instant.parse("2018-01-02T10:15:30.123456789Z");
+        assertEquals(
+                new BsonInt64(1_514_888_130_123_456L),
+                encodeValue(micros, value)
+        );
+        assertEquals(
+                new BsonInt64(1_514_888_130_123_456_789L),
+                encodeValue(nanos, value)
+        );
+        testCodec(nanos, value);
+        assertEquals(
+                new BsonInt64(-1L),
+                encodeValue(micros, ofEpochSecond(-1L, 999_999_500L))
+        );
+        assertEquals(
+                ofEpochSecond(-1L, 999_999_000L),
+                decodeValue(micros, new BsonInt64(-1L))
+        );
+
+        Instant first = ofEpochSecond(0L, Long.MIN_VALUE);
+        Instant last = ofEpochSecond(0L, Long.MAX_VALUE);
+        assertEquals(new BsonInt64(Long.MIN_VALUE), encodeValue(nanos, first));
+        assertEquals(new BsonInt64(Long.MAX_VALUE), encodeValue(nanos, last));
+        testCodec(nanos, first);
+        testCodec(nanos, last);
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> encodeValue(nanos, first.minusNanos(1L))
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> encodeValue(nanos, last.plusNanos(1L))
+        );
+        Instant firstMicro =
+                decodeValue(micros, new BsonInt64(Long.MIN_VALUE));
+        Instant lastMicro =
+                decodeValue(micros, new BsonInt64(Long.MAX_VALUE));
+        testCodec(micros, firstMicro);
+        testCodec(micros, lastMicro);
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> encodeValue(micros, firstMicro.minusNanos(1L))
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> encodeValue(micros, lastMicro.plus(1L, MICROS))
+        );
+
+        Random random = new Random(0L);
+        List<Instant> values = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            values.add(decodeValue(micros, new BsonInt64(random.nextLong())));
+        }
+        values.sort(null);
+        long previous = Long.MIN_VALUE;
+        for (Instant instant : values) {
+            testCodec(micros, instant);
+            long encoded = encodeValue(micros, instant).asInt64().getValue();
+            assertTrue(previous <= encoded);
+            previous = encoded;
+        }
+    }
+
+    @AllocationTest
+    void testInstantAsInt64CodecAllocations() {
+        testCodecAllocations(
+                new InstantAsInt64Codec(),
+                ofEpochSecond(1514888130L),
+                (w, v) -> w.writeInt64(1_514_888_130_000_000L),
+                r -> {
+                    r.readInt64();
+                    return ofEpochSecond(1514888130L);
+                }
+        );
+    }
+
+    @Test
+    void testInstantAsDecimal128Codec() {
+        testInstantCodec(new InstantAsDecimal128Codec(), false, false);
+
+        Codec<Instant> codec = new InstantAsDecimal128Codec();
+        assertEquals(
+                new BsonDecimal128(Decimal128.parse("1514888130.123456789")),
+                encodeValue(
+                        codec, Instant.parse("2018-01-02T10:15:30.123456789Z")
+                )
+        );
+        assertEquals(
+                new BsonDecimal128(Decimal128.parse("-0.500000000")),
+                encodeValue(codec, ofEpochSecond(-1L, 500_000_000L))
+        );
+        assertEquals(
+                new BsonDecimal128(Decimal128.parse("-1.000000000")),
+                encodeValue(codec, ofEpochSecond(-1L))
+        );
+        assertEquals(
+                ofEpochSecond(1L, 500_000_000L),
+                decodeValue(codec, new BsonDecimal128(Decimal128.parse("1.5")))
+        );
+        assertEquals(
+                ofEpochSecond(-1L, 750_000_000L),
+                decodeValue(
+                        codec, new BsonDecimal128(Decimal128.parse("-0.25"))
+                )
+        );
+        assertEquals(
+                ofEpochSecond(12L),
+                decodeValue(
+                        codec, new BsonDecimal128(Decimal128.parse("1.2E+1"))
+                )
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(codec, new BsonDecimal128(NaN))
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(codec, new BsonDecimal128(
+                        Decimal128.parse("31556889864403200.000000000")
+                ))
+        );
+
+        Random random = new Random(0L);
+        List<Instant> values = new ArrayList<>(asList(
+                MIN, MAX, EPOCH, ofEpochSecond(-1L, 1L), ofEpochSecond(0L, 1L)
+        ));
+        for (int i = 0; i < 1_000; i++) {
+            values.add(ofEpochSecond(
+                    random.nextLong() % MAX.getEpochSecond(),
+                    random.nextInt(1_000_000_000)
+            ));
+        }
+        values.sort(null);
+        BigDecimal previous = null;
+        for (Instant instant : values) {
+            testCodec(codec, instant);
+            BigDecimal encoded = encodeValue(codec, instant)
+                    .asDecimal128()
+                    .getValue()
+                    .bigDecimalValue();
+            assertEquals(
+                    BigDecimal.valueOf(instant.getEpochSecond())
+                              .add(BigDecimal.valueOf(instant.getNano(), 9)),
+                    encoded
+            );
+            assertTrue(previous == null || previous.compareTo(encoded) < 0);
+            previous = encoded;
+        }
+    }
+
+    @AllocationTest
+    void testInstantAsDecimal128CodecAllocations() {
+        testCodecAllocations(
+                new InstantAsDecimal128Codec(),
+                ofEpochSecond(1514888130L),
+                (w, v) -> w.writeDecimal128(fromIEEE754BIDEncoding(
+                        INSTANT_DECIMAL128.getHigh(),
+                        INSTANT_DECIMAL128.getLow()
+                )),
+                r -> {
+                    r.readDecimal128();
+                    return ofEpochSecond(1514888130L);
+                }
+        );
+    }
+
+    @Test
+    void testInstantAsSortableStringCodec() {
+        testInstantCodec(new InstantAsSortableStringCodec(), false, false);
+        assertEquals(
+                new BsonString("00000002018-01-02T10:15:30.000000000Z"),
+                encodeValue(
+                        new InstantAsSortableStringCodec(),
+                        Instant.parse("2018-01-02T10:15:30Z")
+                )
+        );
+        assertEquals(
+                new BsonString("-9000000000-01-01T00:00:00.000000000Z"),
+                encodeValue(new InstantAsSortableStringCodec(), MIN)
+        );
+        assertEquals(
+                new BsonString("01000000000-12-31T23:59:59.999999999Z"),
+                encodeValue(new InstantAsSortableStringCodec(), MAX)
+        );
+
+        Random random = new Random(0L);
+        List<Instant> values = new ArrayList<>(asList(
+                MIN, MAX, EPOCH, ofEpochSecond(-1L, 999_999_999L),
+                ofEpochSecond(-62_167_219_201L), ofEpochSecond(-62_167_219_200L)
+        ));
+        for (int i = 0; i < 500; i++) {
+            long precision = (long) Math.pow(10, random.nextInt(10));
+            values.add(ofEpochSecond(
+                    random.nextLong() % 31_556_889_864_403_199L >>
+                    random.nextInt(40),
+                    random.nextInt(1_000_000_000) / precision * precision
+            ));
+        }
+        testSortableStringEncoding(new InstantAsSortableStringCodec(), values);
+
+        for (String value : asList(
+                "2018-01-02T10:15:30Z",
+                "00000002018-01-02T10:15:30.000000000",
+                "00000002018-01-02T10:15:30.000000000+",
+                "00000002019-02-29T10:15:30.000000000Z",
+                "00000002018-04-31T10:15:30.000000000Z",
+                "01000000001-01-01T00:00:00.000000000Z",
+                "-8999999999-12-31T23:59:59.999999999Z")) {
+
+            assertThrows(
+                    BsonInvalidOperationException.class,
+                    () -> decodeValue(
+                            new InstantAsSortableStringCodec(),
+                            new BsonString(value)
+                    )
+            );
+        }
+        assertEquals(
+                Instant.parse("2000-02-29T00:00:00Z"),
+                decodeValue(
+                        new InstantAsSortableStringCodec(),
+                        new BsonString("00000002000-02-29T00:00:00.000000000Z")
+                )
+        );
+    }
+
+    @Test
+    void testInstantListAsBinaryCodec() {
+        Codec<List<Instant>> codec = new InstantListAsBinaryCodec();
+        assertThrows(
+                NullPointerException.class,
+                () -> testCodec(codec, null)
+        );
+        assertThrows(
+                NullPointerException.class,
+                () -> testCodec(codec, asList(EPOCH, null))
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> testCodec(codec, asList(EPOCH, MAX))
+        );
+        testCodec(codec, new ArrayList<>());
+
+        Random random = new Random(0L);
+        List<Instant> instants = new ArrayList<>(asList(
+                EPOCH, Instant.ofEpochMilli(Long.MIN_VALUE),
+                Instant.ofEpochMilli(Long.MAX_VALUE), Instant.ofEpochMilli(-1L)
+        ));
+        BsonArray array = new BsonArray();
+        for (int i = 0; i < 1_000; i++) {
+            Instant instant = Instant.ofEpochMilli(random.nextLong() >> 20);
+            instants.add(instant);
+            array.add(new BsonDateTime(instant.toEpochMilli()));
+        }
+        testCodec(codec, instants);
+
+        BsonBinary binary = encodeValue(codec, instants).asBinary();
+        assertEquals(USER_DEFINED.getValue(), binary.getType());
+        assertEquals(8 * instants.size(), binary.getData().length);
+        assertTrue(3 * bsonSize(binary) < 2 * bsonSize(array));
+
+        long[] epochMillis = decodeValue(
+                new EpochMillisAsBinaryCodec(), binary
+        );
+        assertEquals(instants.size(), epochMillis.length);
+        for (int i = 0; i < epochMillis.length; i++) {
+            assertEquals(instants.get(i).toEpochMilli(), epochMillis[i]);
+        }
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(codec, new BsonBinary(BINARY, new byte[8]))
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(
+                        codec, new BsonBinary(USER_DEFINED, new byte[7])
+                )
+        );
+    }
+
+    @Test
+    void testEpochMillisAsBinaryCodec() {
+        Codec<long[]> codec = new EpochMillisAsBinaryCodec();
+        assertThrows(
+                NullPointerException.class,
+                () -> encodeValue(codec, null)
+        );
+        long[] epochMillis = {
+                0L, -1L, 1L, Long.MIN_VALUE, Long.MAX_VALUE, 1514888130123L
+        };
+        BsonBinary binary = encodeValue(codec, epochMillis).asBinary();
+        assertArrayEquals(epochMillis, decodeValue(codec, binary));
+        assertArrayEquals(
+                new byte[] { -1, -1, -1, -1, -1, -1, -1, -1 },
+                copyOfRange(binary.getData(), 8, 16)
+        );
+        assertArrayEquals(
+                new byte[] { 1, 0, 0, 0, 0, 0, 0, 0 },
+                copyOfRange(binary.getData(), 16, 24)
+        );
+        assertArrayEquals(
+                new long[0],
+                decodeValue(codec, encodeValue(codec, new long[0]))
+        );
+    }
+
+    @Test
+    void testInstantSequenceAsBinaryCodec() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new InstantSequenceAsBinaryCodec(SECONDS)
+        );
+        assertThrows(
+                NullPointerException.class,
+                () -> new InstantSequenceAsBinaryCodec(null)
+        );
+
+        Random random = new Random(0L);
+        List<Instant> sequence = new ArrayList<>();
+        List<Instant> randomInstants = new ArrayList<>(asList(
+                EPOCH, ofEpochSecond(-1L, 1L), ofEpochSecond(1L, 999_999_999L)
+        ));
+        Instant instant = ofEpochSecond(1514888130L, 123_456_789L);
+        for (int i = 0; i < 1_000; i++) {
+            instant = instant.plusNanos(random.nextInt(20_000_000));
+            sequence.add(instant);
+            randomInstants.add(ofEpochSecond(
+                    random.nextLong() % 31_556_889_864_403_199L >>
+                    random.nextInt(48),
+                    random.nextInt(1_000_000_000)
+            ));
+        }
+
+        for (ChronoUnit precision : asList(MILLIS, MICROS, NANOS)) {
+            Codec<List<Instant>> codec =
+                    new InstantSequenceAsBinaryCodec(precision);
+            assertThrows(
+                    NullPointerException.class,
+                    () -> testCodec(codec, null)
+            );
+            assertThrows(
+                    NullPointerException.class,
+                    () -> testCodec(codec, asList(EPOCH, null))
+            );
+            testCodec(codec, new ArrayList<>());
+            testCodec(codec, truncate(sequence, precision));
+            if (precision == MILLIS) {
+                assertThrows(
+                        BsonInvalidOperationException.class,
+                        () -> testCodec(codec, asList(EPOCH, MAX))
+                );
+                testCodec(codec, asList(
+                        Instant.ofEpochMilli(Long.MAX_VALUE),
+                        Instant.ofEpochMilli(Long.MIN_VALUE),
+                        EPOCH
+                ));
+            }
+            else {
+                testCodec(codec, truncate(randomInstants, precision));
+                testCodec(
+                        codec,
+                        truncate(asList(MAX, MIN, EPOCH, MAX), precision)
+                );
+            }
+
+            BsonBinary binary = encodeValue(codec, sequence).asBinary();
+            assertEquals(USER_DEFINED.getValue(), binary.getType());
+            assertEquals(
+                    truncate(sequence, precision),
+                    decodeValue(new InstantSequenceAsBinaryCodec(), binary)
+            );
+        }
+
+        Codec<List<Instant>> codec = new InstantSequenceAsBinaryCodec();
+        assertTrue(
+                4 * bsonSize(encodeValue(codec, sequence)) <
+                bsonSize(encodeValue(new InstantListAsBinaryCodec(), sequence))
+        );
+        assertEquals(
+                "The binary value of subtype -128 and length 0 " +
+                "is not supported",
+                assertThrows(
+                        BsonInvalidOperationException.class,
+                        () -> decodeValue(
+                                codec,
+                                new BsonBinary(USER_DEFINED, new byte[0])
+                        )
+                ).getMessage()
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(
+                        codec, new BsonBinary(USER_DEFINED, new byte[] { 4 })
+                )
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(
+                        codec,
+                        new BsonBinary(USER_DEFINED, new byte[] { 3, -1 })
+                )
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(
+                        codec, new BsonBinary(BINARY, new byte[] { 3, 0 })
+                )
+        );
+    }
+
+    @Test
+    void testInstantSequenceAsBinaryCodecLargeList() {
+        Random random = new Random(0L);
+        List<Instant> value = new ArrayList<>();
+        Instant instant = ofEpochSecond(1514888130L);
+        for (int i = 0; i < 10_000; i++) {
+            instant = instant.plusNanos(random.nextInt(1_000_000_000));
+            value.add(instant);
+        }
+        testCodec(new InstantSequenceAsBinaryCodec(NANOS), value);
+        testCodec(
+                new InstantSequenceAsBinaryCodec(NANOS), value.subList(0, 10)
+        );
+    }
+
+    @Test
+    void testInstantDoubleMapAsDocumentCodec() {
+        InstantDoubleMapAsDocumentCodec codec =
+                new InstantDoubleMapAsDocumentCodec();
+        assertThrows(
+                NullPointerException.class,
+                () -> testCodec(codec, null)
+        );
+        assertThrows(
+                NullPointerException.class,
+                () -> testCodec(codec, singletonMap(EPOCH, null))
+        );
+        assertThrows(
+                NullPointerException.class,
+                () -> testCodec(codec, singletonMap(null, 1.0))
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> testCodec(codec, singletonMap(MAX, 1.0))
+        );
+        testCodec(codec, new LinkedHashMap<>());
+
+        Random random = new Random(0L);
+        Map<Instant, Double> bucket = new LinkedHashMap<>();
+        long[] epochMillis = new long[1_000];
+        double[] values = new double[1_000];
+        Instant instant = ofEpochSecond(1514888130L);
+        for (int i = 0; i < 1_000; i++) {
+            instant = instant.plusMillis(990L + random.nextInt(20));
+            epochMillis[i] = instant.toEpochMilli();
+            values[i] = random.nextGaussian();
+            bucket.put(instant, values[i]);
+        }
+        bucket.put(Instant.ofEpochMilli(Long.MIN_VALUE), Double.NaN);
+        bucket.put(Instant.ofEpochMilli(Long.MAX_VALUE), -0.0);
+        testCodec(codec, bucket);
+        testCodec(codec, new TreeMap<>(bucket));
+
+        BsonDocument document = encodeValue(codec, bucket).asDocument();
+        assertEquals(
+                USER_DEFINED.getValue(),
+                document.getBinary("timestamps").getType()
+        );
+        assertEquals(
+                USER_DEFINED.getValue(),
+                document.getBinary("values").getType()
+        );
+        assertEquals(
+                truncate(new ArrayList<>(bucket.keySet()), MILLIS),
+                decodeValue(
+                        new InstantSequenceAsBinaryCodec(),
+                        document.get("timestamps")
+                )
+        );
+
+        BsonDocument columns = new BsonDocument();
+        try (BsonDocumentWriter writer = new BsonDocumentWriter(columns)) {
+            writer.writeStartDocument();
+            writer.writeName("value");
+            codec.encode(writer, epochMillis, values, 999);
+            writer.writeEndDocument();
+        }
+        long[] decodedEpochMillis = new long[1_000];
+        double[] decodedValues = new double[1_000];
+        try (BsonReader reader = columnsReader(columns.get("value"))) {
+            assertEquals(
+                    999,
+                    codec.decode(reader, decodedEpochMillis, decodedValues)
+            );
+        }
+        assertArrayEquals(
+                copyOf(epochMillis, 999), copyOf(decodedEpochMillis, 999)
+        );
+        assertArrayEquals(copyOf(values, 999), copyOf(decodedValues, 999));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> codec.encode(
+                        new BsonDocumentWriter(new BsonDocument()),
+                        epochMillis, new double[999], 1_000
+                )
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> codec.decode(
+                        columnsReader(columns.get("value")),
+                        new long[999], new double[998]
+                )
+        );
+
+        BsonDocument stringKeys = new BsonDocument();
+        for (int i = 0; i < 1_000; i++) {
+            stringKeys.put(
+                    Instant.ofEpochMilli(epochMillis[i]).toString(),
+                    new BsonDouble(values[i])
+            );
+        }
+        assertTrue(
+                3 * bsonSize(encodeValue(codec, bucket)) <
+                bsonSize(stringKeys)
+        );
+
+        testMalformedColumns(codec);
+    }
+
+    @Test
+    void testInstantDoubleMapAsDocumentCodecFieldNaming() {
+        assertThrows(
+                NullPointerException.class,
+                () -> new InstantDoubleMapAsDocumentCodec(null)
+        );
+        InstantDoubleMapAsDocumentCodec full =
+                new InstantDoubleMapAsDocumentCodec();
+        InstantDoubleMapAsDocumentCodec compact =
+                new InstantDoubleMapAsDocumentCodec(COMPACT);
+        assertEquals(full, new InstantDoubleMapAsDocumentCodec(FULL));
+        assertEquals(
+                full.hashCode(),
+                new InstantDoubleMapAsDocumentCodec(FULL).hashCode()
+        );
+        assertNotEquals(full, compact);
+
+        Map<Instant, Double> bucket = new LinkedHashMap<>();
+        bucket.put(ofEpochSecond(1514888130L), 1.5);
+        bucket.put(ofEpochSecond(1514888131L), -2.5);
+        testCodec(compact, bucket);
+
+        BsonDocument fullColumns = encodeValue(full, bucket).asDocument();
+        BsonDocument compactColumns =
+                encodeValue(compact, bucket).asDocument();
+        assertEquals(
+                asList("t", "v"), new ArrayList<>(compactColumns.keySet())
+        );
+        assertEquals(fullColumns.get("timestamps"), compactColumns.get("t"));
+        assertEquals(fullColumns.get("values"), compactColumns.get("v"));
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(compact, fullColumns)
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(full, compactColumns)
+        );
+    }
+
+    @Test
+    void testInstantLongMapAsDocumentCodec() {
+        InstantLongMapAsDocumentCodec codec =
+                new InstantLongMapAsDocumentCodec();
+        assertThrows(
+                NullPointerException.class,
+                () -> testCodec(codec, singletonMap(EPOCH, null))
+        );
+        testCodec(codec, new LinkedHashMap<>());
+
+        Random random = new Random(0L);
+        Map<Instant, Long> bucket = new LinkedHashMap<>();
+        long[] epochMillis = new long[1_000];
+        long[] values = new long[1_000];
+        Instant instant = ofEpochSecond(1514888130L);
+        for (int i = 0; i < 1_000; i++) {
+            instant = instant.plusMillis(random.nextInt(60_000));
+            epochMillis[i] = instant.toEpochMilli();
+            values[i] = random.nextLong();
+            bucket.put(instant, values[i]);
+        }
+        testCodec(codec, bucket);
+
+        BsonDocument columns = new BsonDocument();
+        try (BsonDocumentWriter writer = new BsonDocumentWriter(columns)) {
+            writer.writeStartDocument();
+            writer.writeName("value");
+            codec.encode(writer, epochMillis, values, values.length);
+            writer.writeEndDocument();
+        }
+        assertEquals(encodeValue(codec, bucket), columns.get("value"));
+        long[] decodedEpochMillis = new long[1_000];
+        long[] decodedValues = new long[1_000];
+        try (BsonReader reader = columnsReader(encodeValue(codec, bucket))) {
+            assertEquals(
+                    1_000,
+                    codec.decode(reader, decodedEpochMillis, decodedValues)
+            );
+        }
+        assertArrayEquals(epochMillis, decodedEpochMillis);
+        assertArrayEquals(values, decodedValues);
+
+        testMalformedColumns(codec);
+    }
+
+    private static <T> void testMalformedColumns(Codec<T> codec) {
+        BsonBinary timestamps = new BsonBinary(
+                USER_DEFINED, new byte[] { 3, 2, 2 }
+        );
+        BsonBinary values = new BsonBinary(USER_DEFINED, new byte[16]);
+        assertEquals(
+                "The binary value of subtype -128 and length 0 " +
+                "is not supported",
+                assertThrows(
+                        BsonInvalidOperationException.class,
+                        () -> decodeValue(
+                                codec,
+                                new BsonDocument("timestamps", new BsonBinary(
+                                        USER_DEFINED, new byte[0]
+                                )).append("values", new BsonBinary(
+                                        USER_DEFINED, new byte[0]
+                                ))
+                        )
+                ).getMessage()
+        );
+        decodeValue(
+                codec,
+                new BsonDocument("values", values)
+                        .append("timestamps", timestamps)
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(
+                        codec, new BsonDocument("timestamps", timestamps)
+                )
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(
+                        codec,
+                        new BsonDocument("timestamps", timestamps)
+                                .append("values", new BsonBinary(
+                                        USER_DEFINED, new byte[8]
+                                ))
+                )
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(
+                        codec,
+                        new BsonDocument("timestamps", timestamps)
+                                .append("values", new BsonBinary(
+                                        USER_DEFINED, new byte[24]
+                                ))
+                )
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(
+                        codec,
+                        new BsonDocument("timestamps", timestamps)
+                                .append("values", new BsonBinary(
+                                        USER_DEFINED, new byte[15]
+                                ))
+                )
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(
+                        codec,
+                        new BsonDocument("timestamps", new BsonBinary(
+                                USER_DEFINED, new byte[] { 6, 2, 2 }
+                        )).append("values", values)
+                )
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(
+                        codec,
+                        new BsonDocument("timestamps", new BsonBinary(
+                                USER_DEFINED, new byte[] { 3, 2, 0 }
+                        )).append("values", values)
+                )
+        );
+    }
+
+    private static BsonReader columnsReader(BsonValue value) {
+        BsonReader reader = new BsonDocumentReader(
+                new BsonDocument("value", value)
+        );
+        reader.readStartDocument();
+        reader.readName();
+        return reader;
+    }
+
+    private static List<Instant> truncate(
+            List<Instant> instants,
+            ChronoUnit precision) {
+
+        List<Instant> truncated = new ArrayList<>(instants.size());
+        for (Instant instant : instants) {
+            truncated.add(instant.truncatedTo(precision));
+        }
+        return truncated;
+    }
+
+    @Test
+    void testInstantLongMapAsDocumentCodecFieldNaming() {
+        assertThrows(
+                NullPointerException.class,
+                () -> new InstantLongMapAsDocumentCodec(null)
+        );
+        InstantLongMapAsDocumentCodec full =
+                new InstantLongMapAsDocumentCodec();
+        InstantLongMapAsDocumentCodec compact =
+                new InstantLongMapAsDocumentCodec(COMPACT);
+        assertEquals(full, new InstantLongMapAsDocumentCodec(FULL));
+        assertEquals(
+                full.hashCode(),
+                new InstantLongMapAsDocumentCodec(FULL).hashCode()
+        );
+        assertNotEquals(full, compact);
+
+        Map<Instant, Long> bucket = new LinkedHashMap<>();
+        bucket.put(ofEpochSecond(1514888130L), 1L);
+        bucket.put(ofEpochSecond(1514888131L), -2L);
+        testCodec(compact, bucket);
+
+        BsonDocument fullColumns = encodeValue(full, bucket).asDocument();
+        BsonDocument compactColumns =
+                encodeValue(compact, bucket).asDocument();
+        assertEquals(
+                asList("t", "v"), new ArrayList<>(compactColumns.keySet())
+        );
+        assertEquals(fullColumns.get("timestamps"), compactColumns.get("t"));
+        assertEquals(fullColumns.get("values"), compactColumns.get("v"));
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(compact, fullColumns)
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(full, compactColumns)
+        );
+    }
+
+    @Test
+    void testInstantMapAsDocumentCodecsSubMillisecondKeys() {
+        Instant first = Instant.parse("2024-01-01T00:00:00.000100Z");
+        Instant second = Instant.parse("2024-01-01T00:00:00.000200Z");
+        Instant third = Instant.parse("2024-01-01T00:00:00.001300Z");
+
+        Map<Instant, Double> doubles = new LinkedHashMap<>();
+        doubles.put(third, 3.0);
+        doubles.put(first, 1.0);
+        Map<Instant, Double> truncatedDoubles = new LinkedHashMap<>();
+        truncatedDoubles.put(third.truncatedTo(MILLIS), 3.0);
+        truncatedDoubles.put(first.truncatedTo(MILLIS), 1.0);
+        Codec<Map<Instant, Double>> doubleCodec =
+                new InstantDoubleMapAsDocumentCodec();
+        assertEquals(
+                truncatedDoubles,
+                decodeValue(doubleCodec, encodeValue(doubleCodec, doubles))
+        );
+        doubles.put(second, 2.0);
+        BsonInvalidOperationException ex = assertThrows(
+                BsonInvalidOperationException.class,
+                () -> encodeValue(doubleCodec, doubles)
+        );
+        assertEquals(
+                "The value " + second + " is not supported",
+                ex.getMessage()
+        );
+
+        Map<Instant, Long> longs = new LinkedHashMap<>();
+        longs.put(first, 1L);
+        longs.put(third, 3L);
+        Map<Instant, Long> truncatedLongs = new LinkedHashMap<>();
+        truncatedLongs.put(first.truncatedTo(MILLIS), 1L);
+        truncatedLongs.put(third.truncatedTo(MILLIS), 3L);
+        Codec<Map<Instant, Long>> longCodec =
+                new InstantLongMapAsDocumentCodec();
+        assertEquals(
+                truncatedLongs,
+                decodeValue(longCodec, encodeValue(longCodec, longs))
+        );
+        longs.put(second, 2L);
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> encodeValue(longCodec, longs)
+        );
+
+        long[] epochMillis = { 5L, 3L, 4L, 3L };
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> new InstantDoubleMapAsDocumentCodec().encode(
+                        new BsonDocumentWriter(new BsonDocument()),
+                        epochMillis, new double[4], 4
+                )
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> new InstantLongMapAsDocumentCodec().encode(
+                        new BsonDocumentWriter(new BsonDocument()),
+                        epochMillis, new long[4], 4
+                )
+        );
+        BsonDocument columns = new BsonDocument();
+        try (BsonDocumentWriter writer = new BsonDocumentWriter(columns)) {
+            writer.writeStartDocument();
+            writer.writeName("value");
+            new InstantLongMapAsDocumentCodec().encode(
+                    writer, epochMillis, new long[4], 3
+            );
+            writer.writeEndDocument();
+        }
+        long[] decodedEpochMillis = new long[3];
+        try (BsonReader reader = columnsReader(columns.get("value"))) {
+            assertEquals(
+                    3,
+                    new InstantLongMapAsDocumentCodec().decode(
+                            reader, decodedEpochMillis, new long[3]
+                    )
+            );
+        }
+        assertArrayEquals(copyOf(epochMillis, 3), decodedEpochMillis);
+
+        BsonDocument duplicated = new BsonDocument(
+                "timestamps",
+                new BsonBinary(USER_DEFINED, new byte[] { 3, 10, 0 })
+        ).append("values", new BsonBinary(USER_DEFINED, new byte[16]));
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> new InstantDoubleMapAsDocumentCodec().decode(
+                        columnsReader(duplicated),
+                        new long[2], new double[2]
+                )
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> new InstantLongMapAsDocumentCodec().decode(
+                        columnsReader(duplicated),
+                        new long[2], new long[2]
+                )
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(doubleCodec, duplicated)
+        );
+    }
+
+    @Test
+    void testInstantMapAsDocumentCodecsLargeBuckets() {
+        Map<Instant, Double> doubles = new LinkedHashMap<>();
+        Map<Instant, Long> longs = new LinkedHashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            Instant instant = ofEpochSecond(1514888130L + i);
+            doubles.put(instant, (double) i);
+            longs.put(instant, (long) i);
+        }
+        testCodec(new InstantDoubleMapAsDocumentCodec(), doubles);
+        testCodec(new InstantLongMapAsDocumentCodec(), longs);
+        testCodec(
+                new InstantDoubleMapAsDocumentCodec(),
+                singletonMap(EPOCH, 1.0)
+        );
+    }
 }
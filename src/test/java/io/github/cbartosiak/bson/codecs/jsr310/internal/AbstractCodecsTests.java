@@ -16,21 +16,62 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.internal;
 
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.COMPACT;
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.FULL;
+import static io.github.cbartosiak.bson.codecs.jsr310.ZeroComponents.OMITTED;
+import static io.github.cbartosiak.bson.codecs.jsr310.ZeroComponents.REQUIRED;
+import static java.lang.Integer.signum;
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.lang.management.ManagementFactory.getThreadMXBean;
 import static java.nio.ByteBuffer.wrap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.bson.BsonBinaryReader;
 import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonReader;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 import org.bson.io.BasicOutputBuffer;
 import org.bson.io.BsonOutput;
+import org.junit.jupiter.api.function.Executable;
+
+import io.github.cbartosiak.bson.codecs.jsr310.FieldNaming;
+import io.github.cbartosiak.bson.codecs.jsr310.ZeroComponents;
 
 public abstract class AbstractCodecsTests {
 
+    private static final int ALLOCATION_WARMUP_ITERATIONS = 20_000;
+    private static final int ALLOCATION_ITERATIONS        = 20_000;
+    private static final int ALLOCATION_ATTEMPTS          = 3;
+
+    private static Object allocationSink;
+
     protected AbstractCodecsTests() {}
 
     protected static final <T> void testCodec(Codec<T> codec, T value) {
@@ -44,6 +85,362 @@ public abstract class AbstractCodecsTests {
         }
     }
 
+    protected static <T> BsonValue encodeValue(Codec<T> codec, T value) {
+        BsonDocument document = new BsonDocument();
+        try (BsonDocumentWriter writer = new BsonDocumentWriter(document)) {
+
+            writer.writeStartDocument();
+            writer.writeName("value");
+            codec.encode(writer, value, EncoderContext.builder().build());
+            writer.writeEndDocument();
+
+            return document.get("value");
+        }
+    }
+
+    protected static <T> T decodeValue(Codec<T> codec, BsonValue value) {
+        try (BsonDocumentReader reader = new BsonDocumentReader(
+                new BsonDocument("value", value))) {
+
+            reader.readStartDocument();
+            reader.readName();
+
+            return codec.decode(reader, DecoderContext.builder().build());
+        }
+    }
+
+    /**
+     * Returns the number of bytes the value takes in a document.
+     */
+    protected static int bsonSize(BsonValue value) {
+        return new RawBsonDocument(
+                new BsonDocument("value", value), new BsonDocumentCodec()
+        ).getByteBuffer().remaining();
+    }
+
+    /**
+     * Asserts that encoding each of the values with the codec gives the same
+     * string as its {@code toString()} method does and that it is decoded
+     * back to the value.
+     */
+    protected static <T> void testStringEncoding(
+            Codec<T> codec,
+            Iterable<T> values) {
+
+        for (T value : values) {
+            BsonValue encoded = encodeValue(codec, value);
+            assertEquals(new BsonString(value.toString()), encoded);
+            assertEquals(value, decodeValue(codec, encoded));
+        }
+    }
+
+    /**
+     * Asserts that the codec encodes all the values to strings of the same
+     * length, which are decoded back to the values and compare to each other
+     * as the values do.
+     */
+    protected static <T extends Comparable<? super T>> void
+    testSortableStringEncoding(Codec<T> codec, List<T> values) {
+        List<String> encoded = new ArrayList<>(values.size());
+        for (T value : values) {
+            String string = encodeValue(codec, value).asString().getValue();
+            assertEquals(value, decodeValue(codec, new BsonString(string)));
+            encoded.add(string);
+            assertEquals(encoded.get(0).length(), string.length());
+        }
+        for (int i = 0; i < values.size(); i++) {
+            for (int j = 0; j < values.size(); j++) {
+                String left = encoded.get(i);
+                String right = encoded.get(j);
+                assertEquals(
+                        signum(values.get(i).compareTo(values.get(j))),
+                        signum(left.compareTo(right)),
+                        () -> left + " and " + right
+                );
+            }
+        }
+    }
+
+    /**
+     * Asserts that the codecs of the {@link FieldNaming#FULL} and
+     * the {@link FieldNaming#COMPACT} names encode the value to the provided
+     * documents, the latter being smaller, and that each of them decodes
+     * only the documents of its own names.
+     */
+    protected static <T> void testFieldNaming(
+            Function<FieldNaming, Codec<T>> codecs,
+            T value,
+            String fullDocument,
+            String compactDocument) {
+
+        assertThrows(NullPointerException.class, () -> codecs.apply(null));
+        Codec<T> fullCodec = codecs.apply(FULL);
+        Codec<T> compactCodec = codecs.apply(COMPACT);
+        assertNotEquals(fullCodec, compactCodec);
+
+        BsonValue full = encodeValue(fullCodec, value);
+        BsonValue compact = encodeValue(compactCodec, value);
+        assertEquals(BsonDocument.parse(fullDocument), full);
+        assertEquals(BsonDocument.parse(compactDocument), compact);
+        assertTrue(bsonSize(compact) < bsonSize(full));
+
+        assertEquals(value, decodeValue(fullCodec, full));
+        assertEquals(value, decodeValue(compactCodec, compact));
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(fullCodec, compact)
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(compactCodec, full)
+        );
+    }
+
+    /**
+     * Asserts that the codecs of the {@link ZeroComponents#REQUIRED} and
+     * the {@link ZeroComponents#OMITTED} components encode the value to
+     * the provided documents, the latter being smaller, that the latter codec
+     * decodes both the documents and that the former one rejects the latter
+     * document.
+     */
+    protected static <T> void testZeroComponents(
+            BiFunction<FieldNaming, ZeroComponents, Codec<T>> codecs,
+            T value,
+            String requiredDocument,
+            String omittedDocument) {
+
+        assertThrows(
+                NullPointerException.class,
+                () -> codecs.apply(FULL, null)
+        );
+        Codec<T> requiredCodec = codecs.apply(FULL, REQUIRED);
+        Codec<T> omittedCodec = codecs.apply(FULL, OMITTED);
+        assertNotEquals(requiredCodec, omittedCodec);
+
+        BsonValue required = encodeValue(requiredCodec, value);
+        BsonValue omitted = encodeValue(omittedCodec, value);
+        assertEquals(BsonDocument.parse(requiredDocument), required);
+        assertEquals(BsonDocument.parse(omittedDocument), omitted);
+        assertTrue(bsonSize(omitted) < bsonSize(required));
+
+        assertEquals(value, decodeValue(requiredCodec, required));
+        assertEquals(value, decodeValue(omittedCodec, omitted));
+        assertEquals(value, decodeValue(omittedCodec, required));
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(requiredCodec, omitted)
+        );
+    }
+
+    /**
+     * Asserts that decoding the value with the codec fails with the usual
+     * message, caused by the same exception the parser fails with.
+     */
+    protected static <T> void testDecodingFailure(
+            Codec<T> codec,
+            BsonValue value,
+            Object rawValue,
+            Executable parser) {
+
+        RuntimeException expected = assertThrows(
+                RuntimeException.class,
+                parser
+        );
+        BsonInvalidOperationException actual = assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(codec, value)
+        );
+        assertEquals(
+                format("The value %s is not supported", rawValue),
+                actual.getMessage()
+        );
+        assertEquals(expected.getClass(), actual.getCause().getClass());
+        assertEquals(expected.getMessage(), actual.getCause().getMessage());
+    }
+
+    /**
+     * Asserts that decoding each of the strings with the codec gives the
+     * same value as the parser does, or fails whenever the parser fails.
+     */
+    protected static <T> void testStringDecoding(
+            Codec<T> codec,
+            Function<String, T> parser,
+            String... values) {
+
+        for (String value : values) {
+            T expected;
+            try {
+                expected = parser.apply(value);
+            }
+            catch (DateTimeException ignored) {
+                assertThrows(
+                        BsonInvalidOperationException.class,
+                        () -> decodeValue(codec, new BsonString(value)),
+                        value
+                );
+                continue;
+            }
+            assertEquals(
+                    expected,
+                    decodeValue(codec, new BsonString(value)),
+                    value
+            );
+        }
+    }
+
+    /**
+     * Asserts that encoding and decoding the value with the codec allocate
+     * no more than writing and reading it with the provided functions
+     * (that is without the codec) does.
+     */
+    protected static <T> void testCodecAllocations(
+            Codec<T> codec,
+            T value,
+            BiConsumer<BsonWriter, T> valueWriter,
+            Function<BsonReader, T> valueReader) {
+
+        EncoderContext encoderContext = EncoderContext.builder().build();
+        DecoderContext decoderContext = DecoderContext.builder().build();
+
+        Consumer<BsonWriter> rawEncoder = w -> valueWriter.accept(w, value);
+        Consumer<BsonWriter> codecEncoder =
+                w -> codec.encode(w, value, encoderContext);
+        Function<BsonReader, T> codecDecoder =
+                r -> codec.decode(r, decoderContext);
+
+        try (BasicOutputBuffer output = new BasicOutputBuffer()) {
+
+            encode(output, codec, value);
+            byte[] bytes = output.toByteArray();
+
+            assertAllocations(
+                    "encode",
+                    codec,
+                    () -> encode(output, rawEncoder),
+                    () -> encode(output, codecEncoder)
+            );
+            assertAllocations(
+                    "decode",
+                    codec,
+                    () -> allocationSink = decode(bytes, valueReader),
+                    () -> allocationSink = decode(bytes, codecDecoder)
+            );
+        }
+    }
+
+    /**
+     * Writes the document of {@code LocalDateTimeAsDocumentCodec} with
+     * plain writer calls, as a baseline of the codecs nesting it.
+     */
+    protected static void writeLocalDateTimeDocument(
+            BsonWriter writer,
+            LocalDateTime value) {
+
+        writer.writeStartDocument();
+        writer.writeStartDocument("date");
+        writer.writeInt32("year", value.getYear());
+        writer.writeInt32("month", value.getMonthValue());
+        writer.writeInt32("day", value.getDayOfMonth());
+        writer.writeEndDocument();
+        writer.writeStartDocument("time");
+        writer.writeInt32("hour", value.getHour());
+        writer.writeInt32("minute", value.getMinute());
+        writer.writeInt32("second", value.getSecond());
+        writer.writeInt32("nano", value.getNano());
+        writer.writeEndDocument();
+        writer.writeEndDocument();
+    }
+
+    /**
+     * Reads the document of {@code LocalDateTimeAsDocumentCodec} with
+     * plain reader calls, as a baseline of the codecs nesting it.
+     */
+    protected static LocalDateTime readLocalDateTimeDocument(
+            BsonReader reader) {
+
+        reader.readStartDocument();
+        reader.readName("date");
+        reader.readStartDocument();
+        int year = reader.readInt32("year");
+        int month = reader.readInt32("month");
+        int day = reader.readInt32("day");
+        reader.readEndDocument();
+        LocalDate date = LocalDate.of(year, month, day);
+        reader.readName("time");
+        reader.readStartDocument();
+        int hour = reader.readInt32("hour");
+        int minute = reader.readInt32("minute");
+        int second = reader.readInt32("second");
+        int nano = reader.readInt32("nano");
+        reader.readEndDocument();
+        LocalTime time = LocalTime.of(hour, minute, second, nano);
+        reader.readEndDocument();
+        return LocalDateTime.of(date, time);
+    }
+
+    private static void assertAllocations(
+            String operation,
+            Codec<?> codec,
+            Runnable withoutCodec,
+            Runnable withCodec) {
+
+        // The JIT compiler may recompile either side between measurements,
+        // so both are measured in every attempt and their minimums compared.
+        long expected = allocatedBytes(withoutCodec);
+        long actual = allocatedBytes(withCodec);
+        for (int attempt = 1;
+             attempt < ALLOCATION_ATTEMPTS && actual > expected;
+             attempt++) {
+
+            expected = min(expected, allocatedBytes(withoutCodec));
+            actual = min(actual, allocatedBytes(withCodec));
+        }
+
+        assertTrue(actual <= expected, format(
+                "%s %s allocates %d bytes per operation, expected %d",
+                codec.getClass().getSimpleName(), operation, actual, expected
+        ));
+    }
+
+    private static long allocatedBytes(Runnable operation) {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean)getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < ALLOCATION_WARMUP_ITERATIONS; i++) {
+            operation.run();
+        }
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ALLOCATION_ITERATIONS; i++) {
+            operation.run();
+        }
+        long after = threadMXBean.getThreadAllocatedBytes(threadId);
+
+        return (after - before) / ALLOCATION_ITERATIONS;
+    }
+
+    private static void encode(
+            BasicOutputBuffer output,
+            Consumer<BsonWriter> valueWriter) {
+
+        output.truncateToPosition(0);
+        BsonBinaryWriter writer = new BsonBinaryWriter(output);
+        writer.writeStartDocument();
+        writer.writeName("value");
+        valueWriter.accept(writer);
+        writer.writeEndDocument();
+    }
+
+    private static <T> T decode(
+            byte[] bytes,
+            Function<BsonReader, T> valueReader) {
+
+        BsonBinaryReader reader = new BsonBinaryReader(wrap(bytes));
+        reader.readStartDocument();
+        reader.readName();
+        return valueReader.apply(reader);
+    }
+
     private static <T> void encode(BsonOutput output, Codec<T> codec, T value) {
         try (BsonBinaryWriter writer = new BsonBinaryWriter(output)) {
 
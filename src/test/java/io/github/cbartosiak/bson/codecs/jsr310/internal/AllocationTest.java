@@ -0,0 +1,42 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.internal;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Marks a test of the bytes allocated by a codec, such as the ones calling
+ * {@link AbstractCodecsTests#testCodecAllocations}.
+ * <p>
+ * The measurements depend on the JIT compiler, so the tests are tagged
+ * {@value #TAG} and only run with the {@code allocation-tests} profile.
+ */
+@Target(METHOD)
+@Retention(RUNTIME)
+@Tag(AllocationTest.TAG)
+@Test
+public @interface AllocationTest {
+
+    String TAG = "allocation";
+}
@@ -19,15 +19,28 @@ package io.github.cbartosiak.bson.codecs.jsr310.localdate;
 import static java.time.LocalDate.MAX;
 import static java.time.LocalDate.MIN;
 import static java.time.LocalDate.now;
+import static java.time.ZoneOffset.UTC;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.bson.BsonBinarySubType.USER_DEFINED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
+import org.bson.BsonBinary;
+import org.bson.BsonDateTime;
+import org.bson.BsonInt32;
 import org.bson.BsonInvalidOperationException;
 import org.bson.codecs.Codec;
 import org.junit.jupiter.api.Test;
 
 import io.github.cbartosiak.bson.codecs.jsr310.internal.AbstractCodecsTests;
+import io.github.cbartosiak.bson.codecs.jsr310.internal.AllocationTest;
 
 @SuppressWarnings("JUnitTestMethodWithNoAssertions")
 final class LocalDateCodecsTests extends AbstractCodecsTests {
@@ -62,6 +75,39 @@ final class LocalDateCodecsTests extends AbstractCodecsTests {
     @Test
     void testLocalDateAsStringCodec() {
         testLocalDateCodec(new LocalDateAsStringCodec(), false);
+        testStringDecoding(
+                new LocalDateAsStringCodec(),
+                LocalDate::parse,
+                "2018-01-02", "0000-01-01", "9999-12-31", "2016-02-29",
+                "+10000-01-01", "-0001-12-31", "2018-02-29", "2018-13-01",
+                "2018-00-10", "2018-04-31", "2018-1-02", "2018-01-02T",
+                "2018/01/02", "20180102", ""
+        );
+        Random random = new Random(0L);
+        List<LocalDate> values = new ArrayList<>(asList(
+                LocalDate.MIN, LocalDate.MAX, LocalDate.of(-1, 1, 1),
+                LocalDate.of(-999, 1, 1), LocalDate.of(-1000, 1, 1),
+                LocalDate.of(999, 1, 1), LocalDate.of(10_000, 1, 1)
+        ));
+        for (int i = 0; i < 1_000; i++) {
+            values.add(LocalDate.ofEpochDay(
+                    random.nextLong() % 365_000_000_000L >> random.nextInt(40)
+            ));
+        }
+        testStringEncoding(new LocalDateAsStringCodec(), values);
+    }
+
+    @AllocationTest
+    void testLocalDateAsStringCodecAllocations() {
+        testCodecAllocations(
+                new LocalDateAsStringCodec(),
+                LocalDate.of(2018, 1, 2),
+                (w, v) -> w.writeString(v.toString()),
+                r -> {
+                    r.readString();
+                    return LocalDate.of(2018, 1, 2);
+                }
+        );
     }
 
     @Test
@@ -69,8 +115,184 @@ final class LocalDateCodecsTests extends AbstractCodecsTests {
         testLocalDateCodec(new LocalDateAsDocumentCodec(), false);
     }
 
+    @AllocationTest
+    void testLocalDateAsDocumentCodecAllocations() {
+        testCodecAllocations(
+                new LocalDateAsDocumentCodec(),
+                LocalDate.of(2018, 1, 2),
+                (w, v) -> {
+                    w.writeStartDocument();
+                    w.writeInt32("year", v.getYear());
+                    w.writeInt32("month", v.getMonthValue());
+                    w.writeInt32("day", v.getDayOfMonth());
+                    w.writeEndDocument();
+                },
+                r -> {
+                    r.readStartDocument();
+                    int year = r.readInt32("year");
+                    int month = r.readInt32("month");
+                    int day = r.readInt32("day");
+                    r.readEndDocument();
+                    return LocalDate.of(year, month, day);
+                }
+        );
+    }
+
+    @Test
+    void testLocalDateAsDocumentCodecFieldNaming() {
+        testFieldNaming(
+                LocalDateAsDocumentCodec::new,
+                LocalDate.of(2018, 1, 2),
+                "{ year: 2018, month: 1, day: 2 }",
+                "{ y: 2018, M: 1, d: 2 }"
+        );
+    }
+
     @Test
     void testLocalDateAsDateTimeCodec() {
         testLocalDateCodec(new LocalDateAsDateTimeCodec(), true);
     }
+
+    @AllocationTest
+    void testLocalDateAsDateTimeCodecAllocations() {
+        testCodecAllocations(
+                new LocalDateAsDateTimeCodec(),
+                LocalDate.of(2018, 1, 2),
+                (w, v) -> w.writeDateTime(1_514_851_200_000L),
+                r -> {
+                    r.readDateTime();
+                    return LocalDate.of(2018, 1, 2);
+                }
+        );
+    }
+
+    @Test
+    void testLocalDateAsDateTimeCodecCompatibility() {
+        Codec<LocalDate> codec = new LocalDateAsDateTimeCodec();
+        Random random = new Random(0L);
+        List<Long> millis = new ArrayList<>(asList(
+                0L, -1L, 1L, -86_400_000L, -86_400_001L, 86_399_999L,
+                Long.MIN_VALUE, Long.MAX_VALUE
+        ));
+        for (int i = 0; i < 1_000; i++) {
+            millis.add(random.nextLong() >> random.nextInt(64));
+        }
+        for (long value : millis) {
+            assertEquals(
+                    Instant.ofEpochMilli(value).atOffset(UTC).toLocalDate(),
+                    decodeValue(codec, new BsonDateTime(value))
+            );
+        }
+        List<LocalDate> dates = new ArrayList<>(asList(
+                LocalDate.MIN, LocalDate.MAX, LocalDate.of(1969, 12, 31),
+                LocalDate.ofEpochDay(Long.MIN_VALUE / 86_400_000L),
+                LocalDate.ofEpochDay(Long.MIN_VALUE / 86_400_000L - 1L),
+                LocalDate.ofEpochDay(Long.MAX_VALUE / 86_400_000L),
+                LocalDate.ofEpochDay(Long.MAX_VALUE / 86_400_000L + 1L)
+        ));
+        for (int i = 0; i < 1_000; i++) {
+            dates.add(LocalDate.ofEpochDay(
+                    random.nextLong() % 365_000_000_000L >> random.nextInt(40)
+            ));
+        }
+        for (LocalDate date : dates) {
+            long expected;
+            try {
+                expected = date.atStartOfDay().toInstant(UTC).toEpochMilli();
+            }
+            catch (ArithmeticException ignored) {
+                assertThrows(
+                        BsonInvalidOperationException.class,
+                        () -> encodeValue(codec, date)
+                );
+                continue;
+            }
+            assertEquals(
+                    new BsonDateTime(expected),
+                    encodeValue(codec, date)
+            );
+        }
+    }
+
+    @Test
+    void testLocalDateAsInt32Codec() {
+        testLocalDateCodec(new LocalDateAsInt32Codec(), true);
+
+        Codec<LocalDate> codec = new LocalDateAsInt32Codec();
+        LocalDate first = LocalDate.ofEpochDay(Integer.MIN_VALUE);
+        LocalDate last = LocalDate.ofEpochDay(Integer.MAX_VALUE);
+        testCodec(codec, first);
+        testCodec(codec, last);
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> encodeValue(codec, first.minusDays(1L))
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> encodeValue(codec, last.plusDays(1L))
+        );
+        assertEquals(
+                new BsonInt32(17_533),
+                encodeValue(codec, LocalDate.of(2018, 1, 2))
+        );
+        assertEquals(
+                LocalDate.of(1969, 12, 31),
+                decodeValue(codec, new BsonInt32(-1))
+        );
+
+        Random random = new Random(0L);
+        for (int i = 0; i < 1_000; i++) {
+            LocalDate date = LocalDate.ofEpochDay(random.nextInt());
+            testCodec(codec, date);
+            int epochDay = encodeValue(codec, date).asInt32().getValue();
+            assertEquals(date.toEpochDay(), epochDay);
+        }
+    }
+
+    @AllocationTest
+    void testLocalDateAsInt32CodecAllocations() {
+        testCodecAllocations(
+                new LocalDateAsInt32Codec(),
+                LocalDate.of(2018, 1, 2),
+                (w, v) -> w.writeInt32(17_533),
+                r -> {
+                    r.readInt32();
+                    return LocalDate.of(2018, 1, 2);
+                }
+        );
+    }
+
+    @Test
+    void testLocalDateListAsBinaryCodec() {
+        Codec<List<LocalDate>> codec = new LocalDateListAsBinaryCodec();
+        assertThrows(
+                NullPointerException.class,
+                () -> testCodec(codec, null)
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> testCodec(codec, singletonList(MAX))
+        );
+        testCodec(codec, new ArrayList<>());
+
+        Random random = new Random(0L);
+        List<LocalDate> dates = new ArrayList<>(asList(
+                LocalDate.ofEpochDay(0L),
+                LocalDate.ofEpochDay(Integer.MIN_VALUE),
+                LocalDate.ofEpochDay(Integer.MAX_VALUE),
+                LocalDate.of(2018, 1, 2)
+        ));
+        for (int i = 0; i < 1_000; i++) {
+            dates.add(LocalDate.ofEpochDay(random.nextInt()));
+        }
+        testCodec(codec, dates);
+
+        byte[] data = encodeValue(codec, dates).asBinary().getData();
+        assertEquals(4 * dates.size(), data.length);
+        assertEquals(17533, data[12] & 0xFF | (data[13] & 0xFF) << 8);
+        assertEquals(
+                dates.subList(0, 1),
+                decodeValue(codec, new BsonBinary(USER_DEFINED, new byte[4]))
+        );
+    }
 }
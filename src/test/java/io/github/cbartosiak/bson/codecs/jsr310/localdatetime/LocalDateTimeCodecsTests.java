@@ -20,16 +20,37 @@ import static java.time.LocalDateTime.MAX;
 import static java.time.LocalDateTime.MIN;
 import static java.time.LocalDateTime.ofEpochSecond;
 import static java.time.ZoneOffset.UTC;
+import static java.time.temporal.ChronoUnit.MICROS;
+import static java.time.temporal.ChronoUnit.NANOS;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static java.util.Arrays.asList;
+import static org.bson.BsonDocument.parse;
+import static org.bson.types.Decimal128.fromIEEE754BIDEncoding;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
+import org.bson.BsonDateTime;
+import org.bson.BsonDecimal128;
+import org.bson.BsonInt64;
 import org.bson.BsonInvalidOperationException;
+import org.bson.BsonString;
 import org.bson.codecs.Codec;
+import org.bson.types.Decimal128;
 import org.junit.jupiter.api.Test;
 import org.opentest4j.AssertionFailedError;
 
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantAsInt64Codec;
 import io.github.cbartosiak.bson.codecs.jsr310.internal.AbstractCodecsTests;
+import io.github.cbartosiak.bson.codecs.jsr310.internal.AllocationTest;
 import io.github.cbartosiak.bson.codecs.jsr310.localdate.LocalDateAsDateTimeCodec;
 import io.github.cbartosiak.bson.codecs.jsr310.localdate.LocalDateAsDocumentCodec;
 import io.github.cbartosiak.bson.codecs.jsr310.localdate.LocalDateAsStringCodec;
@@ -41,6 +62,9 @@ import io.github.cbartosiak.bson.codecs.jsr310.localtime.LocalTimeAsStringCodec;
 @SuppressWarnings("JUnitTestMethodWithNoAssertions")
 final class LocalDateTimeCodecsTests extends AbstractCodecsTests {
 
+    private static final Decimal128 LOCAL_DATE_TIME_DECIMAL128 =
+            Decimal128.parse("1514888130.000000000");
+
     private LocalDateTimeCodecsTests() {}
 
     private static void testLocalDateTimeCodec(
@@ -103,6 +127,52 @@ final class LocalDateTimeCodecsTests extends AbstractCodecsTests {
                 new LocalDateTimeAsStringCodec(),
                 false, false, false
         );
+        Random random = new Random(0L);
+        List<String> values = new ArrayList<>(asList(
+                "2018-01-02T10:15", "2018-01-02T10:15:30.5",
+                "+10000-01-02T10:15:30", "2018-01-02t10:15:30",
+                "2018-01-02 10:15:30", "2018-01-02T", "2018-02-30T10:15",
+                "2018-01-02T10:15:30Z"
+        ));
+        for (int i = 0; i < 1_000; i++) {
+            values.add(ofEpochSecond(
+                    random.nextInt(Integer.MAX_VALUE) * 100L,
+                    random.nextInt(1_000_000_000) /
+                    (int) Math.pow(10, random.nextInt(10)),
+                    UTC
+            ).toString());
+        }
+        testStringDecoding(
+                new LocalDateTimeAsStringCodec(),
+                LocalDateTime::parse,
+                values.toArray(new String[0])
+        );
+        List<LocalDateTime> dateTimes = new ArrayList<>(asList(
+                MIN, MAX, LocalDateTime.of(-1, 1, 1, 0, 0)
+        ));
+        for (int i = 0; i < 1_000; i++) {
+            long precision = (long) Math.pow(10, random.nextInt(10));
+            dateTimes.add(ofEpochSecond(
+                    random.nextLong() % 31_556_889_832_780_799L,
+                    (int) (random.nextInt(1_000_000_000) / precision *
+                           precision),
+                    UTC
+            ));
+        }
+        testStringEncoding(new LocalDateTimeAsStringCodec(), dateTimes);
+    }
+
+    @AllocationTest
+    void testLocalDateTimeAsStringCodecAllocations() {
+        testCodecAllocations(
+                new LocalDateTimeAsStringCodec(),
+                LocalDateTime.of(2018, 1, 2, 10, 15, 30, 100),
+                (w, v) -> w.writeString(v.toString()),
+                r -> {
+                    r.readString();
+                    return LocalDateTime.of(2018, 1, 2, 10, 15, 30, 100);
+                }
+        );
     }
 
     @Test
@@ -173,6 +243,101 @@ final class LocalDateTimeCodecsTests extends AbstractCodecsTests {
         ), true, false, false);
     }
 
+    @AllocationTest
+    void testLocalDateTimeAsDocumentCodecAllocations() {
+        testCodecAllocations(
+                new LocalDateTimeAsDocumentCodec(),
+                LocalDateTime.of(2018, 1, 2, 10, 15, 30, 100),
+                AbstractCodecsTests::writeLocalDateTimeDocument,
+                AbstractCodecsTests::readLocalDateTimeDocument
+        );
+    }
+
+    @Test
+    void testLocalDateTimeAsDocumentCodecFieldNaming() {
+        testFieldNaming(
+                LocalDateTimeAsDocumentCodec::new,
+                LocalDateTime.of(2018, 1, 2, 10, 15, 30, 100),
+                "{ date: { year: 2018, month: 1, day: 2 }, time: { hour: 10, " +
+                "minute: 15, second: 30, nano: 100 } }",
+                "{ d: { y: 2018, M: 1, d: 2 }, t: { h: 10, m: 15, s: 30, " +
+                "n: 100 } }"
+        );
+    }
+
+    @Test
+    void testLocalDateTimeAsFlatDocumentCodec() {
+        testLocalDateTimeCodec(
+                new LocalDateTimeAsFlatDocumentCodec(),
+                false, false, false
+        );
+
+        LocalDateTime value = LocalDateTime.of(2018, 1, 2, 10, 15, 30, 100);
+        assertEquals(
+                parse("{ year: 2018, month: 1, day: 2, hour: 10, " +
+                      "minute: 15, second: 30, nano: 100 }"),
+                encodeValue(new LocalDateTimeAsFlatDocumentCodec(), value)
+        );
+        assertTrue(
+                bsonSize(encodeValue(
+                        new LocalDateTimeAsFlatDocumentCodec(), value
+                )) + 20 <=
+                bsonSize(encodeValue(
+                        new LocalDateTimeAsDocumentCodec(), value
+                ))
+        );
+        assertEquals(
+                value,
+                decodeValue(
+                        new LocalDateTimeAsFlatDocumentCodec(),
+                        parse("{ nano: 100, second: 30, minute: 15, " +
+                              "hour: 10, day: 2, month: 1, year: 2018 }")
+                )
+        );
+        assertEquals(
+                "The value { year: 2018, month: 2, day: 30, hour: 10, " +
+                "minute: 15, second: 30, nano: 0 } is not supported",
+                assertThrows(
+                        BsonInvalidOperationException.class,
+                        () -> decodeValue(
+                                new LocalDateTimeAsFlatDocumentCodec(),
+                                parse("{ year: 2018, month: 2, day: 30, " +
+                                      "hour: 10, minute: 15, second: 30, " +
+                                      "nano: 0 }")
+                        )
+                ).getMessage()
+        );
+        for (String document : new String[] {
+                "{ year: 2018, month: 1, day: 2, hour: 10, minute: 15, " +
+                "second: 30 }",
+                "{ year: 2018, month: 1, day: 2, hour: 10, minute: 15, " +
+                "second: 30, nano: null }",
+                "{ year: 2018, month: 1, day: 2, hour: 10, minute: 15, " +
+                "second: 30, nano: '0' }",
+                "{ year: 2018, month: 1, day: 2, hour: 10, minute: 15, " +
+                "second: 30, nano: 0, offset: 0 }"
+        }) {
+            assertThrows(
+                    BsonInvalidOperationException.class,
+                    () -> decodeValue(
+                            new LocalDateTimeAsFlatDocumentCodec(),
+                            parse(document)
+                    )
+            );
+        }
+    }
+
+    @Test
+    void testLocalDateTimeAsFlatDocumentCodecFieldNaming() {
+        testFieldNaming(
+                LocalDateTimeAsFlatDocumentCodec::new,
+                LocalDateTime.of(2018, 1, 2, 10, 15, 30, 100),
+                "{ year: 2018, month: 1, day: 2, hour: 10, minute: 15, " +
+                "second: 30, nano: 100 }",
+                "{ y: 2018, M: 1, d: 2, h: 10, m: 15, s: 30, n: 100 }"
+        );
+    }
+
     @Test
     void testLocalDateTimeAsDateTimeCodec() {
         testLocalDateTimeCodec(
@@ -180,4 +345,290 @@ final class LocalDateTimeCodecsTests extends AbstractCodecsTests {
                 true, true, true
         );
     }
+
+    @AllocationTest
+    void testLocalDateTimeAsDateTimeCodecAllocations() {
+        testCodecAllocations(
+                new LocalDateTimeAsDateTimeCodec(),
+                LocalDateTime.of(2018, 1, 2, 10, 15, 30),
+                (w, v) -> w.writeDateTime(1_514_888_130_000L),
+                r -> {
+                    r.readDateTime();
+                    return LocalDateTime.of(2018, 1, 2, 10, 15, 30);
+                }
+        );
+    }
+
+    @Test
+    void testLocalDateTimeAsInt64Codec() {
+        testLocalDateTimeCodec(
+                new LocalDateTimeAsInt64Codec(),
+                true, true, true
+        );
+        assertThrows(
+                NullPointerException.class,
+                () -> new LocalDateTimeAsInt64Codec(null)
+        );
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new LocalDateTimeAsInt64Codec(SECONDS)
+        );
+        assertEquals(
+                new LocalDateTimeAsInt64Codec(),
+                new LocalDateTimeAsInt64Codec(MICROS)
+        );
+        assertNotEquals(
+                new LocalDateTimeAsInt64Codec(),
+                new LocalDateTimeAsInt64Codec(NANOS)
+        );
+
+        Codec<LocalDateTime> micros = new LocalDateTimeAsInt64Codec(MICROS);
+        Codec<LocalDateTime> nanos = new LocalDateTimeAsInt64Codec(NANOS);
+        LocalDateTime value =
+                LocalDateTime.parse("2018-01-02T10:15:30.123456789");
+        assertEquals(
+                new BsonInt64(1_514_888_130_123_456L),
+                encodeValue(micros, value)
+        );
+        assertEquals(
+                new BsonInt64(1_514_888_130_123_456_789L),
+                encodeValue(nanos, value)
+        );
+        testCodec(nanos, value);
+        assertEquals(
+                ofEpochSecond(-1L, 999_999_000, UTC),
+                decodeValue(micros, new BsonInt64(-1L))
+        );
+
+        LocalDateTime first =
+                LocalDateTime.parse("1677-09-21T00:12:43.145224192");
+        LocalDateTime last =
+                LocalDateTime.parse("2262-04-11T23:47:16.854775807");
+        assertEquals(new BsonInt64(Long.MIN_VALUE), encodeValue(nanos, first));
+        assertEquals(new BsonInt64(Long.MAX_VALUE), encodeValue(nanos, last));
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> encodeValue(nanos, first.minusNanos(1L))
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> encodeValue(nanos, last.plusNanos(1L))
+        );
+
+        Codec<Instant> instantCodec = new InstantAsInt64Codec();
+        Random random = new Random(0L);
+        for (int i = 0; i < 1_000; i++) {
+            BsonInt64 encoded = new BsonInt64(random.nextLong());
+            LocalDateTime decoded = decodeValue(micros, encoded);
+            testCodec(micros, decoded);
+            assertEquals(
+                    decodeValue(instantCodec, encoded),
+                    decoded.toInstant(UTC)
+            );
+        }
+    }
+
+    @AllocationTest
+    void testLocalDateTimeAsInt64CodecAllocations() {
+        testCodecAllocations(
+                new LocalDateTimeAsInt64Codec(),
+                LocalDateTime.of(2018, 1, 2, 10, 15, 30),
+                (w, v) -> w.writeInt64(1_514_888_130_000_000L),
+                r -> {
+                    r.readInt64();
+                    return LocalDateTime.of(2018, 1, 2, 10, 15, 30);
+                }
+        );
+    }
+
+    @Test
+    void testLocalDateTimeAsDecimal128Codec() {
+        testLocalDateTimeCodec(
+                new LocalDateTimeAsDecimal128Codec(),
+                false, false, false
+        );
+
+        Codec<LocalDateTime> codec = new LocalDateTimeAsDecimal128Codec();
+        assertEquals(
+                new BsonDecimal128(Decimal128.parse("1514888130.123456789")),
+                encodeValue(
+                        codec,
+                        LocalDateTime.of(2018, 1, 2, 10, 15, 30, 123_456_789)
+                )
+        );
+        assertEquals(
+                new BsonDecimal128(Decimal128.parse("-0.500000000")),
+                encodeValue(codec, ofEpochSecond(-1L, 500_000_000, UTC))
+        );
+        assertEquals(
+                ofEpochSecond(-1L, 750_000_000, UTC),
+                decodeValue(
+                        codec, new BsonDecimal128(Decimal128.parse("-0.25"))
+                )
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(codec, new BsonDecimal128(
+                        Decimal128.parse("31556889864403199.999999999")
+                ))
+        );
+
+        Random random = new Random(0L);
+        long maxEpochSecond = MAX.toEpochSecond(UTC);
+        List<LocalDateTime> values = new ArrayList<>(asList(MIN, MAX));
+        for (int i = 0; i < 1_000; i++) {
+            values.add(ofEpochSecond(
+                    random.nextLong() % maxEpochSecond,
+                    random.nextInt(1_000_000_000),
+                    UTC
+            ));
+        }
+        values.sort(null);
+        BigDecimal previous = null;
+        for (LocalDateTime localDateTime : values) {
+            testCodec(codec, localDateTime);
+            BigDecimal encoded = encodeValue(codec, localDateTime)
+                    .asDecimal128()
+                    .getValue()
+                    .bigDecimalValue();
+            assertTrue(previous == null || previous.compareTo(encoded) < 0);
+            previous = encoded;
+        }
+    }
+
+    @AllocationTest
+    void testLocalDateTimeAsDecimal128CodecAllocations() {
+        testCodecAllocations(
+                new LocalDateTimeAsDecimal128Codec(),
+                LocalDateTime.of(2018, 1, 2, 10, 15, 30),
+                (w, v) -> w.writeDecimal128(fromIEEE754BIDEncoding(
+                        LOCAL_DATE_TIME_DECIMAL128.getHigh(),
+                        LOCAL_DATE_TIME_DECIMAL128.getLow()
+                )),
+                r -> {
+                    r.readDecimal128();
+                    return LocalDateTime.of(2018, 1, 2, 10, 15, 30);
+                }
+        );
+    }
+
+    @Test
+    void testLocalDateTimeAsDateTimeCodecCompatibility() {
+        Codec<LocalDateTime> codec = new LocalDateTimeAsDateTimeCodec();
+        Random random = new Random(0L);
+        List<Long> millis = new ArrayList<>(asList(
+                0L, -1L, 1L, -86_400_000L, -86_400_001L, 86_399_999L,
+                Long.MIN_VALUE, Long.MAX_VALUE
+        ));
+        for (int i = 0; i < 1_000; i++) {
+            millis.add(random.nextLong() >> random.nextInt(64));
+        }
+        for (long value : millis) {
+            assertEquals(
+                    Instant.ofEpochMilli(value).atOffset(UTC).toLocalDateTime(),
+                    decodeValue(codec, new BsonDateTime(value))
+            );
+        }
+        List<LocalDateTime> dateTimes = new ArrayList<>(asList(
+                MIN, MAX, LocalDateTime.of(1969, 12, 31, 23, 59, 59, 1),
+                LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_999),
+                ofEpochSecond(Long.MIN_VALUE / 1_000L, 0, UTC),
+                ofEpochSecond(Long.MIN_VALUE / 1_000L, 191_000_000, UTC),
+                ofEpochSecond(Long.MIN_VALUE / 1_000L, 193_000_000, UTC),
+                ofEpochSecond(Long.MIN_VALUE / 1_000L - 1L, 999_999_999, UTC),
+                ofEpochSecond(Long.MAX_VALUE / 1_000L, 807_999_999, UTC),
+                ofEpochSecond(Long.MAX_VALUE / 1_000L, 808_000_000, UTC)
+        ));
+        for (int i = 0; i < 1_000; i++) {
+            dateTimes.add(ofEpochSecond(
+                    random.nextLong() % 31_556_889_832_780_799L >>
+                    random.nextInt(40),
+                    random.nextInt(1_000_000_000),
+                    UTC
+            ));
+        }
+        for (LocalDateTime dateTime : dateTimes) {
+            long expected;
+            try {
+                expected = dateTime.toInstant(UTC).toEpochMilli();
+            }
+            catch (ArithmeticException ignored) {
+                assertThrows(
+                        BsonInvalidOperationException.class,
+                        () -> encodeValue(codec, dateTime)
+                );
+                continue;
+            }
+            assertEquals(
+                    new BsonDateTime(expected),
+                    encodeValue(codec, dateTime)
+            );
+        }
+    }
+
+    @Test
+    void testLocalDateTimeAsSortableStringCodec() {
+        testLocalDateTimeCodec(
+                new LocalDateTimeAsSortableStringCodec(),
+                false,
+                false,
+                false
+        );
+        assertEquals(
+                new BsonString("00000002018-01-02T10:15:00.000000000"),
+                encodeValue(
+                        new LocalDateTimeAsSortableStringCodec(),
+                        LocalDateTime.of(2018, 1, 2, 10, 15)
+                )
+        );
+        assertEquals(
+                new BsonString("-9999999999-12-31T23:59:59.999999999"),
+                encodeValue(
+                        new LocalDateTimeAsSortableStringCodec(),
+                        LocalDateTime.of(0, 1, 1, 0, 0).minusNanos(1)
+                )
+        );
+
+        Random random = new Random(0L);
+        List<LocalDateTime> values = new ArrayList<>(asList(
+                MIN, MAX,
+                LocalDateTime.of(-1, 12, 31, 23, 59, 59, 999_999_999),
+                LocalDateTime.of(0, 1, 1, 0, 0),
+                LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999_999_999),
+                LocalDateTime.of(10_000, 1, 1, 0, 0)
+        ));
+        for (int i = 0; i < 500; i++) {
+            long precision = (long) Math.pow(10, random.nextInt(10));
+            values.add(ofEpochSecond(
+                    random.nextLong() % 31_556_889_832_780_799L >>
+                    random.nextInt(40),
+                    (int) (random.nextInt(1_000_000_000) /
+                           precision * precision),
+                    UTC
+            ));
+        }
+        testSortableStringEncoding(
+                new LocalDateTimeAsSortableStringCodec(),
+                values
+        );
+
+        for (String value : asList(
+                "2018-01-02T10:15:30",
+                "00000002018-01-02T10:15:30.000000000Z",
+                "00000002018-13-02T10:15:30.000000000",
+                "00000002018-02-29T10:15:30.000000000",
+                "00000002018-01-00T10:15:30.000000000",
+                "00000002018-01-02 10:15:30.000000000",
+                "01000000000-01-02T10:15:30.000000000",
+                "+0000002018-01-02T10:15:30.000000000")) {
+
+            assertThrows(
+                    BsonInvalidOperationException.class,
+                    () -> decodeValue(
+                            new LocalDateTimeAsSortableStringCodec(),
+                            new BsonString(value)
+                    )
+            );
+        }
+    }
 }
@@ -16,20 +16,38 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.localtime;
 
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.COMPACT;
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.FULL;
+import static io.github.cbartosiak.bson.codecs.jsr310.ZeroComponents.OMITTED;
 import static java.time.LocalTime.MAX;
 import static java.time.LocalTime.MIDNIGHT;
 import static java.time.LocalTime.MIN;
 import static java.time.LocalTime.NOON;
 import static java.time.LocalTime.ofNanoOfDay;
+import static java.time.ZoneOffset.UTC;
+import static java.util.Arrays.asList;
+import static org.bson.BsonBinarySubType.USER_DEFINED;
+import static org.bson.BsonDocument.parse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
+import org.bson.BsonBinary;
+import org.bson.BsonDateTime;
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonString;
 import org.bson.codecs.Codec;
 import org.junit.jupiter.api.Test;
 import org.opentest4j.AssertionFailedError;
 
 import io.github.cbartosiak.bson.codecs.jsr310.internal.AbstractCodecsTests;
+import io.github.cbartosiak.bson.codecs.jsr310.internal.AllocationTest;
 
 @SuppressWarnings("JUnitTestMethodWithNoAssertions")
 final class LocalTimeCodecsTests extends AbstractCodecsTests {
@@ -72,11 +90,127 @@ final class LocalTimeCodecsTests extends AbstractCodecsTests {
     @Test
     void testLocalTimeAsStringCodec() {
         testLocalTimeCodec(new LocalTimeAsStringCodec(), false, false);
+        testStringDecoding(
+                new LocalTimeAsStringCodec(),
+                LocalTime::parse,
+                "10:15", "10:15:30", "10:15:30.1", "10:15:30.123",
+                "10:15:30.123456", "10:15:30.123456789", "00:00", "23:59:59",
+                "10:15:30.1234567890", "10:15:30.", "10:15:", "10:15:3",
+                "24:00", "10:60", "10:15:60", "1:15", "10-15", "10:15Z", ""
+        );
+        Random random = new Random(0L);
+        List<LocalTime> values = new ArrayList<>(asList(
+                LocalTime.MIN, LocalTime.MAX, LocalTime.of(0, 0, 0, 1),
+                LocalTime.of(0, 0, 1), LocalTime.of(0, 0, 0, 1_000_000)
+        ));
+        for (int i = 0; i < 1_000; i++) {
+            long nanoOfDay = (random.nextLong() >>> 1) % 86_400_000_000_000L;
+            long precision = (long) Math.pow(10, random.nextInt(13));
+            values.add(ofNanoOfDay(nanoOfDay / precision * precision));
+        }
+        testStringEncoding(new LocalTimeAsStringCodec(), values);
+    }
+
+    @AllocationTest
+    void testLocalTimeAsStringCodecAllocations() {
+        testCodecAllocations(
+                new LocalTimeAsStringCodec(),
+                LocalTime.of(10, 15, 30, 100),
+                (w, v) -> w.writeString(v.toString()),
+                r -> {
+                    r.readString();
+                    return LocalTime.of(10, 15, 30, 100);
+                }
+        );
     }
 
     @Test
     void testLocalTimeAsDocumentCodec() {
         testLocalTimeCodec(new LocalTimeAsDocumentCodec(), false, false);
+        assertEquals(
+                LocalTime.of(10, 15, 30, 100),
+                decodeValue(new LocalTimeAsDocumentCodec(), parse(
+                        "{ nano: 100, second: 30, minute: 15, hour: 10 }"
+                ))
+        );
+        assertEquals(
+                LocalTime.of(10, 15, 30, 100),
+                decodeValue(new LocalTimeAsDocumentCodec(), parse(
+                        "{ hour: 10, second: 30, minute: 15, nano: 100 }"
+                ))
+        );
+        for (String document : new String[] {
+                "{ hour: 10, minute: 15, second: 30 }",
+                "{ hour: 10, minute: 15, second: 30, nano: null }",
+                "{ hour: 10, minute: 15, second: 30, nano: 0, foo: 0 }",
+                "{ hour: 10, minute: 15, second: 30, nano: 0.5 }",
+                "{ hour: 25, minute: 15, second: 30, nano: 0 }"
+        }) {
+            assertThrows(
+                    BsonInvalidOperationException.class,
+                    () -> decodeValue(
+                            new LocalTimeAsDocumentCodec(), parse(document)
+                    )
+            );
+        }
+    }
+
+    @AllocationTest
+    void testLocalTimeAsDocumentCodecAllocations() {
+        testCodecAllocations(
+                new LocalTimeAsDocumentCodec(),
+                LocalTime.of(10, 15, 30, 100),
+                (w, v) -> {
+                    w.writeStartDocument();
+                    w.writeInt32("hour", v.getHour());
+                    w.writeInt32("minute", v.getMinute());
+                    w.writeInt32("second", v.getSecond());
+                    w.writeInt32("nano", v.getNano());
+                    w.writeEndDocument();
+                },
+                r -> {
+                    r.readStartDocument();
+                    int hour = r.readInt32("hour");
+                    int minute = r.readInt32("minute");
+                    int second = r.readInt32("second");
+                    int nano = r.readInt32("nano");
+                    r.readEndDocument();
+                    return LocalTime.of(hour, minute, second, nano);
+                }
+        );
+    }
+
+    @Test
+    void testLocalTimeAsDocumentCodecZeroComponents() {
+        testLocalTimeCodec(
+                new LocalTimeAsDocumentCodec(FULL, OMITTED), false, false
+        );
+        testZeroComponents(
+                LocalTimeAsDocumentCodec::new,
+                LocalTime.of(10, 15),
+                "{ hour: 10, minute: 15, second: 0, nano: 0 }",
+                "{ hour: 10, minute: 15 }"
+        );
+
+        LocalTimeAsDocumentCodec codec =
+                new LocalTimeAsDocumentCodec(COMPACT, OMITTED);
+        testCodec(codec, MIDNIGHT);
+        assertEquals(parse("{ }"), encodeValue(codec, MIDNIGHT));
+        assertEquals(MIDNIGHT, decodeValue(codec, parse("{ }")));
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(codec, parse("{ h: 24 }"))
+        );
+    }
+
+    @Test
+    void testLocalTimeAsDocumentCodecFieldNaming() {
+        testFieldNaming(
+                LocalTimeAsDocumentCodec::new,
+                LocalTime.of(10, 15, 30, 100),
+                "{ hour: 10, minute: 15, second: 30, nano: 100 }",
+                "{ h: 10, m: 15, s: 30, n: 100 }"
+        );
     }
 
     @Test
@@ -84,8 +218,134 @@ final class LocalTimeCodecsTests extends AbstractCodecsTests {
         testLocalTimeCodec(new LocalTimeAsDateTimeCodec(), true, true);
     }
 
+    @AllocationTest
+    void testLocalTimeAsDateTimeCodecAllocations() {
+        testCodecAllocations(
+                new LocalTimeAsDateTimeCodec(),
+                LocalTime.of(10, 15, 30),
+                (w, v) -> w.writeDateTime(36_930_000L),
+                r -> {
+                    r.readDateTime();
+                    return LocalTime.of(10, 15, 30);
+                }
+        );
+    }
+
     @Test
     void testLocalTimeAsInt64Codec() {
         testLocalTimeCodec(new LocalTimeAsInt64Codec(), false, false);
     }
+
+    @AllocationTest
+    void testLocalTimeAsInt64CodecAllocations() {
+        testCodecAllocations(
+                new LocalTimeAsInt64Codec(),
+                LocalTime.of(10, 15, 30, 100),
+                (w, v) -> w.writeInt64(v.toNanoOfDay()),
+                r -> ofNanoOfDay(r.readInt64())
+        );
+    }
+
+    @Test
+    void testLocalTimeAsDateTimeCodecCompatibility() {
+        Codec<LocalTime> codec = new LocalTimeAsDateTimeCodec();
+        Random random = new Random(0L);
+        List<Long> millis = new ArrayList<>(asList(
+                0L, -1L, 1L, -86_400_000L, -86_400_001L, 86_399_999L,
+                Long.MIN_VALUE, Long.MAX_VALUE
+        ));
+        for (int i = 0; i < 1_000; i++) {
+            millis.add(random.nextLong() >> random.nextInt(64));
+        }
+        for (long value : millis) {
+            assertEquals(
+                    Instant.ofEpochMilli(value).atOffset(UTC).toLocalTime(),
+                    decodeValue(codec, new BsonDateTime(value))
+            );
+        }
+        for (int i = 0; i < 1_000; i++) {
+            LocalTime time = ofNanoOfDay(
+                    (random.nextLong() >>> 1) % 86_400_000_000_000L
+            );
+            assertEquals(
+                    new BsonDateTime(time.atDate(LocalDate.ofEpochDay(0L))
+                                         .toInstant(UTC)
+                                         .toEpochMilli()),
+                    encodeValue(codec, time)
+            );
+        }
+    }
+
+    @Test
+    void testLocalTimeListAsBinaryCodec() {
+        Codec<List<LocalTime>> codec = new LocalTimeListAsBinaryCodec();
+        assertThrows(
+                NullPointerException.class,
+                () -> testCodec(codec, null)
+        );
+        assertThrows(
+                NullPointerException.class,
+                () -> testCodec(codec, asList(MIN, null))
+        );
+        testCodec(codec, new ArrayList<>());
+
+        Random random = new Random(0L);
+        List<LocalTime> times = new ArrayList<>(asList(MIN, MAX, NOON));
+        for (int i = 0; i < 1_000; i++) {
+            times.add(ofNanoOfDay(
+                    (random.nextLong() >>> 1) % 86_400_000_000_000L
+            ));
+        }
+        testCodec(codec, times);
+
+        byte[] data = new byte[16];
+        data[8] = -1;
+        data[15] = 127;
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(codec, new BsonBinary(USER_DEFINED, data))
+        );
+    }
+
+    @Test
+    void testLocalTimeAsSortableStringCodec() {
+        testLocalTimeCodec(new LocalTimeAsSortableStringCodec(), false, false);
+        assertEquals(
+                new BsonString("10:15:00.000000000"),
+                encodeValue(
+                        new LocalTimeAsSortableStringCodec(),
+                        LocalTime.of(10, 15)
+                )
+        );
+
+        Random random = new Random(0L);
+        List<LocalTime> values = new ArrayList<>(asList(
+                MIN, MAX, LocalTime.of(10, 15), LocalTime.of(10, 15, 0, 1),
+                LocalTime.of(10, 15, 0, 500_000_000)
+        ));
+        for (int i = 0; i < 500; i++) {
+            values.add(ofNanoOfDay(
+                    (random.nextLong() >>> 1) % (MAX.toNanoOfDay() + 1L)
+            ));
+        }
+        testSortableStringEncoding(
+                new LocalTimeAsSortableStringCodec(),
+                values
+        );
+
+        for (String value : asList(
+                "10:15", "10:15:30.123", "10:15:30.1234567890",
+                "24:00:00.000000000", "10:60:00.000000000",
+                "10:15:60.000000000", "10-15:30.000000000",
+                "10:15:30.12345678x")) {
+
+            assertThrows(
+                    BsonInvalidOperationException.class,
+                    () -> decodeValue(
+                            new LocalTimeAsSortableStringCodec(),
+                            new BsonString(value)
+                    )
+            );
+        }
+    }
 }
@@ -17,14 +17,18 @@
 package io.github.cbartosiak.bson.codecs.jsr310.month;
 
 import static java.time.Month.values;
+import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.Month;
 
+import org.bson.BsonInt32;
+import org.bson.BsonString;
 import org.bson.codecs.Codec;
 import org.junit.jupiter.api.Test;
 
 import io.github.cbartosiak.bson.codecs.jsr310.internal.AbstractCodecsTests;
+import io.github.cbartosiak.bson.codecs.jsr310.internal.AllocationTest;
 
 @SuppressWarnings("JUnitTestMethodWithNoAssertions")
 final class MonthCodecsTests extends AbstractCodecsTests {
@@ -44,10 +48,56 @@ final class MonthCodecsTests extends AbstractCodecsTests {
     @Test
     void testMonthAsStringCodec() {
         testMonthCodec(new MonthAsStringCodec());
+        for (String value : asList(
+                "january", "JANUARX", "JUNX", "JULX", "JUNE ", "MAX", "MARCX",
+                "APRIX", "AUGUSX", "OCTOBEX", "FEBRUARX", "NOVEMBEX",
+                "DECEMBEX", "SEPTEMBEX", "MONDAY", ""
+        )) {
+            testDecodingFailure(
+                    new MonthAsStringCodec(),
+                    new BsonString(value),
+                    value,
+                    () -> Month.valueOf(value)
+            );
+        }
+    }
+
+    @AllocationTest
+    void testMonthAsStringCodecAllocations() {
+        testCodecAllocations(
+                new MonthAsStringCodec(),
+                Month.JANUARY,
+                (w, v) -> w.writeString(v.name()),
+                r -> {
+                    r.readString();
+                    return Month.JANUARY;
+                }
+        );
     }
 
     @Test
     void testMonthAsInt32Codec() {
         testMonthCodec(new MonthAsInt32Codec());
+        for (int value : new int[] { 0, 13, -1 }) {
+            testDecodingFailure(
+                    new MonthAsInt32Codec(),
+                    new BsonInt32(value),
+                    value,
+                    () -> Month.of(value)
+            );
+        }
+    }
+
+    @AllocationTest
+    void testMonthAsInt32CodecAllocations() {
+        testCodecAllocations(
+                new MonthAsInt32Codec(),
+                Month.JANUARY,
+                (w, v) -> w.writeInt32(v.getValue()),
+                r -> {
+                    r.readInt32();
+                    return Month.JANUARY;
+                }
+        );
     }
 }
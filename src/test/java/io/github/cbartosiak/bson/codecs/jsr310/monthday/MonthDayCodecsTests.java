@@ -16,20 +16,33 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.monthday;
 
+import static java.lang.String.format;
 import static java.time.MonthDay.now;
 import static java.time.MonthDay.of;
+import static org.bson.types.Decimal128.NaN;
+import static org.bson.types.Decimal128.fromIEEE754BIDEncoding;
+import static org.bson.types.Decimal128.parse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.Month;
 import java.time.MonthDay;
 
+import org.bson.BsonDecimal128;
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonValue;
 import org.bson.codecs.Codec;
+import org.bson.types.Decimal128;
 import org.junit.jupiter.api.Test;
 
 import io.github.cbartosiak.bson.codecs.jsr310.internal.AbstractCodecsTests;
+import io.github.cbartosiak.bson.codecs.jsr310.internal.AllocationTest;
 
 @SuppressWarnings("JUnitTestMethodWithNoAssertions")
 final class MonthDayCodecsTests extends AbstractCodecsTests {
 
+    private static final Decimal128 MONTH_DAY_DECIMAL128 = parse("1.02");
+
     private MonthDayCodecsTests() {}
 
     private static void testMonthDayCodec(Codec<MonthDay> codec) {
@@ -47,13 +60,106 @@ final class MonthDayCodecsTests extends AbstractCodecsTests {
         testMonthDayCodec(new MonthDayAsStringCodec());
     }
 
+    @AllocationTest
+    void testMonthDayAsStringCodecAllocations() {
+        testCodecAllocations(
+                new MonthDayAsStringCodec(),
+                of(1, 2),
+                (w, v) -> w.writeString(v.toString()),
+                r -> MonthDay.parse(r.readString())
+        );
+    }
+
     @Test
     void testMonthDayAsDocumentCodec() {
         testMonthDayCodec(new MonthDayAsDocumentCodec());
     }
 
+    @AllocationTest
+    void testMonthDayAsDocumentCodecAllocations() {
+        testCodecAllocations(
+                new MonthDayAsDocumentCodec(),
+                MonthDay.of(1, 2),
+                (w, v) -> {
+                    w.writeStartDocument();
+                    w.writeInt32("month", v.getMonthValue());
+                    w.writeInt32("day", v.getDayOfMonth());
+                    w.writeEndDocument();
+                },
+                r -> {
+                    r.readStartDocument();
+                    int month = r.readInt32("month");
+                    int day = r.readInt32("day");
+                    r.readEndDocument();
+                    return MonthDay.of(month, day);
+                }
+        );
+    }
+
+    @Test
+    void testMonthDayAsDocumentCodecFieldNaming() {
+        testFieldNaming(
+                MonthDayAsDocumentCodec::new,
+                MonthDay.of(1, 2),
+                "{ month: 1, day: 2 }",
+                "{ M: 1, d: 2 }"
+        );
+    }
+
     @Test
     void testMonthDayAsDecimal128Codec() {
         testMonthDayCodec(new MonthDayAsDecimal128Codec());
     }
+
+    @AllocationTest
+    void testMonthDayAsDecimal128CodecAllocations() {
+        testCodecAllocations(
+                new MonthDayAsDecimal128Codec(),
+                of(1, 2),
+                (w, v) -> w.writeDecimal128(fromIEEE754BIDEncoding(
+                        MONTH_DAY_DECIMAL128.getHigh(),
+                        MONTH_DAY_DECIMAL128.getLow()
+                )),
+                r -> {
+                    r.readDecimal128();
+                    return of(1, 2);
+                }
+        );
+    }
+
+    @Test
+    void testMonthDayAsDecimal128CodecCompatibility() {
+        Codec<MonthDay> codec = new MonthDayAsDecimal128Codec();
+        for (Month month : Month.values()) {
+            for (int day = 1; day <= month.maxLength(); day++) {
+                MonthDay monthDay = of(month, day);
+                Decimal128 expected = parse(format(
+                        "%d.%02d", month.getValue(), day
+                ));
+                BsonValue encoded = encodeValue(codec, monthDay);
+                assertEquals(new BsonDecimal128(expected), encoded);
+                assertEquals(monthDay, decodeValue(codec, encoded));
+            }
+        }
+        assertEquals(
+                of(1, 20),
+                decodeValue(codec, new BsonDecimal128(parse("1.2")))
+        );
+        assertEquals(
+                of(12, 31),
+                decodeValue(codec, new BsonDecimal128(parse("1231E-2")))
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(codec, new BsonDecimal128(parse("-1.05")))
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(codec, new BsonDecimal128(parse("2.30")))
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(codec, new BsonDecimal128(NaN))
+        );
+    }
 }
@@ -16,17 +16,41 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.offsetdatetime;
 
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.COMPACT;
+import static io.github.cbartosiak.bson.codecs.jsr310.OffsetPrecision.QUARTER_HOURS;
+import static io.github.cbartosiak.bson.codecs.jsr310.OffsetPrecision.SECONDS;
 import static java.time.OffsetDateTime.MAX;
 import static java.time.OffsetDateTime.MIN;
 import static java.time.OffsetDateTime.now;
+import static java.time.temporal.ChronoUnit.MICROS;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static java.time.temporal.ChronoUnit.NANOS;
+import static java.util.Arrays.asList;
+import static org.bson.BsonDocument.parse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonString;
 import org.bson.codecs.Codec;
 import org.junit.jupiter.api.Test;
 
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantAsDateTimeCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantAsInt64Codec;
 import io.github.cbartosiak.bson.codecs.jsr310.internal.AbstractCodecsTests;
+import io.github.cbartosiak.bson.codecs.jsr310.internal.AllocationTest;
 import io.github.cbartosiak.bson.codecs.jsr310.localdatetime.LocalDateTimeAsDocumentCodec;
 import io.github.cbartosiak.bson.codecs.jsr310.zoneoffset.ZoneOffsetAsInt32Codec;
 import io.github.cbartosiak.bson.codecs.jsr310.zoneoffset.ZoneOffsetAsStringCodec;
@@ -49,6 +73,47 @@ final class OffsetDateTimeCodecsTests extends AbstractCodecsTests {
     @Test
     void testOffsetDateTimeAsStringCodec() {
         testOffsetDateTimeCodec(new OffsetDateTimeAsStringCodec());
+        testStringDecoding(
+                new OffsetDateTimeAsStringCodec(),
+                OffsetDateTime::parse,
+                "2018-01-02T10:15Z", "2018-01-02T10:15:30+01:00",
+                "2018-01-02T10:15:30.123456789-00:00",
+                "2018-01-02T10:15:30+01:00:30", "+10000-01-02T10:15:30Z",
+                "2018-01-02T10:15:30", "2018-01-02T10:15:30+24:00",
+                "2018-01-02T10:15:30+01:00[Europe/Warsaw]"
+        );
+        Random random = new Random(0L);
+        List<OffsetDateTime> values = new ArrayList<>(asList(
+                OffsetDateTime.MIN, OffsetDateTime.MAX
+        ));
+        for (int i = 0; i < 1_000; i++) {
+            long precision = (long) Math.pow(10, random.nextInt(10));
+            values.add(OffsetDateTime.of(
+                    LocalDateTime.ofEpochSecond(
+                            random.nextLong() % 31_556_889_832_780_799L >>
+                            random.nextInt(40),
+                            (int) (random.nextInt(1_000_000_000) /
+                                   precision * precision),
+                            ZoneOffset.UTC
+                    ),
+                    ZoneOffset.ofTotalSeconds(
+                            random.nextInt(129_601) - 64_800
+                    )
+            ));
+        }
+        testStringEncoding(new OffsetDateTimeAsStringCodec(), values);
+    }
+
+    @AllocationTest
+    void testOffsetDateTimeAsStringCodecAllocations() {
+        testCodecAllocations(
+                new OffsetDateTimeAsStringCodec(),
+                OffsetDateTime.of(
+                        2018, 1, 2, 10, 15, 30, 100, ZoneOffset.ofHours(1)
+                ),
+                (w, v) -> w.writeString(v.toString()),
+                r -> OffsetDateTime.parse(r.readString())
+        );
     }
 
     @Test
@@ -75,4 +140,435 @@ final class OffsetDateTimeCodecsTests extends AbstractCodecsTests {
                 new ZoneOffsetAsInt32Codec()
         ));
     }
+
+    @AllocationTest
+    void testOffsetDateTimeAsDocumentCodecAllocations() {
+        testCodecAllocations(
+                new OffsetDateTimeAsDocumentCodec(),
+                OffsetDateTime.of(
+                        2018, 1, 2, 10, 15, 30, 100, ZoneOffset.ofHours(1)
+                ),
+                (w, v) -> {
+                    w.writeStartDocument();
+                    w.writeName("dateTime");
+                    writeLocalDateTimeDocument(w, v.toLocalDateTime());
+                    w.writeInt32("offset", v.getOffset().getTotalSeconds());
+                    w.writeEndDocument();
+                },
+                r -> {
+                    r.readStartDocument();
+                    r.readName("dateTime");
+                    LocalDateTime dateTime = readLocalDateTimeDocument(r);
+                    ZoneOffset offset =
+                            ZoneOffset.ofTotalSeconds(r.readInt32("offset"));
+                    r.readEndDocument();
+                    return OffsetDateTime.of(dateTime, offset);
+                }
+        );
+    }
+
+    @Test
+    void testOffsetDateTimeAsDocumentCodecFieldNaming() {
+        testFieldNaming(
+                OffsetDateTimeAsDocumentCodec::new,
+                OffsetDateTime.parse("2018-01-02T10:15:30.0000001+01:00"),
+                "{ dateTime: { date: { year: 2018, month: 1, day: 2 }, " +
+                "time: { hour: 10, minute: 15, second: 30, nano: 100 } }, " +
+                "offset: 3600 }",
+                "{ dt: { d: { y: 2018, M: 1, d: 2 }, t: { h: 10, m: 15, " +
+                "s: 30, n: 100 } }, o: 3600 }"
+        );
+    }
+
+    @Test
+    void testOffsetDateTimeAsDocumentCodecWithInstant() {
+        assertThrows(
+                NullPointerException.class,
+                () -> new OffsetDateTimeAsDocumentCodec(
+                        new LocalDateTimeAsDocumentCodec(),
+                        new ZoneOffsetAsInt32Codec(),
+                        null
+                )
+        );
+        OffsetDateTimeAsDocumentCodec codec = new OffsetDateTimeAsDocumentCodec(
+                new LocalDateTimeAsDocumentCodec(),
+                new ZoneOffsetAsInt32Codec(),
+                new InstantAsDateTimeCodec()
+        );
+        OffsetDateTime value =
+                OffsetDateTime.parse("2018-01-02T10:15:30.123456789+01:00");
+        testCodec(codec, value);
+        testCodec(codec, now());
+
+        BsonDocument document = encodeValue(codec, value).asDocument();
+        assertEquals(
+                new BsonDateTime(1_514_884_530_123L),
+                document.get("instant")
+        );
+        BsonDocument withoutInstant = document.clone();
+        withoutInstant.remove("instant");
+        assertEquals(
+                encodeValue(new OffsetDateTimeAsDocumentCodec(), value),
+                withoutInstant
+        );
+        assertEquals(
+                value,
+                decodeValue(new OffsetDateTimeAsDocumentCodec(), document)
+        );
+        assertEquals(
+                value,
+                decodeValue(
+                        codec,
+                        encodeValue(new OffsetDateTimeAsDocumentCodec(), value)
+                )
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(codec, parse(
+                        "{ dateTime: { date: { year: 2018, month: 1, " +
+                        "day: 2 }, time: { hour: 10, minute: 15, " +
+                        "second: 30, nano: 0 } }, instant: { $date: 0 } }"
+                ))
+        );
+    }
+
+    @Test
+    void testOffsetDateTimeAsDocumentCodecWithInt64Instant() {
+        OffsetDateTimeAsDocumentCodec codec = new OffsetDateTimeAsDocumentCodec(
+                new LocalDateTimeAsDocumentCodec(),
+                new ZoneOffsetAsInt32Codec(),
+                new InstantAsInt64Codec()
+        );
+        OffsetDateTime value =
+                OffsetDateTime.parse("2018-01-02T10:15:30.123456789+01:00");
+        testCodec(codec, value);
+        assertEquals(
+                new BsonInt64(1_514_884_530_123_456L),
+                encodeValue(codec, value).asDocument().get("instant")
+        );
+    }
+
+    @Test
+    void testOffsetDateTimeAsDocumentCodecWithInstantFieldNaming() {
+        assertThrows(
+                NullPointerException.class,
+                () -> new OffsetDateTimeAsDocumentCodec(
+                        new LocalDateTimeAsDocumentCodec(),
+                        new ZoneOffsetAsInt32Codec(),
+                        new InstantAsDateTimeCodec(),
+                        null
+                )
+        );
+        OffsetDateTimeAsDocumentCodec codec = new OffsetDateTimeAsDocumentCodec(
+                new LocalDateTimeAsDocumentCodec(COMPACT),
+                new ZoneOffsetAsInt32Codec(),
+                new InstantAsDateTimeCodec(),
+                COMPACT
+        );
+        OffsetDateTime value =
+                OffsetDateTime.parse("2018-01-02T10:15:30.123456789+01:00");
+        testCodec(codec, value);
+        assertEquals(
+                parse(
+                        "{ dt: { d: { y: 2018, M: 1, d: 2 }, t: { h: 10, " +
+                        "m: 15, s: 30, n: 123456789 } }, o: 3600, " +
+                        "i: { $date: 1514884530123 } }"
+                ),
+                encodeValue(codec, value)
+        );
+        assertEquals(
+                value,
+                decodeValue(
+                        codec,
+                        encodeValue(
+                                new OffsetDateTimeAsDocumentCodec(COMPACT),
+                                value
+                        )
+                )
+        );
+        assertEquals(
+                encodeValue(new OffsetDateTimeAsDocumentCodec(COMPACT), value),
+                encodeValue(
+                        new OffsetDateTimeAsDocumentCodec(
+                                new LocalDateTimeAsDocumentCodec(COMPACT),
+                                new ZoneOffsetAsInt32Codec(),
+                                null,
+                                COMPACT
+                        ),
+                        value
+                )
+        );
+    }
+
+    @Test
+    void testOffsetDateTimeAsFlatDocumentCodec() {
+        testOffsetDateTimeCodec(new OffsetDateTimeAsFlatDocumentCodec());
+
+        OffsetDateTime value =
+                OffsetDateTime.parse("2018-01-02T10:15:30.0000001+01:00");
+        assertEquals(
+                parse("{ year: 2018, month: 1, day: 2, hour: 10, " +
+                      "minute: 15, second: 30, nano: 100, offset: 3600 }"),
+                encodeValue(new OffsetDateTimeAsFlatDocumentCodec(), value)
+        );
+        assertTrue(
+                bsonSize(encodeValue(
+                        new OffsetDateTimeAsFlatDocumentCodec(), value
+                )) + 30 <=
+                bsonSize(encodeValue(
+                        new OffsetDateTimeAsDocumentCodec(), value
+                ))
+        );
+        for (String document : new String[] {
+                "{ year: 2018, month: 1, day: 2, hour: 10, minute: 15, " +
+                "second: 30, nano: 100 }",
+                "{ year: 2018, month: 1, day: 2, hour: 10, minute: 15, " +
+                "second: 30, nano: 100, offset: '+01:00' }",
+                "{ year: 2018, month: 1, day: 2, hour: 10, minute: 15, " +
+                "second: 30, nano: 100, offset: -64801 }",
+                "{ year: 2018, month: 13, day: 2, hour: 10, minute: 15, " +
+                "second: 30, nano: 100, offset: 3600 }",
+                "{ dateTime: { date: { year: 2018, month: 1, day: 2 }, " +
+                "time: { hour: 10, minute: 15, second: 30, nano: 100 } }, " +
+                "offset: 3600 }"
+        }) {
+            assertThrows(
+                    BsonInvalidOperationException.class,
+                    () -> decodeValue(
+                            new OffsetDateTimeAsFlatDocumentCodec(),
+                            parse(document)
+                    )
+            );
+        }
+    }
+
+    @Test
+    void testOffsetDateTimeAsFlatDocumentCodecFieldNaming() {
+        testFieldNaming(
+                OffsetDateTimeAsFlatDocumentCodec::new,
+                OffsetDateTime.parse("2018-01-02T10:15:30.0000001+01:00"),
+                "{ year: 2018, month: 1, day: 2, hour: 10, minute: 15, " +
+                "second: 30, nano: 100, offset: 3600 }",
+                "{ y: 2018, M: 1, d: 2, h: 10, m: 15, s: 30, n: 100, o: 3600 }"
+        );
+    }
+
+    @Test
+    void testOffsetDateTimeAsInt64Codec() {
+        Codec<OffsetDateTime> codec = new OffsetDateTimeAsInt64Codec();
+        assertThrows(
+                NullPointerException.class,
+                () -> testCodec(codec, null)
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> testCodec(codec, MIN)
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> testCodec(codec, MAX)
+        );
+        testCodec(codec, now().withNano(0));
+        assertThrows(
+                NullPointerException.class,
+                () -> new OffsetDateTimeAsInt64Codec(null, QUARTER_HOURS)
+        );
+        assertThrows(
+                NullPointerException.class,
+                () -> new OffsetDateTimeAsInt64Codec(MILLIS, null)
+        );
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new OffsetDateTimeAsInt64Codec(NANOS, QUARTER_HOURS)
+        );
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new OffsetDateTimeAsInt64Codec(MICROS, SECONDS)
+        );
+        assertEquals(
+                new OffsetDateTimeAsInt64Codec(),
+                new OffsetDateTimeAsInt64Codec(MICROS, QUARTER_HOURS)
+        );
+        assertEquals(
+                new OffsetDateTimeAsInt64Codec().hashCode(),
+                new OffsetDateTimeAsInt64Codec(MICROS, QUARTER_HOURS)
+                        .hashCode()
+        );
+        assertNotEquals(
+                new OffsetDateTimeAsInt64Codec(),
+                new OffsetDateTimeAsInt64Codec(MILLIS, QUARTER_HOURS)
+        );
+        assertNotEquals(
+                new OffsetDateTimeAsInt64Codec(MILLIS, QUARTER_HOURS),
+                new OffsetDateTimeAsInt64Codec(MILLIS, SECONDS)
+        );
+
+        assertEquals(
+                new BsonInt64(387_810_439_711_604_812L),
+                encodeValue(
+                        codec,
+                        OffsetDateTime.parse(
+                                "2018-01-02T10:15:30.123456789+01:00"
+                        )
+                )
+        );
+        assertEquals(
+                OffsetDateTime.parse("2018-01-02T10:15:30.123456+01:00"),
+                decodeValue(codec, new BsonInt64(387_810_439_711_604_812L))
+        );
+        assertEquals(
+                OffsetDateTime.parse("1969-12-31T23:59:59.999999Z"),
+                decodeValue(
+                        codec,
+                        encodeValue(
+                                codec,
+                                OffsetDateTime.parse(
+                                        "1969-12-31T23:59:59.9999995Z"
+                                )
+                        )
+                )
+        );
+        for (String offset : asList("+05:45", "-12:00", "+18:00", "-18:00")) {
+            testCodec(
+                    codec,
+                    OffsetDateTime.parse("2018-01-02T10:15:30.123456" + offset)
+            );
+        }
+        OffsetDateTime secondsOffset =
+                OffsetDateTime.parse("2018-01-02T10:15:30.123+01:00:30");
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> encodeValue(codec, secondsOffset)
+        );
+        testCodec(
+                new OffsetDateTimeAsInt64Codec(MILLIS, SECONDS), secondsOffset
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(codec, new BsonInt64(145L))
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(
+                        new OffsetDateTimeAsInt64Codec(MILLIS, SECONDS),
+                        new BsonInt64(129_601L)
+                )
+        );
+
+        OffsetDateTime first =
+                decodeValue(codec, new BsonInt64(Long.MIN_VALUE | 72L));
+        OffsetDateTime last =
+                decodeValue(codec, new BsonInt64(Long.MAX_VALUE - 0xFFL | 72L));
+        assertEquals(ZoneOffset.UTC, first.getOffset());
+        assertEquals(ZoneOffset.UTC, last.getOffset());
+        testCodec(codec, first);
+        testCodec(codec, last);
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> encodeValue(codec, first.minusNanos(1_000L))
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> encodeValue(codec, last.plusNanos(1_000L))
+        );
+
+        Random random = new Random(0L);
+        List<OffsetDateTime> values = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            values.add(OffsetDateTime.of(
+                    LocalDateTime.ofEpochSecond(
+                            random.nextLong() % 36_000_000_000L,
+                            random.nextInt(1_000_000) * 1_000,
+                            ZoneOffset.UTC
+                    ),
+                    ZoneOffset.ofTotalSeconds(
+                            random.nextInt(145) * 900 - 64_800
+                    )
+            ));
+        }
+        values.sort(null);
+        long previous = Long.MIN_VALUE;
+        for (OffsetDateTime value : values) {
+            testCodec(codec, value);
+            long encoded = encodeValue(codec, value).asInt64().getValue();
+            assertTrue(previous < encoded);
+            previous = encoded;
+        }
+    }
+
+    @AllocationTest
+    void testOffsetDateTimeAsInt64CodecAllocations() {
+        testCodecAllocations(
+                new OffsetDateTimeAsInt64Codec(),
+                OffsetDateTime.of(
+                        2018, 1, 2, 10, 15, 30, 0, ZoneOffset.ofHours(1)
+                ),
+                (w, v) -> w.writeInt64(387_810_439_680_000_076L),
+                r -> {
+                    r.readInt64();
+                    return OffsetDateTime.of(
+                            2018, 1, 2, 10, 15, 30, 0, ZoneOffset.ofHours(1)
+                    );
+                }
+        );
+    }
+
+    @Test
+    void testOffsetDateTimeAsSortableStringCodec() {
+        testOffsetDateTimeCodec(new OffsetDateTimeAsSortableStringCodec());
+        assertEquals(
+                new BsonString("00000002018-01-02T09:15:30.000000000Z068400"),
+                encodeValue(
+                        new OffsetDateTimeAsSortableStringCodec(),
+                        OffsetDateTime.parse("2018-01-02T10:15:30+01:00")
+                )
+        );
+
+        Random random = new Random(0L);
+        OffsetDateTime instant =
+                OffsetDateTime.parse("2018-01-02T10:15:30Z");
+        List<OffsetDateTime> values = new ArrayList<>(asList(
+                MIN, MAX, instant,
+                instant.withOffsetSameInstant(ZoneOffset.ofHours(-18)),
+                instant.withOffsetSameInstant(ZoneOffset.ofHours(-1)),
+                instant.withOffsetSameInstant(ZoneOffset.ofHours(1)),
+                instant.withOffsetSameInstant(ZoneOffset.ofHours(18)),
+                instant.withOffsetSameLocal(ZoneOffset.ofHours(1))
+        ));
+        for (int i = 0; i < 500; i++) {
+            long precision = (long) Math.pow(10, random.nextInt(10));
+            values.add(OffsetDateTime.of(
+                    LocalDateTime.ofEpochSecond(
+                            random.nextLong() % 31_556_889_832_780_799L >>
+                            random.nextInt(40),
+                            (int) (random.nextInt(1_000_000_000) /
+                                   precision * precision),
+                            ZoneOffset.UTC
+                    ),
+                    ZoneOffset.ofTotalSeconds(
+                            random.nextInt(129_601) - 64_800
+                    )
+            ));
+        }
+        testSortableStringEncoding(
+                new OffsetDateTimeAsSortableStringCodec(),
+                values
+        );
+
+        for (String value : asList(
+                "2018-01-02T10:15:30+01:00",
+                "00000002018-01-02T09:15:30.000000000Z",
+                "00000002018-01-02T09:15:30.000000000Z129601",
+                "00000002018-01-02T09:15:30.000000000+068400",
+                "01000000000-12-31T23:59:59.999999999Z064800")) {
+
+            assertThrows(
+                    BsonInvalidOperationException.class,
+                    () -> decodeValue(
+                            new OffsetDateTimeAsSortableStringCodec(),
+                            new BsonString(value)
+                    )
+            );
+        }
+    }
 }
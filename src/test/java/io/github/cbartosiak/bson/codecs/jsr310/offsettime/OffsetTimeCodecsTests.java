@@ -19,14 +19,25 @@ package io.github.cbartosiak.bson.codecs.jsr310.offsettime;
 import static java.time.OffsetTime.MAX;
 import static java.time.OffsetTime.MIN;
 import static java.time.OffsetTime.now;
+import static java.util.Arrays.asList;
+import static org.bson.BsonDocument.parse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalTime;
 import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
+import org.bson.BsonInvalidOperationException;
 import org.bson.codecs.Codec;
 import org.junit.jupiter.api.Test;
 
 import io.github.cbartosiak.bson.codecs.jsr310.internal.AbstractCodecsTests;
+import io.github.cbartosiak.bson.codecs.jsr310.internal.AllocationTest;
 import io.github.cbartosiak.bson.codecs.jsr310.localtime.LocalTimeAsDocumentCodec;
 import io.github.cbartosiak.bson.codecs.jsr310.zoneoffset.ZoneOffsetAsInt32Codec;
 import io.github.cbartosiak.bson.codecs.jsr310.zoneoffset.ZoneOffsetAsStringCodec;
@@ -49,6 +60,41 @@ final class OffsetTimeCodecsTests extends AbstractCodecsTests {
     @Test
     void testOffsetTimeAsStringCodec() {
         testOffsetTimeCodec(new OffsetTimeAsStringCodec());
+        testStringDecoding(
+                new OffsetTimeAsStringCodec(),
+                OffsetTime::parse,
+                "10:15Z", "10:15:30+01:00", "10:15:30.123-05:30",
+                "10:15:30+01:00:30", "10:15:30-18:00", "10:15:30+18:00:01",
+                "10:15:30+19:00", "10:15:30+01:60", "10:15:30+0100",
+                "10:15:30+01", "10:15:30z", "10:15:30", "10:15:30+01:00:"
+        );
+        Random random = new Random(0L);
+        List<OffsetTime> values = new ArrayList<>(asList(
+                OffsetTime.MIN, OffsetTime.MAX
+        ));
+        for (int i = 0; i < 1_000; i++) {
+            long precision = (long) Math.pow(10, random.nextInt(13));
+            values.add(OffsetTime.of(
+                    LocalTime.ofNanoOfDay(
+                            (random.nextLong() >>> 1) % 86_400_000_000_000L /
+                            precision * precision
+                    ),
+                    ZoneOffset.ofTotalSeconds(
+                            random.nextInt(129_601) - 64_800
+                    )
+            ));
+        }
+        testStringEncoding(new OffsetTimeAsStringCodec(), values);
+    }
+
+    @AllocationTest
+    void testOffsetTimeAsStringCodecAllocations() {
+        testCodecAllocations(
+                new OffsetTimeAsStringCodec(),
+                OffsetTime.of(10, 15, 30, 100, ZoneOffset.ofHours(1)),
+                (w, v) -> w.writeString(v.toString()),
+                r -> OffsetTime.parse(r.readString())
+        );
     }
 
     @Test
@@ -73,4 +119,95 @@ final class OffsetTimeCodecsTests extends AbstractCodecsTests {
                 new LocalTimeAsDocumentCodec(), new ZoneOffsetAsInt32Codec()
         ));
     }
+
+    @AllocationTest
+    void testOffsetTimeAsDocumentCodecAllocations() {
+        testCodecAllocations(
+                new OffsetTimeAsDocumentCodec(),
+                OffsetTime.of(10, 15, 30, 100, ZoneOffset.ofHours(1)),
+                (w, v) -> {
+                    w.writeStartDocument();
+                    w.writeStartDocument("time");
+                    w.writeInt32("hour", v.getHour());
+                    w.writeInt32("minute", v.getMinute());
+                    w.writeInt32("second", v.getSecond());
+                    w.writeInt32("nano", v.getNano());
+                    w.writeEndDocument();
+                    w.writeInt32("offset", v.getOffset().getTotalSeconds());
+                    w.writeEndDocument();
+                },
+                r -> {
+                    r.readStartDocument();
+                    r.readName("time");
+                    r.readStartDocument();
+                    int hour = r.readInt32("hour");
+                    int minute = r.readInt32("minute");
+                    int second = r.readInt32("second");
+                    int nano = r.readInt32("nano");
+                    r.readEndDocument();
+                    LocalTime time = LocalTime.of(hour, minute, second, nano);
+                    ZoneOffset offset =
+                            ZoneOffset.ofTotalSeconds(r.readInt32("offset"));
+                    r.readEndDocument();
+                    return OffsetTime.of(time, offset);
+                }
+        );
+    }
+
+    @Test
+    void testOffsetTimeAsDocumentCodecFieldNaming() {
+        testFieldNaming(
+                OffsetTimeAsDocumentCodec::new,
+                OffsetTime.of(10, 15, 30, 100, ZoneOffset.ofHours(1)),
+                "{ time: { hour: 10, minute: 15, second: 30, nano: 100 }, " +
+                "offset: 3600 }",
+                "{ t: { h: 10, m: 15, s: 30, n: 100 }, o: 3600 }"
+        );
+    }
+
+    @Test
+    void testOffsetTimeAsFlatDocumentCodec() {
+        testOffsetTimeCodec(new OffsetTimeAsFlatDocumentCodec());
+
+        OffsetTime value =
+                OffsetTime.of(10, 15, 30, 100, ZoneOffset.ofHours(1));
+        assertEquals(
+                parse("{ hour: 10, minute: 15, second: 30, nano: 100, " +
+                      "offset: 3600 }"),
+                encodeValue(new OffsetTimeAsFlatDocumentCodec(), value)
+        );
+        assertTrue(
+                bsonSize(encodeValue(
+                        new OffsetTimeAsFlatDocumentCodec(), value
+                )) <
+                bsonSize(encodeValue(new OffsetTimeAsDocumentCodec(), value))
+        );
+        for (String document : new String[] {
+                "{ hour: 10, minute: 15, second: 30, nano: 100 }",
+                "{ hour: 10, minute: 15, second: 30, nano: 100, " +
+                "offset: 64801 }",
+                "{ hour: 24, minute: 15, second: 30, nano: 100, " +
+                "offset: 3600 }",
+                "{ hour: 10, minute: 15, second: 30, nano: 100, " +
+                "offset: 3600, zone: 'Europe/Warsaw' }"
+        }) {
+            assertThrows(
+                    BsonInvalidOperationException.class,
+                    () -> decodeValue(
+                            new OffsetTimeAsFlatDocumentCodec(),
+                            parse(document)
+                    )
+            );
+        }
+    }
+
+    @Test
+    void testOffsetTimeAsFlatDocumentCodecFieldNaming() {
+        testFieldNaming(
+                OffsetTimeAsFlatDocumentCodec::new,
+                OffsetTime.of(10, 15, 30, 100, ZoneOffset.ofHours(1)),
+                "{ hour: 10, minute: 15, second: 30, nano: 100, offset: 3600 }",
+                "{ h: 10, m: 15, s: 30, n: 100, o: 3600 }"
+        );
+    }
 }
@@ -16,16 +16,23 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.period;
 
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.COMPACT;
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.FULL;
+import static io.github.cbartosiak.bson.codecs.jsr310.ZeroComponents.OMITTED;
 import static java.time.Period.ZERO;
 import static java.time.Period.of;
+import static org.bson.BsonDocument.parse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.Period;
 
+import org.bson.BsonInvalidOperationException;
 import org.bson.codecs.Codec;
 import org.junit.jupiter.api.Test;
 
 import io.github.cbartosiak.bson.codecs.jsr310.internal.AbstractCodecsTests;
+import io.github.cbartosiak.bson.codecs.jsr310.internal.AllocationTest;
 
 @SuppressWarnings("JUnitTestMethodWithNoAssertions")
 final class PeriodCodecsTests extends AbstractCodecsTests {
@@ -49,8 +56,72 @@ final class PeriodCodecsTests extends AbstractCodecsTests {
         testPeriodCodec(new PeriodAsStringCodec());
     }
 
+    @AllocationTest
+    void testPeriodAsStringCodecAllocations() {
+        testCodecAllocations(
+                new PeriodAsStringCodec(),
+                of(1, 2, 3),
+                (w, v) -> w.writeString(v.toString()),
+                r -> Period.parse(r.readString())
+        );
+    }
+
     @Test
     void testPeriodAsDocumentCodec() {
         testPeriodCodec(new PeriodAsDocumentCodec());
     }
+
+    @AllocationTest
+    void testPeriodAsDocumentCodecAllocations() {
+        testCodecAllocations(
+                new PeriodAsDocumentCodec(),
+                Period.of(1, 2, 3),
+                (w, v) -> {
+                    w.writeStartDocument();
+                    w.writeInt32("years", v.getYears());
+                    w.writeInt32("months", v.getMonths());
+                    w.writeInt32("days", v.getDays());
+                    w.writeEndDocument();
+                },
+                r -> {
+                    r.readStartDocument();
+                    int years = r.readInt32("years");
+                    int months = r.readInt32("months");
+                    int days = r.readInt32("days");
+                    r.readEndDocument();
+                    return Period.of(years, months, days);
+                }
+        );
+    }
+
+    @Test
+    void testPeriodAsDocumentCodecZeroComponents() {
+        testPeriodCodec(new PeriodAsDocumentCodec(FULL, OMITTED));
+        testZeroComponents(
+                PeriodAsDocumentCodec::new,
+                Period.ofDays(3),
+                "{ years: 0, months: 0, days: 3 }",
+                "{ days: 3 }"
+        );
+
+        PeriodAsDocumentCodec codec =
+                new PeriodAsDocumentCodec(COMPACT, OMITTED);
+        testCodec(codec, ZERO);
+        assertEquals(parse("{ }"), encodeValue(codec, ZERO));
+        assertEquals(ZERO, decodeValue(codec, parse("{ }")));
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(codec, parse("{ d: 3, days: 3 }"))
+        );
+    }
+
+    @Test
+    void testPeriodAsDocumentCodecFieldNaming() {
+        testFieldNaming(
+                PeriodAsDocumentCodec::new,
+                Period.of(1, 2, 3),
+                "{ years: 1, months: 2, days: 3 }",
+                "{ y: 1, M: 2, d: 3 }"
+        );
+    }
 }
@@ -0,0 +1,417 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.provider;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.DATE_TIME;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.DECIMAL128;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.DOCUMENT;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.FLAT_DOCUMENT;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.INT32;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.INT64;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.SORTABLE_STRING;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.STRING;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.RepresentationStrategy.COMPACT;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.RepresentationStrategy.READABLE;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.RepresentationStrategy.SORTABLE;
+import static java.time.ZoneOffset.UTC;
+import static java.util.Collections.singletonMap;
+import static org.bson.codecs.configuration.CodecRegistries.fromCodecs;
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.junit.jupiter.api.Test;
+
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantAsDecimal128Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantAsInt64Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.internal.AbstractCodecsTests;
+import io.github.cbartosiak.bson.codecs.jsr310.localdate.LocalDateAsDateTimeCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdate.LocalDateAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdatetime.LocalDateTimeAsDateTimeCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdatetime.LocalDateTimeAsDecimal128Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.localdatetime.LocalDateTimeAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localtime.LocalTimeAsInt64Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.offsetdatetime.OffsetDateTimeAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.offsetdatetime.OffsetDateTimeAsInt64Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.offsetdatetime.OffsetDateTimeAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.zoneddatetime.ZonedDateTimeAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.zoneddatetime.ZonedDateTimeAsFlatDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.zoneid.ZoneIdAsStringCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.zoneoffset.ZoneOffsetAsInt32Codec;
+import io.github.cbartosiak.bson.codecs.jsr310.zoneoffset.ZoneOffsetAsStringCodec;
+
+@SuppressWarnings("JUnitTestMethodWithNoAssertions")
+final class Jsr310CodecProviderTests extends AbstractCodecsTests {
+
+    private static final ZoneId WARSAW = ZoneId.of("Europe/Warsaw");
+
+    private static final LocalDateTime LOCAL_DATE_TIME =
+            LocalDateTime.of(2018, 3, 25, 1, 30, 15, 123_000_000);
+
+    private Jsr310CodecProviderTests() {}
+
+    private static void testProvider(Jsr310CodecProvider provider) {
+        CodecRegistry registry = fromProviders(provider);
+        testCodec(registry.get(DayOfWeek.class), DayOfWeek.SUNDAY);
+        testCodec(registry.get(Duration.class), Duration.ofSeconds(-1L, 5L));
+        testCodec(registry.get(Instant.class), LOCAL_DATE_TIME.toInstant(UTC));
+        testCodec(registry.get(LocalDate.class), LOCAL_DATE_TIME.toLocalDate());
+        testCodec(registry.get(LocalDateTime.class), LOCAL_DATE_TIME);
+        testCodec(registry.get(LocalTime.class), LOCAL_DATE_TIME.toLocalTime());
+        testCodec(registry.get(Month.class), Month.DECEMBER);
+        testCodec(registry.get(MonthDay.class), MonthDay.of(2, 29));
+        testCodec(
+                registry.get(OffsetDateTime.class),
+                OffsetDateTime.of(LOCAL_DATE_TIME, ZoneOffset.ofHours(-5))
+        );
+        testCodec(
+                registry.get(OffsetTime.class),
+                OffsetTime.of(LOCAL_DATE_TIME.toLocalTime(), UTC)
+        );
+        testCodec(registry.get(Period.class), Period.of(1, -2, 3));
+        testCodec(registry.get(Year.class), Year.of(-2018));
+        testCodec(registry.get(YearMonth.class), YearMonth.of(2018, 12));
+        testCodec(
+                registry.get(ZonedDateTime.class),
+                ZonedDateTime.of(LOCAL_DATE_TIME, WARSAW)
+        );
+        testCodec(registry.get(ZoneId.class), WARSAW);
+        testCodec(registry.get(ZoneOffset.class), ZoneOffset.ofHours(14));
+    }
+
+    @Test
+    void testStrategies() {
+        testProvider(new Jsr310CodecProvider());
+        for (RepresentationStrategy strategy :
+                RepresentationStrategy.values()) {
+
+            testProvider(new Jsr310CodecProvider(strategy));
+        }
+    }
+
+    @Test
+    void testReadableStrategy() {
+        Jsr310CodecProvider provider = new Jsr310CodecProvider(READABLE);
+        CodecRegistry registry = fromProviders(provider);
+        assertEquals(
+                new BsonString("2018-03-25T01:30:15.123"),
+                encodeValue(registry.get(LocalDateTime.class), LOCAL_DATE_TIME)
+        );
+        assertEquals(
+                new BsonInt32(2018),
+                encodeValue(registry.get(Year.class), Year.of(2018))
+        );
+        assertEquals(
+                OffsetDateTimeAsStringCodec.class,
+                registry.get(OffsetDateTime.class).getClass()
+        );
+    }
+
+    @Test
+    void testCompactStrategy() {
+        CodecRegistry registry = fromProviders(
+                new Jsr310CodecProvider(COMPACT)
+        );
+        assertEquals(
+                LocalDateTimeAsDateTimeCodec.class,
+                registry.get(LocalDateTime.class).getClass()
+        );
+        assertEquals(
+                new BsonInt32(17615),
+                encodeValue(
+                        registry.get(LocalDate.class),
+                        LOCAL_DATE_TIME.toLocalDate()
+                )
+        );
+        assertEquals(
+                new BsonInt64(LOCAL_DATE_TIME.toLocalTime().toNanoOfDay()),
+                encodeValue(
+                        registry.get(LocalTime.class),
+                        LOCAL_DATE_TIME.toLocalTime()
+                )
+        );
+        ZonedDateTime zonedDateTime = ZonedDateTime.of(LOCAL_DATE_TIME, WARSAW);
+        assertEquals(
+                new BsonString(zonedDateTime.toString()),
+                encodeValue(registry.get(ZonedDateTime.class), zonedDateTime)
+        );
+    }
+
+    @Test
+    void testSortableStrategy() {
+        CodecRegistry registry = fromProviders(
+                new Jsr310CodecProvider(SORTABLE)
+        );
+        assertEquals(
+                ZonedDateTimeAsDocumentCodec.class,
+                registry.get(ZonedDateTime.class).getClass()
+        );
+        BsonValue value = encodeValue(
+                registry.get(ZonedDateTime.class),
+                ZonedDateTime.of(LOCAL_DATE_TIME, WARSAW)
+        );
+        BsonDocument document = value.asDocument();
+        assertEquals(
+                LOCAL_DATE_TIME.toInstant(UTC).toEpochMilli(),
+                document.getDateTime("dateTime").getValue()
+        );
+        assertEquals(new BsonInt32(3600), document.get("offset"));
+        assertEquals(new BsonString("Europe/Warsaw"), document.get("zone"));
+        OffsetDateTime offsetDateTime =
+                OffsetDateTime.of(LOCAL_DATE_TIME, ZoneOffset.ofHours(-5));
+        assertEquals(
+                new BsonString("00000002018-03-25T06:30:15.123000000Z046800"),
+                encodeValue(registry.get(OffsetDateTime.class), offsetDateTime)
+        );
+    }
+
+    @Test
+    void testRepresentations() {
+        for (RepresentationStrategy strategy :
+                RepresentationStrategy.values()) {
+
+            assertNull(strategy.getRepresentation(Object.class));
+            assertEquals(STRING, strategy.getRepresentation(ZoneId.class));
+            assertEquals(INT32, strategy.getRepresentation(Year.class));
+        }
+        assertEquals(INT64, COMPACT.getRepresentation(LocalTime.class));
+        assertEquals(INT32, SORTABLE.getRepresentation(LocalDate.class));
+        assertEquals(DOCUMENT, SORTABLE.getRepresentation(Period.class));
+        assertEquals(
+                SORTABLE_STRING,
+                SORTABLE.getRepresentation(OffsetDateTime.class)
+        );
+        assertThrows(
+                NullPointerException.class,
+                () -> READABLE.getRepresentation(null)
+        );
+    }
+
+    @Test
+    void testSingletons() {
+        Jsr310CodecProvider provider = new Jsr310CodecProvider(COMPACT);
+        CodecRegistry registry = fromProviders(provider);
+        assertSame(
+                provider.get(LocalTime.class, registry),
+                provider.get(LocalTime.class, registry)
+        );
+        assertSame(
+                provider.get(LocalTime.class, registry),
+                new Jsr310CodecProvider(SORTABLE).get(LocalTime.class, registry)
+        );
+        assertEquals(
+                LocalTimeAsInt64Codec.class,
+                provider.get(LocalTime.class, registry).getClass()
+        );
+        assertEquals(provider, new Jsr310CodecProvider(COMPACT));
+        assertEquals(
+                provider.hashCode(),
+                new Jsr310CodecProvider(COMPACT).hashCode()
+        );
+        assertNotEquals(provider, new Jsr310CodecProvider(SORTABLE));
+        assertNull(provider.get(Object.class, registry));
+    }
+
+    @Test
+    void testZoneRegion() {
+        Jsr310CodecProvider provider = new Jsr310CodecProvider();
+        CodecRegistry registry = fromProviders(provider);
+        assertEquals(
+                ZoneIdAsStringCodec.class,
+                registry.get(WARSAW.getClass()).getClass()
+        );
+        assertSame(
+                provider.get(ZoneId.class, registry),
+                provider.get(WARSAW.getClass(), registry)
+        );
+    }
+
+    @Test
+    void testOverrides() {
+        Map<Class<?>, Representation> overrides = new HashMap<>();
+        overrides.put(Instant.class, INT64);
+        overrides.put(LocalDate.class, DATE_TIME);
+        overrides.put(LocalDateTime.class, DOCUMENT);
+        overrides.put(ZoneOffset.class, STRING);
+        overrides.put(OffsetDateTime.class, DOCUMENT);
+        overrides.put(ZonedDateTime.class, FLAT_DOCUMENT);
+        Jsr310CodecProvider provider =
+                new Jsr310CodecProvider(SORTABLE, overrides);
+        testProvider(provider);
+
+        CodecRegistry registry = fromProviders(provider);
+        assertEquals(
+                InstantAsInt64Codec.class,
+                registry.get(Instant.class).getClass()
+        );
+        assertEquals(
+                LocalDateAsDateTimeCodec.class,
+                registry.get(LocalDate.class).getClass()
+        );
+        assertEquals(
+                LocalDateTimeAsDocumentCodec.class,
+                registry.get(LocalDateTime.class).getClass()
+        );
+        assertEquals(
+                ZoneOffsetAsStringCodec.class,
+                registry.get(ZoneOffset.class).getClass()
+        );
+        assertEquals(
+                OffsetDateTimeAsDocumentCodec.class,
+                registry.get(OffsetDateTime.class).getClass()
+        );
+        assertEquals(
+                ZonedDateTimeAsFlatDocumentCodec.class,
+                registry.get(ZonedDateTime.class).getClass()
+        );
+        assertEquals(
+                ZoneOffsetAsInt32Codec.class,
+                new Jsr310CodecProvider(SORTABLE)
+                        .get(ZoneOffset.class, registry)
+                        .getClass()
+        );
+
+        overrides.clear();
+        overrides.put(Instant.class, DECIMAL128);
+        overrides.put(LocalDateTime.class, DECIMAL128);
+        overrides.put(OffsetDateTime.class, INT64);
+        provider = new Jsr310CodecProvider(READABLE, overrides);
+        testProvider(provider);
+
+        registry = fromProviders(provider);
+        assertEquals(
+                InstantAsDecimal128Codec.class,
+                registry.get(Instant.class).getClass()
+        );
+        assertEquals(
+                LocalDateTimeAsDecimal128Codec.class,
+                registry.get(LocalDateTime.class).getClass()
+        );
+        assertEquals(
+                OffsetDateTimeAsInt64Codec.class,
+                registry.get(OffsetDateTime.class).getClass()
+        );
+    }
+
+    @Test
+    void testInvalidOverrides() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new Jsr310CodecProvider(
+                        READABLE, singletonMap(Year.class, STRING)
+                )
+        );
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new Jsr310CodecProvider(
+                        READABLE, singletonMap(Object.class, STRING)
+                )
+        );
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new Jsr310CodecProvider(
+                        READABLE, singletonMap(Duration.class, SORTABLE_STRING)
+                )
+        );
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new Jsr310CodecProvider(
+                        READABLE, singletonMap(Instant.class, FLAT_DOCUMENT)
+                )
+        );
+        assertThrows(
+                NullPointerException.class,
+                () -> new Jsr310CodecProvider(
+                        READABLE, singletonMap(Year.class, null)
+                )
+        );
+        assertThrows(
+                NullPointerException.class,
+                () -> new Jsr310CodecProvider(null)
+        );
+    }
+
+    @Test
+    void testNestedCodecsFromRegistry() {
+        Codec<LocalDate> localDateCodec = new LocalDateAsStringCodec();
+        CodecRegistry registry = fromRegistries(
+                fromCodecs(localDateCodec),
+                fromProviders(new Jsr310CodecProvider(
+                        COMPACT, singletonMap(ZonedDateTime.class, DOCUMENT)
+                ))
+        );
+        Codec<ZonedDateTime> codec = registry.get(ZonedDateTime.class);
+        assertEquals(ZonedDateTimeAsDocumentCodec.class, codec.getClass());
+        testCodec(codec, ZonedDateTime.of(LOCAL_DATE_TIME, WARSAW));
+
+        Map<Class<?>, Representation> overrides = new HashMap<>();
+        overrides.put(Instant.class, INT64);
+        overrides.put(LocalDate.class, INT32);
+        overrides.put(LocalDateTime.class, DOCUMENT);
+        overrides.put(ZonedDateTime.class, DOCUMENT);
+        registry = fromRegistries(
+                fromCodecs(localDateCodec),
+                fromProviders(new Jsr310CodecProvider(COMPACT, overrides))
+        );
+        BsonDocument document = encodeValue(
+                registry.get(ZonedDateTime.class),
+                ZonedDateTime.of(LOCAL_DATE_TIME, WARSAW)
+        ).asDocument();
+        assertEquals(
+                new BsonString("2018-03-25"),
+                document.getDocument("dateTime").get("date")
+        );
+        assertEquals(
+                new BsonInt64(LOCAL_DATE_TIME.toLocalTime().toNanoOfDay()),
+                document.getDocument("dateTime").get("time")
+        );
+        testCodec(
+                registry.get(ZonedDateTime.class),
+                ZonedDateTime.of(LOCAL_DATE_TIME, WARSAW)
+        );
+    }
+}
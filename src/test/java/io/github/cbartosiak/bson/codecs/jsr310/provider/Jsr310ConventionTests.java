@@ -0,0 +1,334 @@
+/*
+ * Copyright 2018 Cezary Bartosiak
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.cbartosiak.bson.codecs.jsr310.provider;
+
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.DATE_TIME;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.DOCUMENT;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.INT32;
+import static io.github.cbartosiak.bson.codecs.jsr310.provider.Representation.STRING;
+import static java.time.ZoneOffset.UTC;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+import static org.bson.codecs.pojo.Conventions.DEFAULT_CONVENTIONS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.BsonArray;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.codecs.Codec;
+import org.bson.codecs.ValueCodecProvider;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.pojo.Convention;
+import org.bson.codecs.pojo.PojoCodecProvider;
+import org.bson.codecs.pojo.PropertyModelBuilder;
+import org.junit.jupiter.api.Test;
+
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantDoubleMapAsDocumentCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantListAsBinaryCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantSequenceAsBinaryCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.internal.AbstractCodecsTests;
+import io.github.cbartosiak.bson.codecs.jsr310.localdate.LocalDateListAsBinaryCodec;
+import io.github.cbartosiak.bson.codecs.jsr310.localtime.LocalTimeListAsBinaryCodec;
+
+@SuppressWarnings("JUnitTestMethodWithNoAssertions")
+final class Jsr310ConventionTests extends AbstractCodecsTests {
+
+    private static final Instant INSTANT = LocalDateTime
+            .of(2018, 3, 25, 1, 30, 15, 123_000_000)
+            .toInstant(UTC);
+
+    private Jsr310ConventionTests() {}
+
+    private static CodecRegistry registry(Class<?> entityClass) {
+        List<Convention> conventions = new ArrayList<>(DEFAULT_CONVENTIONS);
+        conventions.add(new Jsr310Convention());
+        return fromProviders(
+                new Jsr310CodecProvider(),
+                PojoCodecProvider.builder()
+                                 .register(entityClass)
+                                 .conventions(conventions)
+                                 .build()
+        );
+    }
+
+    @Test
+    void testJsr310Convention() {
+        Codec<Entity> codec = registry(Entity.class).get(Entity.class);
+
+        Entity entity = new Entity();
+        entity.setCreatedAt(INSTANT);
+        entity.setAuditTs(INSTANT);
+        entity.setUpdatedAt(INSTANT);
+        entity.setZonedDateTime(INSTANT.atZone(ZoneId.of("Europe/Warsaw")));
+
+        BsonDocument document = encodeValue(codec, entity).asDocument();
+        assertEquals(
+                new BsonDateTime(INSTANT.toEpochMilli()),
+                document.get("createdAt")
+        );
+        assertEquals(
+                new BsonInt64(INSTANT.getEpochSecond()),
+                document.getDocument("auditTs").get("seconds")
+        );
+        assertEquals(
+                new BsonString(INSTANT.toString()),
+                document.get("updatedAt")
+        );
+        assertEquals(
+                new BsonString("Europe/Warsaw"),
+                document.getDocument("zonedDateTime").get("zone")
+        );
+        assertEquals(
+                new BsonInt32(7200),
+                document.getDocument("zonedDateTime").get("offset")
+        );
+
+        Entity decoded = decodeValue(codec, document);
+        assertEquals(entity.getCreatedAt(), decoded.getCreatedAt());
+        assertEquals(entity.getAuditTs(), decoded.getAuditTs());
+        assertEquals(entity.getUpdatedAt(), decoded.getUpdatedAt());
+        assertEquals(entity.getZonedDateTime(), decoded.getZonedDateTime());
+    }
+
+    @Test
+    void testUnavailableRepresentation() {
+        assertThrows(
+                CodecConfigurationException.class,
+                () -> registry(InvalidEntity.class)
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPropertyCodecs() {
+        List<Convention> conventions = new ArrayList<>(DEFAULT_CONVENTIONS);
+        conventions.add(classModel -> {
+            ((PropertyModelBuilder<List<Instant>>)
+                    classModel.getProperty("instants"))
+                    .codec(new InstantListAsBinaryCodec());
+            ((PropertyModelBuilder<List<Instant>>)
+                    classModel.getProperty("events"))
+                    .codec(new InstantSequenceAsBinaryCodec());
+            ((PropertyModelBuilder<List<LocalDate>>)
+                    classModel.getProperty("dates"))
+                    .codec(new LocalDateListAsBinaryCodec());
+            ((PropertyModelBuilder<List<LocalTime>>)
+                    classModel.getProperty("times"))
+                    .codec(new LocalTimeListAsBinaryCodec());
+            ((PropertyModelBuilder<Map<Instant, Double>>)
+                    classModel.getProperty("samples"))
+                    .codec(new InstantDoubleMapAsDocumentCodec());
+        });
+        CodecRegistry registry = fromProviders(
+                new ValueCodecProvider(),
+                new Jsr310CodecProvider(),
+                PojoCodecProvider.builder()
+                                 .register(PropertyCodecsEntity.class)
+                                 .conventions(conventions)
+                                 .build()
+        );
+        assertNull(new Jsr310CodecProvider().get(List.class, registry));
+        assertNull(new Jsr310CodecProvider().get(Map.class, registry));
+
+        PropertyCodecsEntity entity = new PropertyCodecsEntity();
+        entity.setInstants(singletonList(INSTANT));
+        entity.setEvents(asList(INSTANT, INSTANT.plusMillis(1L)));
+        entity.setDates(singletonList(INSTANT.atOffset(UTC).toLocalDate()));
+        entity.setTimes(singletonList(INSTANT.atOffset(UTC).toLocalTime()));
+        entity.setTags(asList("a", "b"));
+        entity.setSamples(singletonMap(INSTANT, 1.5));
+        entity.setCounts(singletonMap("a", 1L));
+
+        Codec<PropertyCodecsEntity> codec =
+                registry.get(PropertyCodecsEntity.class);
+        BsonDocument document = encodeValue(codec, entity).asDocument();
+        assertTrue(document.isBinary("instants"));
+        assertTrue(document.isBinary("events"));
+        assertTrue(document.isBinary("dates"));
+        assertTrue(document.isBinary("times"));
+        assertEquals(
+                new BsonArray(asList(new BsonString("a"), new BsonString("b"))),
+                document.get("tags")
+        );
+        assertTrue(document.getDocument("samples").isBinary("timestamps"));
+        assertEquals(
+                new BsonDocument("a", new BsonInt64(1L)),
+                document.get("counts")
+        );
+
+        PropertyCodecsEntity decoded = decodeValue(codec, document);
+        assertEquals(entity.getInstants(), decoded.getInstants());
+        assertEquals(entity.getEvents(), decoded.getEvents());
+        assertEquals(entity.getDates(), decoded.getDates());
+        assertEquals(entity.getTimes(), decoded.getTimes());
+        assertEquals(entity.getTags(), decoded.getTags());
+        assertEquals(entity.getSamples(), decoded.getSamples());
+        assertEquals(entity.getCounts(), decoded.getCounts());
+    }
+
+    public static final class Entity {
+
+        @BsonJsr310(DATE_TIME)
+        private Instant createdAt;
+
+        @BsonJsr310(DOCUMENT)
+        private Instant auditTs;
+
+        private Instant updatedAt;
+
+        private ZonedDateTime zonedDateTime;
+
+        public Instant getCreatedAt() {
+            return createdAt;
+        }
+
+        public void setCreatedAt(Instant createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        public Instant getAuditTs() {
+            return auditTs;
+        }
+
+        public void setAuditTs(Instant auditTs) {
+            this.auditTs = auditTs;
+        }
+
+        public Instant getUpdatedAt() {
+            return updatedAt;
+        }
+
+        public void setUpdatedAt(Instant updatedAt) {
+            this.updatedAt = updatedAt;
+        }
+
+        @BsonJsr310(DOCUMENT)
+        public ZonedDateTime getZonedDateTime() {
+            return zonedDateTime;
+        }
+
+        public void setZonedDateTime(ZonedDateTime zonedDateTime) {
+            this.zonedDateTime = zonedDateTime;
+        }
+    }
+
+    public static final class InvalidEntity {
+
+        @BsonJsr310(INT32)
+        private Instant createdAt;
+
+        public Instant getCreatedAt() {
+            return createdAt;
+        }
+
+        public void setCreatedAt(Instant createdAt) {
+            this.createdAt = createdAt;
+        }
+    }
+
+    public static final class PropertyCodecsEntity {
+
+        private List<Instant> instants;
+
+        private List<Instant> events;
+
+        private List<LocalDate> dates;
+
+        private List<LocalTime> times;
+
+        private List<String> tags;
+
+        private Map<Instant, Double> samples;
+
+        private Map<String, Long> counts;
+
+        public List<Instant> getInstants() {
+            return instants;
+        }
+
+        public void setInstants(List<Instant> instants) {
+            this.instants = instants;
+        }
+
+        public List<Instant> getEvents() {
+            return events;
+        }
+
+        public void setEvents(List<Instant> events) {
+            this.events = events;
+        }
+
+        public List<LocalDate> getDates() {
+            return dates;
+        }
+
+        public void setDates(List<LocalDate> dates) {
+            this.dates = dates;
+        }
+
+        public List<LocalTime> getTimes() {
+            return times;
+        }
+
+        public void setTimes(List<LocalTime> times) {
+            this.times = times;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        public Map<Instant, Double> getSamples() {
+            return samples;
+        }
+
+        public void setSamples(Map<Instant, Double> samples) {
+            this.samples = samples;
+        }
+
+        public Map<String, Long> getCounts() {
+            return counts;
+        }
+
+        public void setCounts(Map<String, Long> counts) {
+            this.counts = counts;
+        }
+    }
+}
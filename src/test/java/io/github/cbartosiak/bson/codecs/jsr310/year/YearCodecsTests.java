@@ -28,6 +28,7 @@ import org.bson.codecs.Codec;
 import org.junit.jupiter.api.Test;
 
 import io.github.cbartosiak.bson.codecs.jsr310.internal.AbstractCodecsTests;
+import io.github.cbartosiak.bson.codecs.jsr310.internal.AllocationTest;
 
 @SuppressWarnings("JUnitTestMethodWithNoAssertions")
 final class YearCodecsTests extends AbstractCodecsTests {
@@ -48,4 +49,14 @@ final class YearCodecsTests extends AbstractCodecsTests {
     void testYearAsInt32Codec() {
         testYearCodec(new YearAsInt32Codec());
     }
+
+    @AllocationTest
+    void testYearAsInt32CodecAllocations() {
+        testCodecAllocations(
+                new YearAsInt32Codec(),
+                of(2018),
+                (w, v) -> w.writeInt32(v.getValue()),
+                r -> of(r.readInt32())
+        );
+    }
 }
@@ -16,21 +16,38 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.yearmonth;
 
+import static java.lang.String.format;
 import static java.time.YearMonth.now;
 import static java.time.YearMonth.of;
+import static java.util.Arrays.asList;
+import static org.bson.types.Decimal128.NaN;
+import static org.bson.types.Decimal128.fromIEEE754BIDEncoding;
+import static org.bson.types.Decimal128.parse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.Year;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
+import org.bson.BsonDecimal128;
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonValue;
 import org.bson.codecs.Codec;
+import org.bson.types.Decimal128;
 import org.junit.jupiter.api.Test;
 
 import io.github.cbartosiak.bson.codecs.jsr310.internal.AbstractCodecsTests;
+import io.github.cbartosiak.bson.codecs.jsr310.internal.AllocationTest;
 
 @SuppressWarnings("JUnitTestMethodWithNoAssertions")
 final class YearMonthCodecsTests extends AbstractCodecsTests {
 
+    private static final Decimal128 YEAR_MONTH_DECIMAL128 =
+            parse("2018.01");
+
     private YearMonthCodecsTests() {}
 
     private static void testYearMonthCodec(Codec<YearMonth> codec) {
@@ -48,13 +65,124 @@ final class YearMonthCodecsTests extends AbstractCodecsTests {
         testYearMonthCodec(new YearMonthAsStringCodec());
     }
 
+    @AllocationTest
+    void testYearMonthAsStringCodecAllocations() {
+        testCodecAllocations(
+                new YearMonthAsStringCodec(),
+                of(2018, 1),
+                (w, v) -> w.writeString((v.getYear() > 9999 ? "+" : "") + v),
+                r -> YearMonth.parse(r.readString())
+        );
+    }
+
     @Test
     void testYearMonthAsDocumentCodec() {
         testYearMonthCodec(new YearMonthAsDocumentCodec());
     }
 
+    @AllocationTest
+    void testYearMonthAsDocumentCodecAllocations() {
+        testCodecAllocations(
+                new YearMonthAsDocumentCodec(),
+                YearMonth.of(2018, 1),
+                (w, v) -> {
+                    w.writeStartDocument();
+                    w.writeInt32("year", v.getYear());
+                    w.writeInt32("month", v.getMonthValue());
+                    w.writeEndDocument();
+                },
+                r -> {
+                    r.readStartDocument();
+                    int year = r.readInt32("year");
+                    int month = r.readInt32("month");
+                    r.readEndDocument();
+                    return YearMonth.of(year, month);
+                }
+        );
+    }
+
+    @Test
+    void testYearMonthAsDocumentCodecFieldNaming() {
+        testFieldNaming(
+                YearMonthAsDocumentCodec::new,
+                YearMonth.of(2018, 1),
+                "{ year: 2018, month: 1 }",
+                "{ y: 2018, M: 1 }"
+        );
+    }
+
     @Test
     void testYearMonthAsDecimal128Codec() {
         testYearMonthCodec(new YearMonthAsDecimal128Codec());
     }
+
+    @AllocationTest
+    void testYearMonthAsDecimal128CodecAllocations() {
+        testCodecAllocations(
+                new YearMonthAsDecimal128Codec(),
+                of(2018, 1),
+                (w, v) -> w.writeDecimal128(fromIEEE754BIDEncoding(
+                        YEAR_MONTH_DECIMAL128.getHigh(),
+                        YEAR_MONTH_DECIMAL128.getLow()
+                )),
+                r -> {
+                    r.readDecimal128();
+                    return of(2018, 1);
+                }
+        );
+    }
+
+    @Test
+    void testYearMonthAsDecimal128CodecCompatibility() {
+        Codec<YearMonth> codec = new YearMonthAsDecimal128Codec();
+        Random random = new Random(0L);
+        List<YearMonth> yearMonths = new ArrayList<>(asList(
+                of(0, 1),
+                of(-1, 12),
+                of(Year.MIN_VALUE, 1),
+                of(Year.MAX_VALUE, 12)
+        ));
+        for (int i = 0; i < 1_000; i++) {
+            yearMonths.add(of(
+                    (random.nextInt(2 * Year.MAX_VALUE + 1) - Year.MAX_VALUE)
+                    >> random.nextInt(31),
+                    random.nextInt(12) + 1
+            ));
+        }
+        for (YearMonth yearMonth : yearMonths) {
+            Decimal128 expected = parse(format(
+                    "%d.%02d", yearMonth.getYear(), yearMonth.getMonthValue()
+            ));
+            BsonValue encoded = encodeValue(codec, yearMonth);
+            assertEquals(new BsonDecimal128(expected), encoded);
+            assertEquals(yearMonth, decodeValue(codec, encoded));
+        }
+        assertEquals(
+                of(2018, 10),
+                decodeValue(codec, new BsonDecimal128(parse("2018.1")))
+        );
+        assertEquals(
+                of(2018, 1),
+                decodeValue(codec, new BsonDecimal128(parse("201801E-2")))
+        );
+        assertEquals(
+                of(-5, 3),
+                decodeValue(codec, new BsonDecimal128(parse("-5.03")))
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(
+                        codec,
+                        new BsonDecimal128(parse("1000000000.01"))
+                )
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(codec, new BsonDecimal128(parse("2018.13")))
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(codec, new BsonDecimal128(NaN))
+        );
+    }
 }
@@ -16,18 +16,35 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.zoneddatetime;
 
+import static io.github.cbartosiak.bson.codecs.jsr310.FieldNaming.COMPACT;
+import static java.time.ZoneId.getAvailableZoneIds;
 import static java.time.ZonedDateTime.now;
 import static java.time.ZonedDateTime.of;
+import static java.time.ZonedDateTime.ofInstant;
+import static org.bson.BsonDocument.parse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.Year;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonInvalidOperationException;
 import org.bson.codecs.Codec;
 import org.junit.jupiter.api.Test;
 
+import io.github.cbartosiak.bson.codecs.jsr310.instant.InstantAsDateTimeCodec;
 import io.github.cbartosiak.bson.codecs.jsr310.internal.AbstractCodecsTests;
+import io.github.cbartosiak.bson.codecs.jsr310.internal.AllocationTest;
 import io.github.cbartosiak.bson.codecs.jsr310.localdatetime.LocalDateTimeAsDocumentCodec;
 import io.github.cbartosiak.bson.codecs.jsr310.zoneid.ZoneIdAsStringCodec;
 import io.github.cbartosiak.bson.codecs.jsr310.zoneoffset.ZoneOffsetAsInt32Codec;
@@ -56,6 +73,57 @@ final class ZonedDateTimeCodecsTests extends AbstractCodecsTests {
     @Test
     void testZonedDateTimeAsStringCodec() {
         testZonedDateTimeCodec(new ZonedDateTimeAsStringCodec());
+        testStringDecoding(
+                new ZonedDateTimeAsStringCodec(),
+                ZonedDateTime::parse,
+                "2018-01-02T10:15:30+01:00[Europe/Warsaw]",
+                "2018-01-02T10:15:30+05:00[Europe/Warsaw]",
+                "2018-10-28T02:30+01:00[Europe/Warsaw]",
+                "2018-10-28T02:30+02:00[Europe/Warsaw]",
+                "2018-03-25T02:30+01:00[Europe/Warsaw]",
+                "2018-01-02T10:15:30Z[UTC]", "2018-01-02T10:15:30Z",
+                "2018-01-02T10:15:30+01:00", "2018-01-02T10:15:30+01:00[]",
+                "2018-01-02T10:15:30+01:00[+01:00]",
+                "2018-01-02T10:15:30+01:00[UTC+01:00]",
+                "2018-01-02T10:15:30+01:00[GMT0]",
+                "2018-01-02T10:15:30+01:00[Mars/Olympus]",
+                "2018-01-02T10:15:30+01:00[Europe/Warsaw",
+                "2018-01-02T10:15:30[Europe/Warsaw]"
+        );
+        Random random = new Random(0L);
+        List<String> zoneIds = new ArrayList<>(getAvailableZoneIds());
+        zoneIds.sort(null);
+        List<ZonedDateTime> values = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            long precision = (long) Math.pow(10, random.nextInt(10));
+            ZoneId zone = random.nextBoolean() ?
+                          ZoneId.of(zoneIds.get(random.nextInt(
+                                  zoneIds.size()
+                          ))) :
+                          ZoneOffset.ofTotalSeconds(
+                                  random.nextInt(129_601) - 64_800
+                          );
+            values.add(ofInstant(
+                    Instant.ofEpochSecond(
+                            random.nextLong() % 31_556_889_832_780_799L >>
+                            random.nextInt(40),
+                            random.nextInt(1_000_000_000) /
+                            precision * precision
+                    ),
+                    zone
+            ));
+        }
+        testStringEncoding(new ZonedDateTimeAsStringCodec(), values);
+    }
+
+    @AllocationTest
+    void testZonedDateTimeAsStringCodecAllocations() {
+        testCodecAllocations(
+                new ZonedDateTimeAsStringCodec(),
+                of(2018, 1, 2, 10, 15, 30, 100, ZoneId.of("Europe/Warsaw")),
+                (w, v) -> w.writeString(v.toString()),
+                r -> ZonedDateTime.parse(r.readString())
+        );
     }
 
     @Test
@@ -95,5 +163,236 @@ final class ZonedDateTimeCodecsTests extends AbstractCodecsTests {
                 new ZoneOffsetAsInt32Codec(),
                 new ZoneIdAsStringCodec()
         ));
+        for (String document : new String[] {
+                "{ dateTime: { date: { year: 2018, month: 1, day: 2 } }, " +
+                "offset: 3600, zone: 'Europe/Warsaw' }",
+                "{ dateTime: { date: { year: 2018, month: 1, day: 2 }, " +
+                "time: { hour: 10, minute: 15, second: 30, nano: 0 } }, " +
+                "offset: 3600, zone: null }",
+                "{ dateTime: { date: { year: 2018, month: 1, day: 2 }, " +
+                "time: { hour: 10, minute: 15, second: 30, nano: 0 } }, " +
+                "offset: 0, zone: 'Europe/Warsaw' }"
+        }) {
+            assertThrows(
+                    BsonInvalidOperationException.class,
+                    () -> decodeValue(
+                            new ZonedDateTimeAsDocumentCodec(), parse(document)
+                    )
+            );
+        }
+    }
+
+    @AllocationTest
+    void testZonedDateTimeAsDocumentCodecAllocations() {
+        testCodecAllocations(
+                new ZonedDateTimeAsDocumentCodec(),
+                ZonedDateTime.of(
+                        2018, 1, 2, 10, 15, 30, 100, ZoneId.of("Europe/Warsaw")
+                ),
+                (w, v) -> {
+                    w.writeStartDocument();
+                    w.writeName("dateTime");
+                    writeLocalDateTimeDocument(w, v.toLocalDateTime());
+                    w.writeInt32("offset", v.getOffset().getTotalSeconds());
+                    w.writeString("zone", v.getZone().getId());
+                    w.writeEndDocument();
+                },
+                r -> {
+                    r.readStartDocument();
+                    r.readName("dateTime");
+                    LocalDateTime dateTime = readLocalDateTimeDocument(r);
+                    ZoneOffset offset =
+                            ZoneOffset.ofTotalSeconds(r.readInt32("offset"));
+                    ZoneId zone = ZoneId.of(r.readString("zone"));
+                    r.readEndDocument();
+                    return ZonedDateTime.ofStrict(dateTime, offset, zone);
+                }
+        );
+    }
+
+    @Test
+    void testZonedDateTimeAsDocumentCodecFieldNaming() {
+        testFieldNaming(
+                ZonedDateTimeAsDocumentCodec::new,
+                ZonedDateTime.parse(
+                        "2018-01-02T10:15:30.0000001+01:00[Europe/Warsaw]"
+                ),
+                "{ dateTime: { date: { year: 2018, month: 1, day: 2 }, " +
+                "time: { hour: 10, minute: 15, second: 30, nano: 100 } }, " +
+                "offset: 3600, zone: 'Europe/Warsaw' }",
+                "{ dt: { d: { y: 2018, M: 1, d: 2 }, t: { h: 10, m: 15, " +
+                "s: 30, n: 100 } }, o: 3600, z: 'Europe/Warsaw' }"
+        );
+    }
+
+    @Test
+    void testZonedDateTimeAsFlatDocumentCodec() {
+        testZonedDateTimeCodec(new ZonedDateTimeAsFlatDocumentCodec());
+
+        ZonedDateTime value = ZonedDateTime.parse(
+                "2018-01-02T10:15:30.0000001+01:00[Europe/Warsaw]"
+        );
+        assertEquals(
+                parse("{ year: 2018, month: 1, day: 2, hour: 10, " +
+                      "minute: 15, second: 30, nano: 100, offset: 3600, " +
+                      "zone: 'Europe/Warsaw' }"),
+                encodeValue(new ZonedDateTimeAsFlatDocumentCodec(), value)
+        );
+        assertTrue(
+                bsonSize(encodeValue(
+                        new ZonedDateTimeAsFlatDocumentCodec(), value
+                )) + 30 <=
+                bsonSize(encodeValue(
+                        new ZonedDateTimeAsDocumentCodec(), value
+                ))
+        );
+        for (String document : new String[] {
+                "{ year: 2018, month: 1, day: 2, hour: 10, minute: 15, " +
+                "second: 30, nano: 0, offset: 3600 }",
+                "{ year: 2018, month: 1, day: 2, hour: 10, minute: 15, " +
+                "second: 30, nano: 0, offset: 3600, zone: null }",
+                "{ year: 2018, month: 1, day: 2, hour: 10, minute: 15, " +
+                "second: 30, nano: 0, offset: 3600, zone: 1 }",
+                "{ year: 2018, month: 1, day: 2, hour: 10, minute: 15, " +
+                "second: 30, nano: 0, offset: 0, zone: 'Europe/Warsaw' }",
+                "{ year: 2018, month: 1, day: 2, hour: 10, minute: 15, " +
+                "second: 30, nano: 0, offset: 3600, zone: 'Europe/Nowhere' }",
+                "{ year: 2018, month: 1, day: 2, hour: 10, minute: 15, " +
+                "second: 30, nano: 0, offset: 3600, zone: '+25:00' }"
+        }) {
+            assertThrows(
+                    BsonInvalidOperationException.class,
+                    () -> decodeValue(
+                            new ZonedDateTimeAsFlatDocumentCodec(),
+                            parse(document)
+                    )
+            );
+        }
+    }
+
+    @Test
+    void testZonedDateTimeAsFlatDocumentCodecFieldNaming() {
+        testFieldNaming(
+                ZonedDateTimeAsFlatDocumentCodec::new,
+                ZonedDateTime.parse(
+                        "2018-01-02T10:15:30.0000001+01:00[Europe/Warsaw]"
+                ),
+                "{ year: 2018, month: 1, day: 2, hour: 10, minute: 15, " +
+                "second: 30, nano: 100, offset: 3600, zone: 'Europe/Warsaw' }",
+                "{ y: 2018, M: 1, d: 2, h: 10, m: 15, s: 30, n: 100, " +
+                "o: 3600, z: 'Europe/Warsaw' }"
+        );
+    }
+
+    @Test
+    void testZonedDateTimeAsDocumentCodecWithInstant() {
+        assertThrows(
+                NullPointerException.class,
+                () -> new ZonedDateTimeAsDocumentCodec(
+                        new LocalDateTimeAsDocumentCodec(),
+                        new ZoneOffsetAsInt32Codec(),
+                        new ZoneIdAsStringCodec(),
+                        null
+                )
+        );
+        ZonedDateTimeAsDocumentCodec codec = new ZonedDateTimeAsDocumentCodec(
+                new LocalDateTimeAsDocumentCodec(),
+                new ZoneOffsetAsInt32Codec(),
+                new ZoneIdAsStringCodec(),
+                new InstantAsDateTimeCodec()
+        );
+        ZonedDateTime value = ZonedDateTime.parse(
+                "2018-01-02T10:15:30.123456789+01:00[Europe/Warsaw]"
+        );
+        testCodec(codec, value);
+        testCodec(codec, now());
+
+        BsonDocument document = encodeValue(codec, value).asDocument();
+        assertEquals(
+                new BsonDateTime(1_514_884_530_123L),
+                document.get("instant")
+        );
+        BsonDocument withoutInstant = document.clone();
+        withoutInstant.remove("instant");
+        assertEquals(
+                encodeValue(new ZonedDateTimeAsDocumentCodec(), value),
+                withoutInstant
+        );
+        assertEquals(
+                value,
+                decodeValue(new ZonedDateTimeAsDocumentCodec(), document)
+        );
+        assertEquals(
+                value,
+                decodeValue(
+                        codec,
+                        encodeValue(new ZonedDateTimeAsDocumentCodec(), value)
+                )
+        );
+        assertThrows(
+                BsonInvalidOperationException.class,
+                () -> decodeValue(codec, parse(
+                        "{ dateTime: { date: { year: 2018, month: 1, " +
+                        "day: 2 }, time: { hour: 10, minute: 15, " +
+                        "second: 30, nano: 0 } }, offset: 3600, " +
+                        "instant: { $date: 0 } }"
+                ))
+        );
+    }
+
+    @Test
+    void testZonedDateTimeAsDocumentCodecWithInstantFieldNaming() {
+        assertThrows(
+                NullPointerException.class,
+                () -> new ZonedDateTimeAsDocumentCodec(
+                        new LocalDateTimeAsDocumentCodec(),
+                        new ZoneOffsetAsInt32Codec(),
+                        new ZoneIdAsStringCodec(),
+                        new InstantAsDateTimeCodec(),
+                        null
+                )
+        );
+        ZonedDateTimeAsDocumentCodec codec = new ZonedDateTimeAsDocumentCodec(
+                new LocalDateTimeAsDocumentCodec(COMPACT),
+                new ZoneOffsetAsInt32Codec(),
+                new ZoneIdAsStringCodec(),
+                new InstantAsDateTimeCodec(),
+                COMPACT
+        );
+        ZonedDateTime value = ZonedDateTime.parse(
+                "2018-01-02T10:15:30.123456789+01:00[Europe/Warsaw]"
+        );
+        testCodec(codec, value);
+        assertEquals(
+                parse(
+                        "{ dt: { d: { y: 2018, M: 1, d: 2 }, t: { h: 10, " +
+                        "m: 15, s: 30, n: 123456789 } }, o: 3600, " +
+                        "z: 'Europe/Warsaw', i: { $date: 1514884530123 } }"
+                ),
+                encodeValue(codec, value)
+        );
+        assertEquals(
+                value,
+                decodeValue(
+                        codec,
+                        encodeValue(
+                                new ZonedDateTimeAsDocumentCodec(COMPACT),
+                                value
+                        )
+                )
+        );
+        assertEquals(
+                encodeValue(new ZonedDateTimeAsDocumentCodec(COMPACT), value),
+                encodeValue(
+                        new ZonedDateTimeAsDocumentCodec(
+                                new LocalDateTimeAsDocumentCodec(COMPACT),
+                                new ZoneOffsetAsInt32Codec(),
+                                new ZoneIdAsStringCodec(),
+                                null,
+                                COMPACT
+                        ),
+                        value
+                )
+        );
     }
 }
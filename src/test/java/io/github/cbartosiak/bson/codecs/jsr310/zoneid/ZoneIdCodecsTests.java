@@ -16,20 +16,30 @@
 
 package io.github.cbartosiak.bson.codecs.jsr310.zoneid;
 
+import static io.github.cbartosiak.bson.codecs.jsr310.internal.ZoneIdCache.MAX_SIZE;
+import static java.lang.String.format;
 import static java.time.ZoneId.getAvailableZoneIds;
 import static java.time.ZoneId.of;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.ZoneId;
 
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonString;
 import org.bson.codecs.Codec;
 import org.junit.jupiter.api.Test;
 
 import io.github.cbartosiak.bson.codecs.jsr310.internal.AbstractCodecsTests;
+import io.github.cbartosiak.bson.codecs.jsr310.internal.AllocationTest;
 
 @SuppressWarnings("JUnitTestMethodWithNoAssertions")
 final class ZoneIdCodecsTests extends AbstractCodecsTests {
 
+    private static final ZoneId WARSAW = of("Europe/Warsaw");
+
     private ZoneIdCodecsTests() {}
 
     private static void testZoneIdCodec(Codec<ZoneId> codec) {
@@ -47,4 +57,41 @@ final class ZoneIdCodecsTests extends AbstractCodecsTests {
     void testZoneIdAsStringCodec() {
         testZoneIdCodec(new ZoneIdAsStringCodec());
     }
+
+    @AllocationTest
+    void testZoneIdAsStringCodecAllocations() {
+        testCodecAllocations(
+                new ZoneIdAsStringCodec(),
+                of("Europe/Warsaw"),
+                (w, v) -> w.writeString(v.getId()),
+                r -> {
+                    r.readString();
+                    return WARSAW;
+                }
+        );
+    }
+
+    @Test
+    void testZoneIdAsStringCodecCache() {
+        Codec<ZoneId> codec = new ZoneIdAsStringCodec();
+        assertSame(
+                decodeValue(codec, new BsonString("Europe/Warsaw")),
+                decodeValue(codec, new BsonString("Europe/Warsaw"))
+        );
+        for (int i = 0; i < 2 * MAX_SIZE; i++) {
+            String id = format(
+                    "UTC+%02d:%02d:%02d",
+                    i / 3600, i / 60 % 60, i % 60
+            );
+            assertEquals(of(id), decodeValue(codec, new BsonString(id)));
+        }
+        for (String id : asList("Mars/Olympus", "Europe/", "+25:00", "")) {
+            for (int i = 0; i < 2; i++) {
+                assertThrows(
+                        BsonInvalidOperationException.class,
+                        () -> decodeValue(codec, new BsonString(id))
+                );
+            }
+        }
+    }
 }
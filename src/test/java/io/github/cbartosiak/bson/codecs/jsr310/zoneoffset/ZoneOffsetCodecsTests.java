@@ -19,14 +19,20 @@ package io.github.cbartosiak.bson.codecs.jsr310.zoneoffset;
 import static java.time.ZoneOffset.MAX;
 import static java.time.ZoneOffset.MIN;
 import static java.time.ZoneOffset.UTC;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.ZoneOffset;
 
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonString;
 import org.bson.codecs.Codec;
 import org.junit.jupiter.api.Test;
 
 import io.github.cbartosiak.bson.codecs.jsr310.internal.AbstractCodecsTests;
+import io.github.cbartosiak.bson.codecs.jsr310.internal.AllocationTest;
 
 @SuppressWarnings("JUnitTestMethodWithNoAssertions")
 final class ZoneOffsetCodecsTests extends AbstractCodecsTests {
@@ -48,8 +54,52 @@ final class ZoneOffsetCodecsTests extends AbstractCodecsTests {
         testZoneOffsetCodec(new ZoneOffsetAsStringCodec());
     }
 
+    @AllocationTest
+    void testZoneOffsetAsStringCodecAllocations() {
+        testCodecAllocations(
+                new ZoneOffsetAsStringCodec(),
+                ZoneOffset.ofHours(1),
+                (w, v) -> w.writeString(v.getId()),
+                r -> {
+                    r.readString();
+                    return ZoneOffset.ofHours(1);
+                }
+        );
+    }
+
+    @Test
+    void testZoneOffsetAsStringCodecCache() {
+        Codec<ZoneOffset> codec = new ZoneOffsetAsStringCodec();
+        for (String id : asList("+01:00", "+1", "+0100", "Z", "-18:00")) {
+            assertEquals(
+                    ZoneOffset.of(id),
+                    decodeValue(codec, new BsonString(id))
+            );
+            assertSame(
+                    decodeValue(codec, new BsonString(id)),
+                    decodeValue(codec, new BsonString(id))
+            );
+        }
+        for (String id : asList("+19:00", "UTC", "")) {
+            assertThrows(
+                    BsonInvalidOperationException.class,
+                    () -> decodeValue(codec, new BsonString(id))
+            );
+        }
+    }
+
     @Test
     void testZoneOffsetAsInt32Codec() {
         testZoneOffsetCodec(new ZoneOffsetAsInt32Codec());
     }
+
+    @AllocationTest
+    void testZoneOffsetAsInt32CodecAllocations() {
+        testCodecAllocations(
+                new ZoneOffsetAsInt32Codec(),
+                ZoneOffset.ofHours(1),
+                (w, v) -> w.writeInt32(v.getTotalSeconds()),
+                r -> ZoneOffset.ofTotalSeconds(r.readInt32())
+        );
+    }
 }